@@ -0,0 +1,229 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// In-memory cache of computed analytics and transcript metadata, shared by
+// interactive requests and the background prewarmer
+@Component
+public class AnalyticsCache {
+
+    private final Map<String, CachedResult> entries = new ConcurrentHashMap<>();
+
+    // Computations currently running, so concurrent callers share one upstream fetch
+    private final Map<String, Mono<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // Last sweep of entries past the stale max age
+    private final AtomicLong lastSweepMillis = new AtomicLong(System.currentTimeMillis());
+
+    // Sorted keys so equal results always hash to the same ETag
+    private final ObjectWriter etagWriter;
+
+    @Value("${zoom.cache.analytics-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${zoom.cache.analytics-max-entries:5000}")
+    private int maxEntries;
+
+    // Expired entries stay this long to be served stale while Zoom is unavailable, then they are swept
+    @Value("${zoom.stale.max-age-seconds:86400}")
+    private long staleMaxAgeSeconds;
+
+    @Value("${zoom.cache.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    public AnalyticsCache(ObjectMapper objectMapper) {
+        this.etagWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    public static String meetingKey(String meetingId, int intervalMinutes) {
+        return "meeting:" + meetingId + ":" + intervalMinutes;
+    }
+
+    public static String webinarKey(String webinarId, int intervalMinutes) {
+        return "webinar:" + webinarId + ":" + intervalMinutes;
+    }
+
+    // Partial results are keyed by their sections, full results keep the plain key
+    public static String meetingKey(String meetingId, int intervalMinutes, Set<AnalyticsSection> sections) {
+        return AnalyticsSection.isFull(sections) ? meetingKey(meetingId, intervalMinutes)
+                : meetingKey(meetingId, intervalMinutes) + ":" + AnalyticsSection.key(sections);
+    }
+
+    public static String webinarKey(String webinarId, int intervalMinutes, Set<AnalyticsSection> sections) {
+        return AnalyticsSection.isFull(sections) ? webinarKey(webinarId, intervalMinutes)
+                : webinarKey(webinarId, intervalMinutes) + ":" + AnalyticsSection.key(sections);
+    }
+
+    public static String transcriptKey(String meetingId) {
+        return "transcript:" + meetingId;
+    }
+
+    // Return the cached result if still fresh, otherwise compute it once and cache it when cacheable
+    public Mono<Map<String, Object>> getOrCompute(String key, Supplier<Mono<Map<String, Object>>> compute,
+                                                  Predicate<Map<String, Object>> cacheable) {
+        Map<String, Object> cached = get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Mono.just(cached);
+        }
+        misses.incrementAndGet();
+
+        return inFlight.computeIfAbsent(key, k -> Mono.defer(compute)
+                .doOnNext(result -> {
+                    if (cacheable.test(result)) {
+                        put(k, result);
+                    }
+                })
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    public Map<String, Object> get(String key) {
+        CachedResult entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(String key, Map<String, Object> value) {
+        long now = System.currentTimeMillis();
+        entries.put(key, new CachedResult(value, computeETag(value), now, now + ttlSeconds * 1000));
+
+        long lastSweep = lastSweepMillis.get();
+        if ((maxEntries > 0 && entries.size() > maxEntries)
+                || (now - lastSweep >= sweepIntervalSeconds * 1000 && lastSweepMillis.compareAndSet(lastSweep, now))) {
+            sweep(now);
+        }
+    }
+
+    // Drop entries too old to be served even stale, then the oldest ones while over the size bound
+    private synchronized void sweep(long now) {
+        long retainMillis = Math.max(ttlSeconds, staleMaxAgeSeconds) * 1000;
+        entries.entrySet().removeIf(entry -> {
+            boolean old = now - entry.getValue().storedAtMillis > retainMillis;
+            if (old) {
+                evictions.incrementAndGet();
+            }
+            return old;
+        });
+
+        int excess = entries.size() - maxEntries;
+        if (maxEntries > 0 && excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().storedAtMillis))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(key -> {
+                        if (entries.remove(key) != null) {
+                            evictions.incrementAndGet();
+                        }
+                    });
+        }
+    }
+
+    // Copy of the last result cached for the key, fresh or not, marked stale with its age - served while
+    // Zoom is unavailable. Null when nothing was cached or it is older than maxAgeSeconds.
+    public Map<String, Object> getStale(String key, long maxAgeSeconds) {
+        CachedResult entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long ageSeconds = (System.currentTimeMillis() - entry.storedAtMillis) / 1000;
+        if (ageSeconds > maxAgeSeconds) {
+            return null;
+        }
+        staleServed.incrementAndGet();
+        Map<String, Object> stale = new HashMap<>(entry.value);
+        stale.put("stale", true);
+        stale.put("stale_age_seconds", ageSeconds);
+        return stale;
+    }
+
+    // Strong ETag of a fresh entry, or null when nothing is cached for the key
+    public String getETag(String key) {
+        CachedResult entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.etag;
+    }
+
+    public boolean isFresh(String key) {
+        return get(key) != null;
+    }
+
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    // Remove every entry whose key starts with the prefix, e.g. "meeting:123:"
+    public void invalidate(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("in_flight", inFlight.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("stale_served", staleServed.get());
+        stats.put("evictions", evictions.get());
+        stats.put("max_entries", maxEntries);
+        stats.put("ttl_seconds", ttlSeconds);
+        return stats;
+    }
+
+    // Recording-backed entries are identified by their Zoom file id, computed results by a hash of their JSON
+    private String computeETag(Map<String, Object> value) {
+        Object fileId = value.get("file_id");
+        if (fileId != null) {
+            return "\"" + fileId + "\"";
+        }
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(etagWriter.writeValueAsBytes(value)) + "\"";
+        } catch (Exception e) {
+            System.out.println("⚠️ Unable to compute ETag: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static class CachedResult {
+        private final Map<String, Object> value;
+        private final String etag;
+        private final long storedAtMillis;
+        private final long expiresAtMillis;
+
+        private CachedResult(Map<String, Object> value, String etag, long storedAtMillis, long expiresAtMillis) {
+            this.value = value;
+            this.etag = etag;
+            this.storedAtMillis = storedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
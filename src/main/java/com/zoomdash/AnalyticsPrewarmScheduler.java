@@ -0,0 +1,155 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+// Background prewarming - periodically finds recently ended meetings and webinars
+// and computes their analytics and transcript metadata so dashboards hit a warm cache
+@Component
+@ConditionalOnProperty(name = "zoom.prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsPrewarmScheduler {
+
+    private final ZoomService zoomService;
+    private final AnalyticsCache analyticsCache;
+
+    // Single low-priority thread, so prewarming never competes with interactive requests. A scheduled
+    // executor, since the pause between items is a timed task on it.
+    private final Scheduler prewarmScheduler = Schedulers.fromExecutorService(
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "analytics-prewarm");
+                thread.setPriority(Thread.MIN_PRIORITY);
+                thread.setDaemon(true);
+                return thread;
+            }), "analytics-prewarm");
+
+    @Value("${zoom.prewarm.lookback-hours:24}")
+    private int lookbackHours;
+
+    @Value("${zoom.prewarm.interval-minutes:5}")
+    private int intervalMinutes;
+
+    @Value("${zoom.prewarm.pause-between-items-ms:500}")
+    private long pauseBetweenItemsMs;
+
+    public AnalyticsPrewarmScheduler(ZoomService zoomService, AnalyticsCache analyticsCache) {
+        this.zoomService = zoomService;
+        this.analyticsCache = analyticsCache;
+    }
+
+    @Scheduled(initialDelayString = "${zoom.prewarm.initial-delay-ms:60000}",
+               fixedDelayString = "${zoom.prewarm.fixed-delay-ms:300000}")
+    public void prewarmRecentlyEnded() {
+        long start = System.currentTimeMillis();
+        Long warmed = zoomService.getAccessToken()
+                .flatMap(authResponse -> Mono.zip(
+                        zoomService.getMeetings(authResponse.getAccessToken())
+                                .map(this::recentlyEndedMeetings)
+                                .onErrorReturn(Collections.emptyList()),
+                        zoomService.getWebinars(authResponse.getAccessToken())
+                                .map(this::recentlyEndedWebinars)
+                                .onErrorReturn(Collections.emptyList())))
+                .flatMapMany(targets -> Flux.concat(
+                        Flux.fromIterable(targets.getT1()).map(id -> new PrewarmTarget(id, false)),
+                        Flux.fromIterable(targets.getT2()).map(id -> new PrewarmTarget(id, true))))
+                .filter(target -> !isWarm(target))
+                // One item at a time, with a pause in between, on the low-priority thread
+                .concatMap(target -> prewarm(target)
+                        .then(Mono.delay(Duration.ofMillis(pauseBetweenItemsMs), prewarmScheduler))
+                        .thenReturn(target))
+                .subscribeOn(prewarmScheduler)
+                .count()
+                .onErrorResume(e -> {
+                    System.err.println("❌ Prewarm run failed: " + e.getMessage());
+                    return Mono.just(0L);
+                })
+                .block();
+
+        System.out.println("🔥 Prewarmed " + warmed + " meetings/webinars in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private boolean isWarm(PrewarmTarget target) {
+        if (target.webinar) {
+            return analyticsCache.isFresh(AnalyticsCache.webinarKey(target.id, intervalMinutes));
+        }
+        return analyticsCache.isFresh(AnalyticsCache.meetingKey(target.id, intervalMinutes))
+                && analyticsCache.isFresh(AnalyticsCache.transcriptKey(target.id));
+    }
+
+    private Mono<Void> prewarm(PrewarmTarget target) {
+        System.out.println("🔥 Prewarming " + (target.webinar ? "webinar " : "meeting ") + target.id);
+        Mono<?> work = target.webinar
+                ? zoomService.getWebinarAnalytics(target.id, intervalMinutes)
+                // getMeetingAnalytics fetches transcript metadata through the cache as well
+                : zoomService.getMeetingAnalytics(target.id, intervalMinutes)
+                        .then(zoomService.getMeetingTranscript(target.id));
+        return work
+                .onErrorResume(e -> {
+                    System.err.println("⚠️ Prewarm failed for " + target.id + ": " + e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private List<String> recentlyEndedMeetings(ZoomMeetingsResponse response) {
+        List<String> ids = new ArrayList<>();
+        if (response.getMeetings() != null) {
+            for (ZoomMeeting meeting : response.getMeetings()) {
+                if (recentlyEnded(meeting.getStartTime(), meeting.getDuration())) {
+                    ids.add(meeting.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private List<String> recentlyEndedWebinars(ZoomWebinarsResponse response) {
+        List<String> ids = new ArrayList<>();
+        if (response.getWebinars() != null) {
+            for (ZoomWebinar webinar : response.getWebinars()) {
+                if (webinar.getId() != null && recentlyEnded(webinar.getStartTime(), webinar.getDuration())) {
+                    ids.add(webinar.getId().toString());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private boolean recentlyEnded(LocalDateTime startTime, int durationMinutes) {
+        if (startTime == null) {
+            return false;
+        }
+        // Zoom start times are UTC
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime end = startTime.plusMinutes(durationMinutes);
+        return end.isBefore(now) && end.isAfter(now.minusHours(lookbackHours));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prewarmScheduler.dispose();
+    }
+
+    private static class PrewarmTarget {
+        private final String id;
+        private final boolean webinar;
+
+        private PrewarmTarget(String id, boolean webinar) {
+            this.id = id;
+            this.webinar = webinar;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.zoomdash;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Sections of an analytics result. The engine only builds the sections it is asked for,
+// so summary and graph views never allocate per-participant timelines or details.
+public enum AnalyticsSection {
+    SUMMARY,    // headline counters - always included
+    GRAPH,      // engagement_graph arrays
+    TIMELINES,  // user_timelines (presence per segment)
+    DETAILS;    // participant_details
+
+    public static final Set<AnalyticsSection> ALL = Collections.unmodifiableSet(EnumSet.allOf(AnalyticsSection.class));
+
+    // view=summary|graph|full, or fields=graph,timelines,details (fields wins when both are given)
+    public static Set<AnalyticsSection> parse(String view, String fields) {
+        EnumSet<AnalyticsSection> sections = EnumSet.of(SUMMARY);
+        if (fields != null && !fields.isBlank()) {
+            for (String field : fields.split(",")) {
+                switch (field.trim().toLowerCase(Locale.ROOT)) {
+                    case "summary" -> { }
+                    case "graph", "engagement_graph" -> sections.add(GRAPH);
+                    case "timelines", "user_timelines" -> sections.add(TIMELINES);
+                    case "details", "participant_details" -> sections.add(DETAILS);
+                    default -> throw new IllegalArgumentException("Unknown analytics field: " + field.trim());
+                }
+            }
+            return sections;
+        }
+        switch (view == null ? "full" : view.toLowerCase(Locale.ROOT)) {
+            case "summary" -> { }
+            case "graph" -> sections.add(GRAPH);
+            case "full" -> sections.addAll(ALL);
+            default -> throw new IllegalArgumentException("view must be summary, graph or full");
+        }
+        return sections;
+    }
+
+    public static boolean isFull(Set<AnalyticsSection> sections) {
+        return sections.containsAll(ALL);
+    }
+
+    // Stable cache-key suffix, e.g. "summary+graph"
+    public static String key(Set<AnalyticsSection> sections) {
+        return EnumSet.copyOf(sections).stream()
+                .map(section -> section.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining("+"));
+    }
+
+    // Copy of a (typically full, cached) result reduced to the requested sections - the input is not modified
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> project(Map<String, Object> analytics, Set<AnalyticsSection> sections) {
+        if (isFull(sections)) {
+            return analytics;
+        }
+        Map<String, Object> projected = new HashMap<>(analytics);
+        if (!sections.contains(GRAPH)) {
+            projected.remove("engagement_graph");
+        }
+        if (!sections.contains(TIMELINES)) {
+            projected.remove("user_timelines");
+        }
+        if (!sections.contains(DETAILS)) {
+            projected.remove("participant_details");
+        }
+        if (projected.get("engagement_metrics") instanceof Map) {
+            Map<String, Object> metrics = new HashMap<>((Map<String, Object>) projected.get("engagement_metrics"));
+            if (!sections.contains(GRAPH)) {
+                metrics.remove("engagement_over_time");
+            }
+            if (!sections.contains(DETAILS)) {
+                metrics.remove("participant_details");
+            }
+            projected.put("engagement_metrics", metrics);
+        }
+        projected.put("sections", key(sections));
+        return projected;
+    }
+}
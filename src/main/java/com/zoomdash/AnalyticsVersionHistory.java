@@ -0,0 +1,116 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version counter and a short history of recent results per analytics key (same keys as AnalyticsCache),
+// so polling clients can ask for only what changed since the version they already have
+@Component
+public class AnalyticsVersionHistory {
+
+    // Headline counters reported in a delta when they change
+    private static final List<String> DELTA_COUNTERS = List.of("total_participants", "peak_concurrent_users",
+            "final_active_users", "total_joined", "total_left", "transcript_available", "data_source", "live", "elapsed_minutes");
+
+    // Versions come from one sequence seeded with the start time, so a token from before a restart never matches
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+
+    private final Map<String, KeyHistory> histories = new ConcurrentHashMap<>();
+
+    // Previous results kept per key - a since token older than these gets a full response
+    @Value("${zoom.delta.history-size:8}")
+    private int historySize;
+
+    // Keys not requested for this long are dropped
+    @Value("${zoom.delta.retention-minutes:120}")
+    private long retentionMinutes;
+
+    // Record a freshly served result - the version only moves when the content changed
+    public long record(String key, Map<String, Object> result) {
+        long now = System.currentTimeMillis();
+        histories.values().removeIf(history -> now - history.lastAccessMillis > retentionMinutes * 60_000);
+
+        KeyHistory history = histories.computeIfAbsent(key, k -> new KeyHistory());
+        synchronized (history) {
+            history.lastAccessMillis = now;
+            Version latest = history.versions.peekLast();
+            if (latest != null && latest.result.equals(result)) {
+                return latest.version;
+            }
+            history.versions.addLast(new Version(versionSequence.incrementAndGet(), result));
+            while (history.versions.size() > historySize) {
+                history.versions.removeFirst();
+            }
+            return history.versions.peekLast().version;
+        }
+    }
+
+    // Current version of a key, or null when nothing has been recorded
+    public Long currentVersion(String key) {
+        KeyHistory history = histories.get(key);
+        if (history == null) {
+            return null;
+        }
+        synchronized (history) {
+            Version latest = history.versions.peekLast();
+            return latest != null ? latest.version : null;
+        }
+    }
+
+    // Delta from the since version to the latest one - null when since is no longer (or never was) in the history
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> deltaSince(String key, long since) {
+        KeyHistory history = histories.get(key);
+        if (history == null) {
+            return null;
+        }
+        Version base = null;
+        Version latest;
+        synchronized (history) {
+            for (Version version : history.versions) {
+                if (version.version == since) {
+                    base = version;
+                }
+            }
+            latest = history.versions.peekLast();
+        }
+        if (base == null || latest == null) {
+            return null;
+        }
+
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("success", true);
+        delta.put("delta", true);
+        delta.put("since_version", since);
+        delta.put("analytics_version", latest.version);
+        if (base == latest) {
+            delta.put("changed", false);
+            return delta;
+        }
+
+        delta.putAll(EngagementDelta.diff(base.result, latest.result, DELTA_COUNTERS));
+        delta.putAll(EngagementDelta.diffParticipants(
+                (List<Map<String, Object>>) base.result.get("participant_details"),
+                (List<Map<String, Object>>) latest.result.get("participant_details")));
+        delta.put("changed", true);
+        return delta;
+    }
+
+    private static class KeyHistory {
+        private final Deque<Version> versions = new ArrayDeque<>();
+        private volatile long lastAccessMillis;
+    }
+
+    private static class Version {
+        private final long version;
+        private final Map<String, Object> result;
+
+        private Version(long version, Map<String, Object> result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
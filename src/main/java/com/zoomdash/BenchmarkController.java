@@ -0,0 +1,249 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+// Debug endpoints that measure the engine and its response formats on synthetic data. They can
+// occupy the compute pool for seconds, so they only exist when zoom.debug.benchmarks-enabled=true.
+@RestController
+@ConditionalOnProperty(name = "zoom.debug.benchmarks-enabled", havingValue = "true")
+@RequestMapping("/api/debug")
+@CrossOrigin(origins = "http://localhost:5173")
+public class BenchmarkController {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final LocalDateTime SYNTHETIC_START = LocalDateTime.of(2025, 1, 15, 15, 0);
+
+    private final ZoomService zoomService;
+    private final EngagementComputeScheduler computeScheduler;
+    private final Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+
+    public BenchmarkController(ZoomService zoomService, EngagementComputeScheduler computeScheduler, ObjectMapper objectMapper,
+                               MappingJackson2CborHttpMessageConverter cborConverter,
+                               MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.zoomService = zoomService;
+        this.computeScheduler = computeScheduler;
+        // The same mappers the endpoints serialize responses with
+        formats.put("json", objectMapper);
+        formats.put("cbor", cborConverter.getObjectMapper());
+        formats.put("smile", smileConverter.getObjectMapper());
+    }
+
+    // One page of a seeded synthetic participant report, shaped like Zoom's report participants endpoint -
+    // input for load tests and offline benchmarks. Follow next_page_token for the following pages.
+    @GetMapping("/synthetic-report")
+    public Mono<ResponseEntity<Object>> syntheticReport(
+            @RequestParam(defaultValue = "1000") int users,
+            @RequestParam(defaultValue = "60") int duration,
+            @RequestParam(defaultValue = "42") long seed,
+            @RequestParam(defaultValue = "meeting") String type,
+            @RequestParam(name = "page_size", defaultValue = "300") int pageSize,
+            @RequestParam(name = "next_page_token", required = false) String nextPageToken) {
+
+        SyntheticParticipantReports.Params params = syntheticParams(type, seed, users, duration);
+        return computeScheduler.compute(() -> {
+            try {
+                return ResponseEntity.ok(SyntheticParticipantReports.page(params, nextPageToken, pageSize));
+            } catch (IllegalArgumentException e) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("success", false);
+                error.put("error", e.getMessage());
+                return ResponseEntity.badRequest().body(error);
+            }
+        });
+    }
+
+    // Serialization time and bytes on the wire of one webinar analytics result per format.
+    // Times are the median over the measured iterations, after the same number of warmup rounds.
+    @GetMapping("/format-benchmark")
+    public Mono<Map<String, Object>> formatBenchmark(
+            @RequestParam(defaultValue = "10000") int participants,
+            @RequestParam(defaultValue = "120") int duration,
+            @RequestParam(defaultValue = "5") int interval,
+            @RequestParam(defaultValue = "20") int iterations,
+            @RequestParam(defaultValue = "42") long seed) {
+
+        int participantCount = Math.max(1, Math.min(participants, 50_000));
+        int durationMinutes = clampDuration(duration);
+        int intervalMinutes = clampInterval(interval, durationMinutes);
+        int rounds = Math.max(1, Math.min(iterations, 50));
+        System.out.println("⏱️ Format benchmark: " + participantCount + " participants, " + rounds + " iterations");
+        return computeScheduler.compute(() -> runFormatBenchmark(participantCount, durationMinutes, intervalMinutes, rounds, seed));
+    }
+
+    private Map<String, Object> runFormatBenchmark(int participants, int duration, int interval, int iterations, long seed) {
+        ParticipantsResponse response = new ParticipantsResponse();
+        response.setParticipants(SyntheticParticipantReports.participants(syntheticParams("webinar", seed, participants, duration)));
+        Map<String, Object> analytics = zoomService.calculateEngagementMetrics(response, duration, interval);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                results.put(format.getKey(), measure(format.getValue(), analytics, iterations));
+            }
+        } catch (IOException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "Benchmark failed: " + e.getMessage());
+            return error;
+        }
+
+        Map<String, Object> benchmark = new LinkedHashMap<>();
+        benchmark.put("success", true);
+        benchmark.put("participants", participants);
+        benchmark.put("duration_minutes", duration);
+        benchmark.put("interval_minutes", interval);
+        benchmark.put("iterations", iterations);
+        benchmark.put("formats", results);
+        return benchmark;
+    }
+
+    // Scaling curve of the parallel participant aggregation: the same input on fork/join pools of 1..threads workers.
+    // Times are the median over the measured iterations, after one warmup round per pool size.
+    @GetMapping("/aggregation-benchmark")
+    public Mono<Map<String, Object>> aggregationBenchmark(
+            @RequestParam(defaultValue = "100000") int participants,
+            @RequestParam(defaultValue = "120") int duration,
+            @RequestParam(defaultValue = "5") int interval,
+            @RequestParam(defaultValue = "0") int threads,
+            @RequestParam(defaultValue = "5") int iterations,
+            @RequestParam(defaultValue = "true") boolean details,
+            @RequestParam(defaultValue = "42") long seed) {
+
+        int participantCount = Math.max(1, Math.min(participants, 200_000));
+        int durationMinutes = clampDuration(duration);
+        int intervalMinutes = clampInterval(interval, durationMinutes);
+        // One pool per size is created in turn - past twice the cores the curve only adds noise
+        int processors = Runtime.getRuntime().availableProcessors();
+        int maxThreads = threads > 0 ? Math.min(threads, 2 * processors) : processors;
+        int rounds = Math.max(1, Math.min(iterations, 10));
+        System.out.println("⏱️ Aggregation benchmark: " + participantCount + " participants, 1.." + maxThreads + " threads");
+        return computeScheduler.compute(() -> runAggregationBenchmark(participantCount, durationMinutes, intervalMinutes, maxThreads,
+                rounds, details, seed));
+    }
+
+    private Map<String, Object> runAggregationBenchmark(int participants, int duration, int interval, int maxThreads,
+                                                        int iterations, boolean details, long seed) {
+        SessionMerging.Groups input = SessionMerging.unmerged(
+                SyntheticParticipantReports.columns(syntheticParams("webinar", seed, participants, duration), null));
+        EngagementAggregation.Params params = new EngagementAggregation.Params();
+        params.start = SYNTHETIC_START;
+        params.totalMinutes = duration;
+        params.segmentDuration = interval;
+        params.segmentCount = ZoomService.generateDynamicTimeBins(duration, interval).size();
+        params.buildTimelines = details;
+        params.buildDetails = details;
+
+        List<Map<String, Object>> curve = new ArrayList<>();
+        double singleThreadMillis = 0;
+        for (int poolSize = 1; poolSize <= maxThreads; poolSize++) {
+            ForkJoinPool pool = new ForkJoinPool(poolSize);
+            try {
+                long[] nanos = new long[iterations];
+                for (int round = -1; round < iterations; round++) {
+                    long start = System.nanoTime();
+                    // Threshold 0 - always go through the pool, a pool of 1 runs sequentially
+                    EngagementAggregation.aggregate(input, params, pool, 0);
+                    if (round >= 0) {
+                        nanos[round] = System.nanoTime() - start;
+                    }
+                }
+                double millis = medianMillis(nanos);
+                if (poolSize == 1) {
+                    singleThreadMillis = millis;
+                }
+                Map<String, Object> point = new LinkedHashMap<>();
+                point.put("threads", poolSize);
+                point.put("ms", millis);
+                point.put("speedup", millis > 0 ? Math.round(singleThreadMillis / millis * 100.0) / 100.0 : 0);
+                curve.add(point);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        Map<String, Object> benchmark = new LinkedHashMap<>();
+        benchmark.put("success", true);
+        benchmark.put("participants", participants);
+        benchmark.put("duration_minutes", duration);
+        benchmark.put("interval_minutes", interval);
+        benchmark.put("per_participant_lists", details);
+        benchmark.put("available_processors", Runtime.getRuntime().availableProcessors());
+        benchmark.put("curve", curve);
+        return benchmark;
+    }
+
+    // Meeting- or webinar-shaped report, at most 200,000 users
+    private static SyntheticParticipantReports.Params syntheticParams(String type, long seed, int users, int duration) {
+        int userCount = Math.max(1, Math.min(users, 200_000));
+        int durationMinutes = clampDuration(duration);
+        SyntheticParticipantReports.Params params = "webinar".equals(type)
+                ? SyntheticParticipantReports.webinar(seed, userCount, durationMinutes)
+                : SyntheticParticipantReports.meeting(seed, userCount, durationMinutes);
+        params.start = SYNTHETIC_START;
+        return params;
+    }
+
+    // At most a day, like the synthetic reports
+    private static int clampDuration(int duration) {
+        return Math.max(1, Math.min(duration, 24 * 60));
+    }
+
+    // At least a minute (0 would never advance the time bins), at most the whole duration
+    private static int clampInterval(int interval, int durationMinutes) {
+        return Math.max(1, Math.min(interval, durationMinutes));
+    }
+
+    private static Map<String, Object> measure(ObjectMapper mapper, Map<String, Object> analytics, int iterations) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(analytics);
+        long[] encodeNanos = new long[iterations];
+        long[] decodeNanos = new long[iterations];
+
+        for (int round = 0; round < 2 * iterations; round++) {
+            long start = System.nanoTime();
+            encoded = mapper.writeValueAsBytes(analytics);
+            long encodedAt = System.nanoTime();
+            mapper.readValue(encoded, MAP_TYPE);
+            long decodedAt = System.nanoTime();
+            if (round >= iterations) {
+                encodeNanos[round - iterations] = encodedAt - start;
+                decodeNanos[round - iterations] = decodedAt - encodedAt;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bytes", encoded.length);
+        result.put("gzip_bytes", gzipSize(encoded));
+        result.put("encode_ms", medianMillis(encodeNanos));
+        result.put("decode_ms", medianMillis(decodeNanos));
+        return result;
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return Math.round(sorted[sorted.length / 2] / 10_000.0) / 100.0;
+    }
+}
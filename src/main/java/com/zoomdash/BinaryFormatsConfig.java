@@ -0,0 +1,109 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// CBOR and Smile representations of the same result maps the JSON endpoints return, selected by the Accept header.
+// JSON stays first in the converter list, so clients that accept anything still get JSON.
+@Configuration
+public class BinaryFormatsConfig {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    // Representation variants used in ETags - one per negotiated format
+    public static final List<MediaType> BINARY_FORMATS = List.of(MediaType.APPLICATION_CBOR, SMILE);
+
+    // Built from the Boot-customized builder so the binary formats serialize exactly like the JSON responses
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // Same formats for WebFlux codecs when running on Reactor Netty (and for WebClient, which shares them).
+    // Custom codecs are consulted before the default ones, so JSON is registered ahead of CBOR to stay the */* choice.
+    @Bean
+    public CodecCustomizer binaryFormatsCodecCustomizer(ObjectMapper objectMapper,
+                                                        MappingJackson2CborHttpMessageConverter cborConverter,
+                                                        MappingJackson2SmileHttpMessageConverter smileConverter) {
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileConverter.getObjectMapper(), SMILE));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileConverter.getObjectMapper(), SMILE));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper));
+            configurer.customCodecs().registerWithDefaultConfig(
+                    new SingleValueCborEncoder(cborConverter.getObjectMapper()));
+            configurer.customCodecs().registerWithDefaultConfig(
+                    new Jackson2CborDecoder(cborConverter.getObjectMapper(), MediaType.APPLICATION_CBOR));
+        };
+    }
+
+    // Format variant the client will be served for an Accept header: "cbor", "smile", or null for JSON
+    public static String formatVariant(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        try {
+            List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            // Highest q first - a stable sort keeps the client's order among equal weights
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType mediaType : accepted) {
+                if (mediaType.getQualityValue() == 0) {
+                    continue;
+                }
+                if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                    return null;
+                }
+                for (MediaType format : BINARY_FORMATS) {
+                    if (mediaType.includes(format)) {
+                        return format.equals(SMILE) ? "smile" : "cbor";
+                    }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return null;
+    }
+
+    // Jackson2CborEncoder only implements encodeValue, but response bodies are written through encode
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+        }
+    }
+}
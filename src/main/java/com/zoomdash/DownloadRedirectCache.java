@@ -0,0 +1,116 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Resolved AWS / CloudFront redirect targets of Zoom download URLs, kept until the
+// signed URL expires so repeat viewers skip the authenticated round trip to Zoom
+@Component
+public class DownloadRedirectCache {
+
+    private static final DateTimeFormatter AMZ_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Map<String, CachedRedirect> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // A redirect is no longer handed out this close to its expiry - the client still needs time to use it
+    @Value("${zoom.redirect-cache.expiry-margin-seconds:60}")
+    private long expiryMarginSeconds;
+
+    // Signed URLs valid for longer than this are still re-resolved after it
+    @Value("${zoom.redirect-cache.max-ttl-seconds:3600}")
+    private long maxTtlSeconds;
+
+    // Cached redirect target of a Zoom download URL, or null when unknown or about to expire
+    public String get(String downloadUrl) {
+        CachedRedirect entry = entries.get(downloadUrl);
+        if (entry == null || entry.isExpired()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.redirectUrl;
+    }
+
+    // Remember a redirect target - only when its expiry can be read from the signed query string
+    public void put(String downloadUrl, String redirectUrl) {
+        Long signedExpiresAtMillis = parseExpiresAtMillis(redirectUrl);
+        if (signedExpiresAtMillis == null) {
+            System.out.println("⚠️ Redirect URL has no readable expiry, not caching it");
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = Math.min(signedExpiresAtMillis - expiryMarginSeconds * 1000, now + maxTtlSeconds * 1000);
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        entries.values().removeIf(CachedRedirect::isExpired);
+        entries.put(downloadUrl, new CachedRedirect(redirectUrl, expiresAtMillis));
+    }
+
+    // Drop a redirect that upstream rejected before its advertised expiry
+    public void invalidate(String downloadUrl) {
+        entries.remove(downloadUrl);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        return stats;
+    }
+
+    // CloudFront signed URLs carry Expires=<epoch seconds> (as do S3 SigV2 URLs),
+    // S3 SigV4 URLs carry X-Amz-Date plus X-Amz-Expires seconds
+    static Long parseExpiresAtMillis(String signedUrl) {
+        try {
+            Map<String, List<String>> query = UriComponentsBuilder.fromUriString(signedUrl).build().getQueryParams();
+
+            String expires = first(query, "Expires");
+            if (expires != null) {
+                return Long.parseLong(expires) * 1000;
+            }
+
+            String amzDate = first(query, "X-Amz-Date");
+            String amzExpires = first(query, "X-Amz-Expires");
+            if (amzDate != null && amzExpires != null) {
+                long signedAtMillis = LocalDateTime.parse(amzDate, AMZ_DATE_FORMATTER).toInstant(ZoneOffset.UTC).toEpochMilli();
+                return signedAtMillis + Long.parseLong(amzExpires) * 1000;
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Unable to parse redirect expiry: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static String first(Map<String, List<String>> query, String name) {
+        List<String> values = query.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    private static class CachedRedirect {
+        private final String redirectUrl;
+        private final long expiresAtMillis;
+
+        private CachedRedirect(String redirectUrl, long expiresAtMillis) {
+            this.redirectUrl = redirectUrl;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.zoomdash;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// The per-user pass of the engagement engine as mergeable partial states, so large
+// participant lists can be split into chunks, aggregated on a fork/join pool and merged.
+// Input is the columnar ParticipantColumns store grouped by SessionMerging - a user with several sessions is counted once.
+final class EngagementAggregation {
+
+    // Chunks per pool thread - a few more than one, so uneven chunks still balance
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private EngagementAggregation() {
+    }
+
+    // Fixed inputs of one aggregation
+    static class Params {
+        LocalDateTime start;
+        int totalMinutes;
+        int segmentDuration;
+        int segmentCount;
+        boolean buildTimelines;
+        boolean buildDetails;
+    }
+
+    // Mergeable state of a chunk of participants. The per-participant timelines and details are
+    // written by index into shared arrays instead, so they keep the input order without merging.
+    static class Partial {
+        final int[] minuteDiff;         // +1 at the join minute, -1 after the leave minute
+        final int[] joinedBySegment;
+        final int[] leftBySegment;
+        long durationSumSeconds;        // per user: the sum of their sessions
+        int durationMaxSeconds;
+        int durationMinSeconds = Integer.MAX_VALUE;
+        int participants;               // unique users
+        int sessions;
+
+        Partial(Params params) {
+            minuteDiff = new int[params.totalMinutes + 1];
+            joinedBySegment = new int[params.segmentCount];
+            leftBySegment = new int[params.segmentCount];
+        }
+
+        void merge(Partial other) {
+            for (int i = 0; i < minuteDiff.length; i++) {
+                minuteDiff[i] += other.minuteDiff[i];
+            }
+            for (int i = 0; i < joinedBySegment.length; i++) {
+                joinedBySegment[i] += other.joinedBySegment[i];
+                leftBySegment[i] += other.leftBySegment[i];
+            }
+            durationSumSeconds += other.durationSumSeconds;
+            durationMaxSeconds = Math.max(durationMaxSeconds, other.durationMaxSeconds);
+            durationMinSeconds = Math.min(durationMinSeconds, other.durationMinSeconds);
+            participants += other.participants;
+            sessions += other.sessions;
+        }
+
+        // Active users per minute - the prefix sum of the difference array
+        int[] activeUsersPerMinute() {
+            return ScalarSegmentKernel.INSTANCE.prefixSum(minuteDiff, minuteDiff.length - 1);
+        }
+    }
+
+    // Result of a full aggregation: the merged state plus the per-participant lists (null when not requested)
+    static class Result {
+        Partial totals;
+        List<Map<String, Object>> userTimelines;
+        List<Map<String, Object>> participantDetails;
+    }
+
+    // Every row counted as its own user
+    static Result aggregate(List<Participant> participants, Params params, ForkJoinPool pool, int parallelThreshold) {
+        return aggregate(SessionMerging.unmerged(ParticipantColumns.of(participants)), params, pool, parallelThreshold);
+    }
+
+    // Sequential below the threshold (in sessions), otherwise chunked by user over the pool and merged
+    @SuppressWarnings("unchecked")
+    static Result aggregate(SessionMerging.Groups groups, Params params, ForkJoinPool pool, int parallelThreshold) {
+        int users = groups.users();
+        Map<String, Object>[] timelines = params.buildTimelines ? new Map[users] : null;
+        Map<String, Object>[] details = params.buildDetails ? new Map[users] : null;
+
+        Partial totals;
+        if (pool == null || groups.sessionCount() < parallelThreshold || pool.getParallelism() < 2) {
+            totals = accumulate(groups, 0, users, params, timelines, details);
+        } else {
+            int leafSize = Math.max(1024, users / (pool.getParallelism() * CHUNKS_PER_THREAD));
+            totals = pool.invoke(new ChunkTask(groups, 0, users, leafSize, params, timelines, details));
+        }
+
+        Result result = new Result();
+        result.totals = totals;
+        result.userTimelines = collect(timelines);
+        result.participantDetails = collect(details);
+        return result;
+    }
+
+    private static List<Map<String, Object>> collect(Map<String, Object>[] entries) {
+        if (entries == null) {
+            return null;
+        }
+        // Users none of whose sessions parse have no entry - both lists skip the same ones and stay aligned
+        List<Map<String, Object>> list = new ArrayList<>(entries.length);
+        for (Map<String, Object> entry : entries) {
+            if (entry != null) {
+                list.add(entry);
+            }
+        }
+        return list;
+    }
+
+    private static class ChunkTask extends RecursiveTask<Partial> {
+        private final SessionMerging.Groups groups;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Params params;
+        private final Map<String, Object>[] timelines;
+        private final Map<String, Object>[] details;
+
+        private ChunkTask(SessionMerging.Groups groups, int from, int to, int leafSize, Params params,
+                          Map<String, Object>[] timelines, Map<String, Object>[] details) {
+            this.groups = groups;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.params = params;
+            this.timelines = timelines;
+            this.details = details;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= leafSize) {
+                return accumulate(groups, from, to, params, timelines, details);
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(groups, from, middle, leafSize, params, timelines, details);
+            left.fork();
+            Partial right = new ChunkTask(groups, middle, to, leafSize, params, timelines, details).compute();
+            Partial merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+
+    // One chunk of users in a fresh partial state - reads only the int columns, strings are decoded for the lists
+    private static Partial accumulate(SessionMerging.Groups groups, int from, int to, Params params,
+                                      Map<String, Object>[] timelines, Map<String, Object>[] details) {
+        ParticipantColumns columns = groups.columns;
+        long startSecond = columns.secondsOf(params.start);
+        Partial partial = new Partial(params);
+        // Per-session minutes and rows of the current user, reused across users
+        int[] joinMinutes = new int[4];
+        int[] leaveMinutes = new int[4];
+        int[] parsedRows = new int[4];
+        for (int user = from; user < to; user++) {
+            int first = groups.offsets[user];
+            int last = groups.offsets[user + 1];
+            int sessionCount = last - first;
+            if (joinMinutes.length < sessionCount) {
+                joinMinutes = new int[sessionCount];
+                leaveMinutes = new int[sessionCount];
+                parsedRows = new int[sessionCount];
+            }
+
+            // Duration stats count every session, including those whose times did not parse
+            long userDuration = 0;
+            int valid = 0;
+            for (int index = first; index < last; index++) {
+                int row = groups.rows[index];
+                userDuration += columns.durationSeconds[row]; // This is in SECONDS
+                int join = columns.joinSeconds[row];
+                int leave = columns.leaveSeconds[row];
+                if (join == ParticipantColumns.NO_TIME || leave == ParticipantColumns.NO_TIME) {
+                    continue;   // reported when the row was ingested
+                }
+                // Whole minutes from the start (truncated like Duration.toMinutes), within 0 .. totalMinutes-1
+                joinMinutes[valid] = (int) Math.max(0, Math.min((join - startSecond) / 60, params.totalMinutes - 1));
+                leaveMinutes[valid] = (int) Math.max(0, Math.min((leave - startSecond) / 60, params.totalMinutes - 1));
+                parsedRows[valid++] = row;
+            }
+            int duration = (int) Math.min(Integer.MAX_VALUE, userDuration);
+            partial.durationSumSeconds += duration;
+            partial.durationMaxSeconds = Math.max(partial.durationMaxSeconds, duration);
+            partial.durationMinSeconds = Math.min(partial.durationMinSeconds, duration);
+            partial.participants++;
+            partial.sessions += sessionCount;
+            if (valid == 0) {
+                continue;
+            }
+
+            // The user joins with their first session and leaves with their last
+            int firstSession = 0;
+            int lastSession = 0;
+            for (int s = 1; s < valid; s++) {
+                if (joinMinutes[s] < joinMinutes[firstSession]) {
+                    firstSession = s;
+                }
+                if (leaveMinutes[s] >= leaveMinutes[lastSession]) {
+                    lastSession = s;
+                }
+            }
+            int joinMinute = joinMinutes[firstSession];
+            int leaveMinute = leaveMinutes[lastSession];
+            int joinSegment = joinMinute / params.segmentDuration;
+            int leaveSegment = leaveMinute / params.segmentDuration;
+            if (joinSegment < params.segmentCount) {
+                partial.joinedBySegment[joinSegment]++;
+            }
+            if (leaveSegment < params.segmentCount) {
+                partial.leftBySegment[leaveSegment]++;
+            }
+
+            // Active for every minute covered by any session - overlapping sessions count once
+            addActiveMinutes(partial.minuteDiff, joinMinutes, leaveMinutes, valid, params.totalMinutes);
+
+            if (timelines != null) {
+                timelines[user] = userTimeline(columns, parsedRows[firstSession], parsedRows[lastSession], valid, duration, params,
+                        joinMinutes, leaveMinutes, joinMinute, leaveMinute);
+            }
+            if (details != null) {
+                details[user] = participantDetail(columns, parsedRows, valid, parsedRows[firstSession], parsedRows[lastSession], duration,
+                        joinSegment, leaveSegment);
+            }
+        }
+        return partial;
+    }
+
+    // Union of the inclusive [join, leave] session intervals into the difference array
+    private static void addActiveMinutes(int[] minuteDiff, int[] joinMinutes, int[] leaveMinutes, int sessions, int totalMinutes) {
+        if (sessions == 1) {
+            if (joinMinutes[0] <= leaveMinutes[0] && joinMinutes[0] < totalMinutes) {
+                minuteDiff[joinMinutes[0]]++;
+                minuteDiff[leaveMinutes[0] + 1]--;
+            }
+            return;
+        }
+        // Few sessions per user - an insertion sort by join minute on copies is enough
+        int[] starts = Arrays.copyOf(joinMinutes, sessions);
+        int[] ends = Arrays.copyOf(leaveMinutes, sessions);
+        for (int i = 1; i < sessions; i++) {
+            int start = starts[i];
+            int end = ends[i];
+            int j = i - 1;
+            for (; j >= 0 && starts[j] > start; j--) {
+                starts[j + 1] = starts[j];
+                ends[j + 1] = ends[j];
+            }
+            starts[j + 1] = start;
+            ends[j + 1] = end;
+        }
+        int runStart = -1;
+        int runEnd = -1;
+        for (int i = 0; i < sessions; i++) {
+            if (starts[i] > ends[i]) {
+                continue;
+            }
+            if (runStart >= 0 && starts[i] <= runEnd + 1) {
+                runEnd = Math.max(runEnd, ends[i]);
+                continue;
+            }
+            if (runStart >= 0) {
+                minuteDiff[runStart]++;
+                minuteDiff[runEnd + 1]--;
+            }
+            runStart = starts[i];
+            runEnd = ends[i];
+        }
+        if (runStart >= 0) {
+            minuteDiff[runStart]++;
+            minuteDiff[runEnd + 1]--;
+        }
+    }
+
+    private static Map<String, Object> userTimeline(ParticipantColumns columns, int firstRow, int lastRow, int sessions, int duration,
+                                                    Params params, int[] joinMinutes, int[] leaveMinutes, int joinMinute, int leaveMinute) {
+        Map<String, Object> userTimeline = new HashMap<>();
+        userTimeline.put("user_id", orEmpty(columns.string(columns.userIds[firstRow])));
+        userTimeline.put("name", orEmpty(columns.string(columns.names[firstRow])));
+        userTimeline.put("email", orEmpty(columns.string(columns.emails[firstRow])));
+        userTimeline.put("join_time", columns.formatTime(columns.joinSeconds[firstRow]));
+        userTimeline.put("leave_time", columns.formatTime(columns.leaveSeconds[lastRow]));
+        userTimeline.put("duration_minutes", Math.round(duration / 60.0 * 100.0) / 100.0);
+        userTimeline.put("join_minute", joinMinute);
+        userTimeline.put("leave_minute", leaveMinute);
+        userTimeline.put("session_count", sessions);
+
+        // Presence for each segment (1 = present in any session, 0 = absent)
+        List<Integer> presenceBySegment = new ArrayList<>(params.segmentCount);
+        for (int segment = 0; segment < params.segmentCount; segment++) {
+            int segmentStartMinute = segment * params.segmentDuration;
+            int segmentEndMinute = Math.min((segment + 1) * params.segmentDuration - 1, params.totalMinutes - 1);
+            boolean presentInSegment = false;
+            for (int s = 0; s < sessions && !presentInSegment; s++) {
+                presentInSegment = joinMinutes[s] <= segmentEndMinute && leaveMinutes[s] >= segmentStartMinute;
+            }
+            presenceBySegment.add(presentInSegment ? 1 : 0);
+        }
+        userTimeline.put("presence_by_segment", presenceBySegment);
+        return userTimeline;
+    }
+
+    private static Map<String, Object> participantDetail(ParticipantColumns columns, int[] sessionRows, int sessionCount, int firstRow,
+                                                         int lastRow, int duration, int joinSegment, int leaveSegment) {
+        Map<String, Object> participantDetail = new HashMap<>();
+        participantDetail.put("user_id", orEmpty(columns.string(columns.userIds[firstRow])));
+        participantDetail.put("name", orEmpty(columns.string(columns.names[firstRow])));
+        participantDetail.put("email", orEmpty(columns.string(columns.emails[firstRow])));
+        participantDetail.put("join_time", columns.formatTime(columns.joinSeconds[firstRow]));
+        participantDetail.put("leave_time", columns.formatTime(columns.leaveSeconds[lastRow]));
+        participantDetail.put("duration_seconds", duration);
+        participantDetail.put("duration_minutes", Math.round(duration / 60.0 * 100.0) / 100.0);
+        participantDetail.put("join_segment", joinSegment);
+        participantDetail.put("leave_segment", leaveSegment);
+        participantDetail.put("attentiveness_score", orEmpty(columns.string(columns.attentiveness[firstRow])));
+        participantDetail.put("session_count", sessionCount);
+
+        // One interval per session, in the order Zoom reported them
+        List<Map<String, Object>> intervals = new ArrayList<>(sessionCount);
+        for (int s = 0; s < sessionCount; s++) {
+            int row = sessionRows[s];
+            Map<String, Object> interval = new HashMap<>();
+            interval.put("join_time", columns.formatTime(columns.joinSeconds[row]));
+            interval.put("leave_time", columns.formatTime(columns.leaveSeconds[row]));
+            interval.put("duration_seconds", columns.durationSeconds[row]);
+            intervals.add(interval);
+        }
+        participantDetail.put("sessions", intervals);
+        return participantDetail;
+    }
+
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
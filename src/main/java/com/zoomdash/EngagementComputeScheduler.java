@@ -0,0 +1,119 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Bounded pool for CPU-heavy engagement computation, so Netty I/O threads (and Tomcat
+// request threads) only do I/O. Work beyond the queue limit is rejected instead of queued forever.
+@Component
+public class EngagementComputeScheduler {
+
+    // Seconds a caller turned away by a full queue is told to wait before retrying
+    static final long OVERLOAD_RETRY_AFTER_SECONDS = 2;
+
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+    // Fork/join pool the compute threads split large participant lists over
+    private final ForkJoinPool aggregationPool;
+    // Prefix-sum / segment reduction kernel, chosen once at startup
+    private final SegmentKernel segmentKernel;
+    private final int queueCapacity;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public EngagementComputeScheduler(@Value("${zoom.compute.threads:0}") int threads,
+                                      @Value("${zoom.compute.queue-capacity:64}") int queueCapacity,
+                                      @Value("${zoom.compute.parallelism:0}") int parallelism,
+                                      @Value("${zoom.compute.segment-kernel:auto}") String segmentKernel) {
+        // 0 = one thread per core - the work is pure CPU, more threads only add contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "engagement-compute-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    rejected.incrementAndGet();
+                    throw new RejectedExecutionException("Engagement compute queue is full (" + queueCapacity + " waiting)");
+                });
+        this.scheduler = Schedulers.fromExecutorService(executor, "engagement-compute");
+        this.aggregationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.segmentKernel = SegmentKernels.select(segmentKernel);
+        System.out.println("🧮 Segment kernel: " + this.segmentKernel.name());
+    }
+
+    // Run a computation on the compute pool - fails with RejectedExecutionException when the queue is full
+    public <T> Mono<T> compute(Supplier<T> work) {
+        return Mono.fromSupplier(work).subscribeOn(scheduler);
+    }
+
+    // True when the computation was turned away by a full compute queue (Reactor wraps the rejection)
+    public static boolean isOverloaded(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Result for a rejected computation - an explicit "retry later", never simulated data
+    public static Map<String, Object> overloadedResult(Throwable error) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", false);
+        result.put("overloaded", true);
+        result.put("error", "Analytics computation is overloaded, retry later: " + error.getMessage());
+        result.put("retry_after_seconds", OVERLOAD_RETRY_AFTER_SECONDS);
+        return result;
+    }
+
+    public static boolean isOverloadedResult(Map<String, Object> result) {
+        return Boolean.TRUE.equals(result.get("overloaded"));
+    }
+
+    public ForkJoinPool getAggregationPool() {
+        return aggregationPool;
+    }
+
+    SegmentKernel getSegmentKernel() {
+        return segmentKernel;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queue_capacity", queueCapacity);
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejected", rejected.get());
+        stats.put("aggregation_parallelism", aggregationPool.getParallelism());
+        stats.put("aggregation_steals", aggregationPool.getStealCount());
+        stats.put("segment_kernel", segmentKernel.name());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+        aggregationPool.shutdown();
+    }
+}
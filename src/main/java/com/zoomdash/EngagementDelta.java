@@ -0,0 +1,107 @@
+package com.zoomdash;
+
+import java.util.*;
+
+// Diffs two engagement results - changed graph segments, participants and headline counters.
+// Shared by the SSE publisher and the polling delta responses.
+final class EngagementDelta {
+
+    private static final List<String> SEGMENT_SERIES = List.of("active_participants", "users_joined", "users_left", "peak_active_users", "engagement_rate");
+    private static final List<String> SEGMENT_FIELDS = List.of("active", "joined", "left", "peak", "rate");
+    private static final List<String> PARTICIPANT_IDENTITY = List.of("user_id", "name", "email", "join_time");
+
+    private EngagementDelta() {
+    }
+
+    // Changed counters, plus changed_segments / segment_count - empty when nothing changed.
+    // A null previous result reports every segment and counter.
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> current, List<String> counters) {
+        Map<String, Object> graph = (Map<String, Object>) current.get("engagement_graph");
+        Map<String, Object> previousGraph = previous != null ? (Map<String, Object>) previous.get("engagement_graph") : null;
+        List<String> labels = graph != null ? (List<String>) graph.get("labels") : null;
+        if (labels == null) {
+            labels = Collections.emptyList();
+        }
+
+        List<Map<String, Object>> changedSegments = new ArrayList<>();
+        for (int segment = 0; segment < labels.size(); segment++) {
+            boolean changed = previousGraph == null;
+            Map<String, Object> segmentDelta = new HashMap<>();
+            segmentDelta.put("segment", segment);
+            segmentDelta.put("label", labels.get(segment));
+            for (int i = 0; i < SEGMENT_SERIES.size(); i++) {
+                List<Integer> series = (List<Integer>) graph.get(SEGMENT_SERIES.get(i));
+                if (series == null || segment >= series.size()) {
+                    continue;
+                }
+                Integer value = series.get(segment);
+                segmentDelta.put(SEGMENT_FIELDS.get(i), value);
+                if (!changed) {
+                    List<Integer> previousSeries = (List<Integer>) previousGraph.get(SEGMENT_SERIES.get(i));
+                    changed = previousSeries == null || segment >= previousSeries.size() || !value.equals(previousSeries.get(segment));
+                }
+            }
+            if (changed) {
+                changedSegments.add(segmentDelta);
+            }
+        }
+
+        Map<String, Object> delta = new HashMap<>();
+        for (String counter : counters) {
+            Object value = current.get(counter);
+            if (previous == null || !Objects.equals(value, previous.get(counter))) {
+                delta.put(counter, value);
+            }
+        }
+
+        if (changedSegments.isEmpty() && delta.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        delta.put("segment_count", labels.size());
+        delta.put("changed_segments", changedSegments);
+        return delta;
+    }
+
+    // Participant details that are new or changed, and the identities of those that disappeared
+    static Map<String, Object> diffParticipants(List<Map<String, Object>> previous, List<Map<String, Object>> current) {
+        Map<List<Object>, Map<String, Object>> previousByIdentity = new HashMap<>();
+        if (previous != null) {
+            for (Map<String, Object> participant : previous) {
+                previousByIdentity.put(identity(participant), participant);
+            }
+        }
+
+        List<Map<String, Object>> changed = new ArrayList<>();
+        if (current != null) {
+            for (Map<String, Object> participant : current) {
+                Map<String, Object> before = previousByIdentity.remove(identity(participant));
+                if (!participant.equals(before)) {
+                    changed.add(participant);
+                }
+            }
+        }
+
+        List<Map<String, Object>> removed = new ArrayList<>();
+        for (Map<String, Object> participant : previousByIdentity.values()) {
+            Map<String, Object> identity = new HashMap<>();
+            for (String field : PARTICIPANT_IDENTITY) {
+                identity.put(field, participant.get(field));
+            }
+            removed.add(identity);
+        }
+
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("changed_participants", changed);
+        delta.put("removed_participants", removed);
+        return delta;
+    }
+
+    private static List<Object> identity(Map<String, Object> participant) {
+        List<Object> identity = new ArrayList<>(PARTICIPANT_IDENTITY.size());
+        for (String field : PARTICIPANT_IDENTITY) {
+            identity.add(participant.get(field));
+        }
+        return identity;
+    }
+}
@@ -0,0 +1,111 @@
+package com.zoomdash;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Mergeable engagement summary - sums, counts and histograms only, so any two
+// rollups (two meetings, two days, two ranges) can be combined without the raw data
+public class EngagementRollup {
+
+    // Upper bounds (exclusive) of the peak-concurrency histogram buckets, last bucket is open-ended
+    private static final int[] PEAK_BUCKET_BOUNDS = {5, 10, 25, 50, 100, 250, 500, 1000};
+    private static final String[] PEAK_BUCKET_LABELS = {"0-4", "5-9", "10-24", "25-49", "50-99", "100-249", "250-499", "500-999", "1000+"};
+
+    private int meetings;
+    private long attendees;
+    private double participantMinutes;
+    private long peakConcurrentSum;
+    private long finalActiveSum;
+    private long totalJoined;
+    private long totalLeft;
+    private double dropOffRateSum;
+    private final long[] peakHistogram = new long[PEAK_BUCKET_LABELS.length];
+
+    // Build a single-meeting rollup from the map returned by calculateEngagementMetrics
+    public static EngagementRollup fromEngagementMetrics(Map<String, Object> engagementData) {
+        EngagementRollup rollup = new EngagementRollup();
+        if (engagementData == null || engagementData.containsKey("error")) {
+            return rollup;
+        }
+
+        int peak = intValue(engagementData.get("peak_concurrent_users"));
+        int finalActive = intValue(engagementData.get("final_active_users"));
+
+        rollup.meetings = 1;
+        rollup.attendees = intValue(engagementData.get("total_participants"));
+        rollup.participantMinutes = doubleValue(engagementData.get("total_meeting_minutes"));
+        rollup.peakConcurrentSum = peak;
+        rollup.finalActiveSum = finalActive;
+        rollup.totalJoined = intValue(engagementData.get("total_joined"));
+        rollup.totalLeft = intValue(engagementData.get("total_left"));
+        rollup.dropOffRateSum = peak > 0 ? Math.max(0, peak - finalActive) / (double) peak : 0;
+        rollup.peakHistogram[peakBucket(peak)]++;
+        return rollup;
+    }
+
+    // Fold another rollup into this one
+    public EngagementRollup merge(EngagementRollup other) {
+        meetings += other.meetings;
+        attendees += other.attendees;
+        participantMinutes += other.participantMinutes;
+        peakConcurrentSum += other.peakConcurrentSum;
+        finalActiveSum += other.finalActiveSum;
+        totalJoined += other.totalJoined;
+        totalLeft += other.totalLeft;
+        dropOffRateSum += other.dropOffRateSum;
+        for (int i = 0; i < peakHistogram.length; i++) {
+            peakHistogram[i] += other.peakHistogram[i];
+        }
+        return this;
+    }
+
+    public EngagementRollup copy() {
+        return new EngagementRollup().merge(this);
+    }
+
+    public int getMeetings() { return meetings; }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("total_meetings", meetings);
+        result.put("total_attendees", attendees);
+        result.put("participant_minutes", Math.round(participantMinutes * 100.0) / 100.0);
+        result.put("total_joined", totalJoined);
+        result.put("total_left", totalLeft);
+        result.put("average_attendees", meetings > 0 ? Math.round(attendees * 100.0 / meetings) / 100.0 : 0);
+        result.put("average_peak_concurrency", meetings > 0 ? Math.round(peakConcurrentSum * 100.0 / meetings) / 100.0 : 0);
+        // Mean of the per-meeting drop-off rates, and the pooled rate across all meetings
+        result.put("average_drop_off_rate", meetings > 0 ? Math.round(dropOffRateSum * 10000.0 / meetings) / 100.0 : 0);
+        result.put("pooled_drop_off_rate", peakConcurrentSum > 0
+                ? Math.round(Math.max(0, peakConcurrentSum - finalActiveSum) * 10000.0 / peakConcurrentSum) / 100.0 : 0);
+
+        List<Long> counts = new ArrayList<>();
+        for (long count : peakHistogram) {
+            counts.add(count);
+        }
+        Map<String, Object> histogram = new HashMap<>();
+        histogram.put("labels", List.of(PEAK_BUCKET_LABELS));
+        histogram.put("counts", counts);
+        result.put("peak_concurrency_histogram", histogram);
+        return result;
+    }
+
+    private static int peakBucket(int peak) {
+        for (int i = 0; i < PEAK_BUCKET_BOUNDS.length; i++) {
+            if (peak < PEAK_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return PEAK_BUCKET_BOUNDS.length;
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static double doubleValue(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
@@ -0,0 +1,154 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Organization-wide engagement rollups - folds per-meeting results from
+// calculateEngagementMetrics into one mergeable rollup per day
+@Service
+public class EngagementRollupService {
+
+    private final ZoomService zoomService;
+
+    // Per-day rollups, plus the meetings already folded into each day
+    private final Map<LocalDate, DayRollup> dayRollups = new ConcurrentHashMap<>();
+
+    @Value("${zoom.rollup.interval-minutes:5}")
+    private int rollupIntervalMinutes;
+
+    @Value("${zoom.rollup.concurrency:4}")
+    private int rollupConcurrency;
+
+    public EngagementRollupService(ZoomService zoomService) {
+        this.zoomService = zoomService;
+    }
+
+    // Get rollup for an inclusive date range - only meetings not yet folded in are analyzed
+    public Mono<Map<String, Object>> getRollup(LocalDate from, LocalDate to) {
+        return zoomService.getAccessToken()
+                .flatMap(authResponse -> zoomService.getMeetings(authResponse.getAccessToken()))
+                .flatMap(meetingsResponse -> {
+                    List<ZoomMeeting> meetings = meetingsResponse.getMeetings() != null
+                            ? meetingsResponse.getMeetings() : Collections.emptyList();
+                    // Zoom start times are UTC
+                    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+                    List<ZoomMeeting> pending = new ArrayList<>();
+                    int alreadyFolded = 0;
+                    for (ZoomMeeting meeting : meetings) {
+                        if (!inWindow(meeting, from, to, now)) {
+                            continue;
+                        }
+                        if (isFolded(meeting.getStartTime().toLocalDate(), meeting.getId())) {
+                            alreadyFolded++;
+                        } else {
+                            pending.add(meeting);
+                        }
+                    }
+
+                    System.out.println("📈 Rollup " + from + " → " + to + ": " + pending.size() + " meetings to analyze, " + alreadyFolded + " cached");
+                    int cachedCount = alreadyFolded;
+
+                    return Flux.fromIterable(pending)
+                            .flatMap(meeting -> zoomService.getMeetingAnalytics(meeting.getId(), rollupIntervalMinutes)
+                                    .doOnNext(analytics -> recordMeeting(meeting, analytics)), rollupConcurrency)
+                            .count()
+                            .map(computed -> buildRollupResponse(from, to, computed.intValue(), cachedCount));
+                })
+                .onErrorResume(e -> {
+                    System.err.println("❌ Error building engagement rollup: " + e.getMessage());
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("error", "Failed to build engagement rollup: " + e.getMessage());
+                    return Mono.just(errorResponse);
+                });
+    }
+
+    // Meetings that started on a day of the window and have ended by now (UTC)
+    static boolean inWindow(ZoomMeeting meeting, LocalDate from, LocalDate to, LocalDateTime nowUtc) {
+        if (meeting.getStartTime() == null) {
+            return false;
+        }
+        LocalDate day = meeting.getStartTime().toLocalDate();
+        boolean ended = meeting.getStartTime().plusMinutes(meeting.getDuration()).isBefore(nowUtc);
+        return !day.isBefore(from) && !day.isAfter(to) && ended;
+    }
+
+    // Fold one meeting's analytics into its day - only real Zoom data is counted
+    @SuppressWarnings("unchecked")
+    public void recordMeeting(ZoomMeeting meeting, Map<String, Object> analytics) {
+        if (!"zoom_api".equals(analytics.get("data_source")) || !(analytics.get("engagement_metrics") instanceof Map)) {
+            return;
+        }
+        LocalDate day = meeting.getStartTime().toLocalDate();
+        DayRollup dayRollup = dayRollups.computeIfAbsent(day, d -> new DayRollup());
+        EngagementRollup meetingRollup = EngagementRollup.fromEngagementMetrics((Map<String, Object>) analytics.get("engagement_metrics"));
+        synchronized (dayRollup) {
+            if (dayRollup.meetingIds.add(meeting.getId())) {
+                dayRollup.rollup.merge(meetingRollup);
+            }
+        }
+    }
+
+    // Drop cached rollups so the next query re-analyzes those days
+    public void invalidate(LocalDate from, LocalDate to) {
+        dayRollups.keySet().removeIf(day -> !day.isBefore(from) && !day.isAfter(to));
+    }
+
+    private boolean isFolded(LocalDate day, String meetingId) {
+        DayRollup dayRollup = dayRollups.get(day);
+        if (dayRollup == null) {
+            return false;
+        }
+        synchronized (dayRollup) {
+            return dayRollup.meetingIds.contains(meetingId);
+        }
+    }
+
+    private Map<String, Object> buildRollupResponse(LocalDate from, LocalDate to, int computed, int cached) {
+        EngagementRollup total = new EngagementRollup();
+        List<Map<String, Object>> days = new ArrayList<>();
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            DayRollup dayRollup = dayRollups.get(day);
+            if (dayRollup == null) {
+                continue;
+            }
+            EngagementRollup snapshot;
+            synchronized (dayRollup) {
+                snapshot = dayRollup.rollup.copy();
+            }
+            if (snapshot.getMeetings() == 0) {
+                continue;
+            }
+            total.merge(snapshot);
+
+            Map<String, Object> dayEntry = snapshot.toMap();
+            dayEntry.put("date", day.toString());
+            days.add(dayEntry);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("from", from.toString());
+        result.put("to", to.toString());
+        result.put("totals", total.toMap());
+        result.put("days", days);
+        result.put("meetings_computed", computed);
+        result.put("meetings_cached", cached);
+        result.put("data_source", "zoom_api");
+        return result;
+    }
+
+    private static class DayRollup {
+        private final EngagementRollup rollup = new EngagementRollup();
+        private final Set<String> meetingIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,17 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Tuning of the one ObjectMapper the app shares: Boot registers Module beans with its Jackson2ObjectMapperBuilder,
+// so the JSON mapper, the CBOR / Smile mappers built from the builder and the WebFlux codecs all get them
+@Configuration
+public class JacksonConfig {
+
+    // Bean properties are read and written through generated lambdas instead of reflection
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,155 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+// Zoom webhook receiver and live engagement endpoints
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "http://localhost:5173")
+public class LiveEngagementController {
+
+    private final LiveEngagementTracker liveTracker;
+    private final LiveEngagementPublisher livePublisher;
+    private final ObjectMapper objectMapper;
+    private final ZoomService zoomService;
+
+    // Secret token of the Zoom webhook app - every request signature is verified, nothing is accepted without it
+    @Value("${zoom.webhook.secret-token:}")
+    private String webhookSecretToken;
+
+    @Value("${zoom.webhook.replay-enabled:false}")
+    private boolean replayEnabled;
+
+    public LiveEngagementController(LiveEngagementTracker liveTracker, LiveEngagementPublisher livePublisher, ObjectMapper objectMapper,
+                                    ZoomService zoomService) {
+        this.liveTracker = liveTracker;
+        this.livePublisher = livePublisher;
+        this.objectMapper = objectMapper;
+        this.zoomService = zoomService;
+    }
+
+    // Zoom webhook endpoint - meeting.participant_joined / meeting.participant_left / meeting.ended,
+    // recording.* events invalidate the meeting's cached recordings list
+    @PostMapping("/webhooks/zoom")
+    public ResponseEntity<Map<String, Object>> receiveWebhook(
+            @RequestBody String body,
+            @RequestHeader(value = "x-zm-request-timestamp", required = false) String timestamp,
+            @RequestHeader(value = "x-zm-signature", required = false) String signature) {
+
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(errorResponse("Invalid webhook body: " + e.getMessage()));
+        }
+
+        String eventType = event.path("event").asText("");
+
+        // Fail closed: unsigned events could join phantom participants or drop cached recordings
+        if (webhookSecretToken.isEmpty()) {
+            System.err.println("❌ Rejected webhook, zoom.webhook.secret-token is not configured: " + eventType);
+            return ResponseEntity.status(503).body(errorResponse("zoom.webhook.secret-token is not configured"));
+        }
+
+        // Zoom validates the endpoint URL before sending events
+        if ("endpoint.url_validation".equals(eventType)) {
+            String plainToken = event.path("payload").path("plainToken").asText("");
+            Map<String, Object> validation = new HashMap<>();
+            validation.put("plainToken", plainToken);
+            validation.put("encryptedToken", hmacSha256Hex(plainToken));
+            return ResponseEntity.ok(validation);
+        }
+
+        if (!isValidSignature(body, timestamp, signature)) {
+            System.err.println("❌ Rejected webhook with invalid signature: " + eventType);
+            return ResponseEntity.status(401).body(errorResponse("Invalid webhook signature"));
+        }
+
+        boolean applied = liveTracker.handleEvent(event);
+        // recording.completed / recording.transcript_completed / recording.trashed ... change the recordings list
+        String meetingId = event.path("payload").path("object").path("id").asText("");
+        if (eventType.startsWith("recording.") && !meetingId.isEmpty()) {
+            zoomService.invalidateRecordings(meetingId);
+            applied = true;
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("event", eventType);
+        response.put("applied", applied);
+        return ResponseEntity.ok(response);
+    }
+
+    // Replay recorded webhook events (JSON array or JSON lines) - local testing only
+    @PostMapping("/webhooks/zoom/replay")
+    public ResponseEntity<Map<String, Object>> replayWebhooks(@RequestBody String events) {
+        if (!replayEnabled) {
+            return ResponseEntity.status(403).body(errorResponse("Webhook replay is disabled (zoom.webhook.replay-enabled)"));
+        }
+        try {
+            int applied = liveTracker.replay(new StringReader(events));
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("applied", applied);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(errorResponse("Replay failed: " + e.getMessage()));
+        }
+    }
+
+    // Live engagement graph built from webhook events
+    @GetMapping("/live-analytics/{meetingId}")
+    public Map<String, Object> getLiveAnalytics(
+            @PathVariable String meetingId,
+            @RequestParam(required = false, defaultValue = "5") Integer interval) {
+        return liveTracker.snapshot(meetingId, interval);
+    }
+
+    // Server-Sent Events of live engagement - a full snapshot, then only changed segments and counters
+    @GetMapping(value = "/live-analytics-stream/{meetingId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> streamLiveAnalytics(
+            @PathVariable String meetingId,
+            @RequestParam(required = false, defaultValue = "5") Integer interval) {
+        System.out.println("🌊 LIVE ANALYTICS STREAM for: " + meetingId + " with interval: " + interval + " minutes");
+        return livePublisher.subscribe(meetingId, interval);
+    }
+
+    private boolean isValidSignature(String body, String timestamp, String signature) {
+        if (timestamp == null || signature == null) {
+            return false;
+        }
+        String expected = "v0=" + hmacSha256Hex("v0:" + timestamp + ":" + body);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String hmacSha256Hex(String message) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecretToken.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to compute webhook HMAC", e);
+        }
+    }
+
+    private Map<String, Object> errorResponse(String error) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", error);
+        return errorResponse;
+    }
+}
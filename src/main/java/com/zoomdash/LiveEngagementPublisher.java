@@ -0,0 +1,98 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Pushes live engagement deltas - one shared hot publisher per meeting and interval
+// polls the tracker at a fixed cadence and fans the changed segments out to every subscriber
+@Component
+public class LiveEngagementPublisher {
+
+    private static final List<String> HEADLINE_COUNTERS = List.of("total_participants", "current_active_users",
+            "peak_concurrent_users", "total_joined", "total_left", "elapsed_minutes", "live");
+
+    private final LiveEngagementTracker liveTracker;
+    private final Map<String, Flux<ServerSentEvent<Map<String, Object>>>> publishers = new ConcurrentHashMap<>();
+
+    @Value("${zoom.live.push-cadence-ms:1000}")
+    private long pushCadenceMs;
+
+    @Value("${zoom.live.keepalive-seconds:15}")
+    private long keepaliveSeconds;
+
+    public LiveEngagementPublisher(LiveEngagementTracker liveTracker) {
+        this.liveTracker = liveTracker;
+    }
+
+    // Full snapshot first, then only deltas from the shared publisher
+    public Flux<ServerSentEvent<Map<String, Object>>> subscribe(String meetingId, int intervalMinutes) {
+        Mono<ServerSentEvent<Map<String, Object>>> initial = Mono.fromSupplier(() -> ServerSentEvent.<Map<String, Object>>builder()
+                .event("snapshot")
+                .data(liveTracker.snapshot(meetingId, intervalMinutes))
+                .build());
+
+        Flux<ServerSentEvent<Map<String, Object>>> keepalive = Flux.interval(Duration.ofSeconds(keepaliveSeconds))
+                .map(tick -> ServerSentEvent.<Map<String, Object>>builder().comment("keepalive").build());
+
+        Flux<ServerSentEvent<Map<String, Object>>> deltas = sharedDeltas(meetingId, intervalMinutes);
+        return initial.concatWith(deltas.mergeWith(keepalive.takeUntilOther(deltas.ignoreElements())));
+    }
+
+    public int getActivePublisherCount() {
+        return publishers.size();
+    }
+
+    private Flux<ServerSentEvent<Map<String, Object>>> sharedDeltas(String meetingId, int intervalMinutes) {
+        String key = meetingId + ":" + intervalMinutes;
+        return publishers.computeIfAbsent(key, k -> {
+            System.out.println("📡 Starting live publisher for " + k + " every " + pushCadenceMs + " ms");
+            DeltaState deltaState = new DeltaState();
+            return Flux.interval(Duration.ofMillis(pushCadenceMs))
+                    .map(tick -> liveTracker.getVersion(meetingId))
+                    .filter(version -> version >= 0)
+                    .distinctUntilChanged()
+                    .map(version -> liveTracker.snapshot(meetingId, intervalMinutes))
+                    .filter(snapshot -> Boolean.TRUE.equals(snapshot.get("success")))
+                    .map(deltaState::diff)
+                    .filter(delta -> !delta.isEmpty())
+                    .takeUntil(delta -> Boolean.FALSE.equals(delta.get("live")))
+                    .map(delta -> ServerSentEvent.<Map<String, Object>>builder()
+                            .event("delta")
+                            .id(String.valueOf(delta.get("version")))
+                            .data(delta)
+                            .build())
+                    .doFinally(signal -> {
+                        publishers.remove(k);
+                        System.out.println("📴 Stopped live publisher for " + k + " (" + signal + ")");
+                    })
+                    // Hot and shared - runs while at least one subscriber is connected
+                    .publish()
+                    .refCount();
+        });
+    }
+
+    // Previous snapshot of one shared publisher - only touched from its single upstream sequence
+    private static class DeltaState {
+        private Map<String, Object> previous;
+
+        private Map<String, Object> diff(Map<String, Object> snapshot) {
+            Map<String, Object> changes = EngagementDelta.diff(previous, snapshot, HEADLINE_COUNTERS);
+            previous = snapshot;
+            if (changes.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, Object> delta = new HashMap<>(changes);
+            delta.put("meeting_id", snapshot.get("meeting_id"));
+            delta.put("version", snapshot.get("version"));
+            delta.put("live", snapshot.get("live"));
+            return delta;
+        }
+    }
+}
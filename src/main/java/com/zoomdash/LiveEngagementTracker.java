@@ -0,0 +1,403 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Live engagement from Zoom webhooks - keeps per-meeting concurrency state that is
+// updated in O(1) per participant_joined / participant_left event
+@Component
+public class LiveEngagementTracker {
+
+    public static final String EVENT_PARTICIPANT_JOINED = "meeting.participant_joined";
+    public static final String EVENT_PARTICIPANT_LEFT = "meeting.participant_left";
+    public static final String EVENT_MEETING_ENDED = "meeting.ended";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, LiveMeetingState> meetings = new ConcurrentHashMap<>();
+
+    // Lock striping - meetings hash onto a fixed set of locks instead of one global lock
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    @Value("${zoom.live.retention-minutes:360}")
+    private long retentionMinutes = 360;
+
+    public LiveEngagementTracker(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // Apply one webhook event - returns true when it changed the meeting state
+    public boolean handleEvent(JsonNode event) {
+        String eventType = event.path("event").asText("");
+        JsonNode object = event.path("payload").path("object");
+        String meetingId = object.path("id").asText("");
+        if (meetingId.isEmpty()) {
+            return false;
+        }
+
+        switch (eventType) {
+            case EVENT_PARTICIPANT_JOINED:
+            case EVENT_PARTICIPANT_LEFT: {
+                JsonNode participant = object.path("participant");
+                String participantKey = participantKey(participant);
+                if (participantKey == null) {
+                    System.err.println("⚠️ Webhook participant without identity for meeting " + meetingId);
+                    return false;
+                }
+                boolean joined = EVENT_PARTICIPANT_JOINED.equals(eventType);
+                long eventSecond = eventEpochSecond(participant.path(joined ? "join_time" : "leave_time").asText(null),
+                        event.path("event_ts").asLong(System.currentTimeMillis()));
+                long startSecond = parseEpochSecond(object.path("start_time").asText(null), eventSecond);
+                return joined
+                        ? participantJoined(meetingId, participantKey, startSecond, eventSecond)
+                        : participantLeft(meetingId, participantKey, startSecond, eventSecond);
+            }
+            case EVENT_MEETING_ENDED:
+                return meetingEnded(meetingId);
+            default:
+                return false;
+        }
+    }
+
+    public boolean participantJoined(String meetingId, String participantKey, long startEpochSecond, long eventEpochSecond) {
+        ReentrantLock lock = lockFor(meetingId);
+        lock.lock();
+        try {
+            return meetings.computeIfAbsent(meetingId, id -> new LiveMeetingState(startEpochSecond))
+                    .join(participantKey, eventEpochSecond);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean participantLeft(String meetingId, String participantKey, long startEpochSecond, long eventEpochSecond) {
+        ReentrantLock lock = lockFor(meetingId);
+        lock.lock();
+        try {
+            return meetings.computeIfAbsent(meetingId, id -> new LiveMeetingState(startEpochSecond))
+                    .leave(participantKey, eventEpochSecond);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean meetingEnded(String meetingId) {
+        ReentrantLock lock = lockFor(meetingId);
+        lock.lock();
+        try {
+            LiveMeetingState state = meetings.get(meetingId);
+            if (state == null || state.ended) {
+                return false;
+            }
+            state.ended = true;
+            state.version++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isTracking(String meetingId) {
+        return meetings.containsKey(meetingId);
+    }
+
+    // Version increases on every state change, so readers can tell whether anything moved
+    public long getVersion(String meetingId) {
+        LiveMeetingState state = meetings.get(meetingId);
+        return state != null ? state.version : -1;
+    }
+
+    // Build the same engagement graph shape as calculateEngagementMetrics from the live state
+    public Map<String, Object> snapshot(String meetingId, int intervalMinutes) {
+        int[] activePerMinute;
+        int[] joinedPerMinute;
+        int[] leftPerMinute;
+        int uniqueParticipants;
+        int currentActive;
+        int totalJoined;
+        int totalLeft;
+        long version;
+        boolean ended;
+
+        ReentrantLock lock = lockFor(meetingId);
+        lock.lock();
+        try {
+            LiveMeetingState state = meetings.get(meetingId);
+            if (state == null) {
+                Map<String, Object> notTracked = new HashMap<>();
+                notTracked.put("success", false);
+                notTracked.put("meeting_id", meetingId);
+                notTracked.put("error", "No live events received for this meeting");
+                return notTracked;
+            }
+            int minutes = state.elapsedMinutes();
+            activePerMinute = new int[minutes];
+            int running = 0;
+            for (int minute = 0; minute < minutes; minute++) {
+                running += state.concurrencyDiff[minute];
+                activePerMinute[minute] = running;
+            }
+            joinedPerMinute = Arrays.copyOf(state.joinedPerMinute, minutes);
+            leftPerMinute = Arrays.copyOf(state.leftPerMinute, minutes);
+            uniqueParticipants = state.seenParticipants.size();
+            currentActive = state.presentParticipants.size();
+            totalJoined = state.totalJoined;
+            totalLeft = state.totalLeft;
+            version = state.version;
+            ended = state.ended;
+        } finally {
+            lock.unlock();
+        }
+
+        int totalMinutes = activePerMinute.length;
+        List<String> labels = ZoomService.generateDynamicTimeBins(totalMinutes, intervalMinutes);
+        int segmentCount = labels.size();
+
+        List<Integer> activeParticipants = new ArrayList<>();
+        List<Integer> engagementRates = new ArrayList<>();
+        List<Integer> usersJoined = new ArrayList<>();
+        List<Integer> usersLeft = new ArrayList<>();
+        List<Integer> peakActiveUsers = new ArrayList<>();
+        int peakConcurrent = 0;
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            int segmentStartMinute = segment * intervalMinutes;
+            int segmentEndMinute = Math.min((segment + 1) * intervalMinutes - 1, totalMinutes - 1);
+
+            int segmentSum = 0;
+            int segmentPeak = 0;
+            int segmentJoined = 0;
+            int segmentLeft = 0;
+            int minutesInSegment = 0;
+            for (int minute = segmentStartMinute; minute <= segmentEndMinute; minute++) {
+                segmentSum += activePerMinute[minute];
+                segmentPeak = Math.max(segmentPeak, activePerMinute[minute]);
+                segmentJoined += joinedPerMinute[minute];
+                segmentLeft += leftPerMinute[minute];
+                minutesInSegment++;
+            }
+            int average = minutesInSegment > 0 ? segmentSum / minutesInSegment : 0;
+            peakConcurrent = Math.max(peakConcurrent, segmentPeak);
+
+            activeParticipants.add(average);
+            engagementRates.add(uniqueParticipants > 0 ? (average * 100) / uniqueParticipants : 0);
+            usersJoined.add(segmentJoined);
+            usersLeft.add(segmentLeft);
+            peakActiveUsers.add(segmentPeak);
+        }
+
+        Map<String, Object> engagementGraph = new HashMap<>();
+        engagementGraph.put("labels", labels);
+        engagementGraph.put("active_participants", activeParticipants);
+        engagementGraph.put("engagement_rate", engagementRates);
+        engagementGraph.put("users_joined", usersJoined);
+        engagementGraph.put("users_left", usersLeft);
+        engagementGraph.put("peak_active_users", peakActiveUsers);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("meeting_id", meetingId);
+        result.put("live", !ended);
+        result.put("interval_minutes", intervalMinutes);
+        result.put("elapsed_minutes", totalMinutes);
+        result.put("version", version);
+        result.put("total_participants", uniqueParticipants);
+        result.put("current_active_users", currentActive);
+        result.put("final_active_users", currentActive);
+        result.put("peak_concurrent_users", peakConcurrent);
+        result.put("total_joined", totalJoined);
+        result.put("total_left", totalLeft);
+        result.put("engagement_graph", engagementGraph);
+        result.put("data_source", "zoom_webhook");
+        return result;
+    }
+
+    // Replay recorded webhook events - accepts a JSON array or one JSON event per line
+    public int replay(Reader reader) throws IOException {
+        String content;
+        try (BufferedReader buffered = new BufferedReader(reader)) {
+            StringBuilder builder = new StringBuilder();
+            String line;
+            while ((line = buffered.readLine()) != null) {
+                builder.append(line).append('\n');
+            }
+            content = builder.toString().trim();
+        }
+
+        List<JsonNode> events = new ArrayList<>();
+        if (content.startsWith("[")) {
+            objectMapper.readTree(content).forEach(events::add);
+        } else {
+            for (String line : content.split("\n")) {
+                if (!line.isBlank()) {
+                    events.add(objectMapper.readTree(line));
+                }
+            }
+        }
+
+        int applied = 0;
+        for (JsonNode event : events) {
+            if (handleEvent(event)) {
+                applied++;
+            }
+        }
+        System.out.println("🔁 Replayed " + events.size() + " webhook events, " + applied + " applied");
+        return applied;
+    }
+
+    // Drop meetings that have been idle longer than the retention window
+    @Scheduled(fixedDelayString = "${zoom.live.cleanup-delay-ms:600000}")
+    public void evictIdleMeetings() {
+        long cutoff = System.currentTimeMillis() - retentionMinutes * 60_000;
+        for (String meetingId : meetings.keySet()) {
+            // Checked again under the meeting's lock - an event applied meanwhile keeps it
+            ReentrantLock lock = lockFor(meetingId);
+            lock.lock();
+            try {
+                LiveMeetingState state = meetings.get(meetingId);
+                if (state != null && state.lastUpdatedMillis < cutoff) {
+                    meetings.remove(meetingId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(String meetingId) {
+        return locks[(meetingId.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    // Stable identity of a participant across their join and leave events
+    private static String participantKey(JsonNode participant) {
+        for (String field : new String[]{"participant_uuid", "participant_user_id", "user_id", "id", "email", "user_name"}) {
+            String value = participant.path(field).asText("");
+            if (!value.isEmpty()) {
+                return field + ":" + value;
+            }
+        }
+        return null;
+    }
+
+    private static long eventEpochSecond(String isoTime, long eventTimestampMillis) {
+        return parseEpochSecond(isoTime, eventTimestampMillis / 1000);
+    }
+
+    private static long parseEpochSecond(String isoTime, long fallback) {
+        if (isoTime == null || isoTime.isEmpty()) {
+            return fallback;
+        }
+        try {
+            return Instant.parse(isoTime).getEpochSecond();
+        } catch (Exception e) {
+            try {
+                return LocalDateTime.parse(isoTime).toEpochSecond(ZoneOffset.UTC);
+            } catch (Exception ignored) {
+                return fallback;
+            }
+        }
+    }
+
+    // Mutable per-meeting state - only touched while holding the meeting's stripe lock
+    private static class LiveMeetingState {
+        // Timelines cover at most a day from the first event
+        private static final int MAX_MINUTES = 24 * 60;
+
+        private final long startEpochSecond;
+        // concurrencyDiff[m] is the change in active participants at minute m (difference array)
+        private int[] concurrencyDiff = new int[64];
+        private int[] joinedPerMinute = new int[64];
+        private int[] leftPerMinute = new int[64];
+        private int lastMinute = 0;
+        private final Set<String> presentParticipants = new HashSet<>();
+        private final Set<String> seenParticipants = new HashSet<>();
+        private final Map<String, Integer> joinMinuteByParticipant = new HashMap<>();
+        private int totalJoined;
+        private int totalLeft;
+        private long version;
+        private boolean ended;
+        private long lastUpdatedMillis = System.currentTimeMillis();
+
+        private LiveMeetingState(long startEpochSecond) {
+            this.startEpochSecond = startEpochSecond;
+        }
+
+        private boolean join(String participantKey, long eventEpochSecond) {
+            if (!presentParticipants.add(participantKey)) {
+                return false; // duplicate delivery
+            }
+            int minute = minuteOf(eventEpochSecond);
+            ensureCapacity(minute + 2);
+            concurrencyDiff[minute]++;
+            joinedPerMinute[minute]++;
+            joinMinuteByParticipant.put(participantKey, minute);
+            seenParticipants.add(participantKey);
+            totalJoined++;
+            return touch(minute);
+        }
+
+        private boolean leave(String participantKey, long eventEpochSecond) {
+            if (!presentParticipants.remove(participantKey)) {
+                return false; // never joined, or duplicate delivery
+            }
+            // A participant is counted active through the minute they leave, like the report-based engine
+            int minute = Math.max(minuteOf(eventEpochSecond), joinMinuteByParticipant.getOrDefault(participantKey, 0));
+            ensureCapacity(minute + 2);
+            concurrencyDiff[minute + 1]--;
+            leftPerMinute[minute]++;
+            totalLeft++;
+            return touch(minute);
+        }
+
+        private boolean touch(int minute) {
+            lastMinute = Math.max(lastMinute, minute);
+            lastUpdatedMillis = System.currentTimeMillis();
+            version++;
+            return true;
+        }
+
+        // Timeline runs to the latest event, or to now while participants are still in a running meeting
+        private int elapsedMinutes() {
+            int minutes = lastMinute + 1;
+            if (!ended && !presentParticipants.isEmpty()) {
+                long nowMinute = (System.currentTimeMillis() / 1000 - startEpochSecond) / 60;
+                if (nowMinute >= minutes && nowMinute < MAX_MINUTES) {
+                    minutes = (int) nowMinute + 1;
+                    ensureCapacity(minutes + 1);
+                }
+            }
+            return minutes;
+        }
+
+        // Events from before the start count at minute 0, far-future timestamps at the last minute of the day -
+        // clamped before narrowing to int, so no timestamp can overflow or size the arrays
+        private int minuteOf(long eventEpochSecond) {
+            return (int) Math.min(MAX_MINUTES - 1, Math.max(0, (eventEpochSecond - startEpochSecond) / 60));
+        }
+
+        private void ensureCapacity(int size) {
+            if (size > concurrencyDiff.length) {
+                int newSize = Math.max(size, concurrencyDiff.length * 2);
+                concurrencyDiff = Arrays.copyOf(concurrencyDiff, newSize);
+                joinedPerMinute = Arrays.copyOf(joinedPerMinute, newSize);
+                leftPerMinute = Arrays.copyOf(leftPerMinute, newSize);
+            }
+        }
+    }
+}
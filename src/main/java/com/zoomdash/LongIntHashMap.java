@@ -0,0 +1,98 @@
+package com.zoomdash;
+
+// Open-addressing long -> int map without boxing, for hot per-participant lookups.
+// Linear probing over a power-of-two table; there is no removal, entries only accumulate.
+final class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Grow once up front for the expected number of entries instead of doubling repeatedly
+    void ensureCapacity(int expectedSize) {
+        int capacity = keys.length;
+        while (expectedSize >= (int) (capacity * LOAD_FACTOR)) {
+            capacity <<= 1;
+        }
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    // Value stored for key, or missingValue when absent
+    int get(long key, int missingValue) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return missingValue;
+    }
+
+    // Value already stored for key, or stores value and returns missingValue
+    int putIfAbsent(long key, int value, int missingValue) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            resize();
+        }
+        return missingValue;
+    }
+
+    private void resize() {
+        rehash(keys.length << 1);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slot(oldKeys[i], mask);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // Fibonacci hashing spreads clustered keys over the table
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
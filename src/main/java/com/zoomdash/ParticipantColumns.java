@@ -0,0 +1,285 @@
+package com.zoomdash;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Struct-of-arrays participant store for the engagement engine: one int per row and column instead of a
+// Participant object with a dozen Strings. Times are seconds from the first parsed timestamp, strings are
+// dictionary codes (names and emails repeat across the sessions of a user, so each is stored once).
+final class ParticipantColumns {
+
+    // Join / leave time that was missing or did not parse
+    static final int NO_TIME = Integer.MIN_VALUE;
+
+    // Upper bound for ensureCapacity - a bogus total_records must not allocate gigabytes
+    private static final int MAX_PRESIZED_ROWS = 1 << 18;
+    // Distinct dictionary values a row brings: user id, name, email and an identity key
+    private static final int STRINGS_PER_ROW = 4;
+
+    private static final DateTimeFormatter ZOOM_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private int size;
+    private long baseEpochSecond;
+    private boolean hasBase;
+    private char[] keyScratch = new char[64];   // lower-cased email keys
+
+    int[] joinSeconds;
+    int[] leaveSeconds;
+    int[] durationSeconds;
+    int[] userIds;
+    int[] names;
+    int[] emails;
+    int[] attentiveness;
+    int[] identities;       // SessionMerging identity key, NONE when the row has no identity
+    final StringDictionary strings;
+    private final StringInterner interner;
+
+    ParticipantColumns(int expectedRows) {
+        this(expectedRows, null);
+    }
+
+    // Strings decoded from these columns are shared through the interner
+    ParticipantColumns(int expectedRows, StringInterner interner) {
+        this.interner = interner;
+        int capacity = Math.max(16, expectedRows);
+        joinSeconds = new int[capacity];
+        leaveSeconds = new int[capacity];
+        durationSeconds = new int[capacity];
+        userIds = new int[capacity];
+        names = new int[capacity];
+        emails = new int[capacity];
+        attentiveness = new int[capacity];
+        identities = new int[capacity];
+        strings = new StringDictionary(capacity, interner);
+    }
+
+    static ParticipantColumns of(List<Participant> participants) {
+        return new ParticipantColumns(participants.size()).addAll(participants);
+    }
+
+    // Append a page of participants - null pages are ignored
+    ParticipantColumns addAll(List<Participant> participants) {
+        if (participants != null) {
+            for (Participant participant : participants) {
+                add(participant);
+            }
+        }
+        return this;
+    }
+
+    void add(Participant participant) {
+        int row = addRow(parseTime(participant.getJoinTime()), parseTime(participant.getLeaveTime()), participant.getDuration(),
+                strings.encode(participant.getUserId()), strings.encode(participant.getName()),
+                strings.encode(participant.getUserEmail()), strings.encode(participant.getAttentivenessScore()),
+                SessionMerging.identity(keyCode(participant.getParticipantUserId(), false), keyCode(participant.getUserEmail(), true),
+                        keyCode(participant.getRegistrantId(), false), keyCode(participant.getUserId(), false)));
+        if (joinSeconds[row] == NO_TIME || leaveSeconds[row] == NO_TIME) {
+            System.err.println("❌ Error processing participant " + participant.getName() + ": unparseable join/leave time "
+                    + participant.getJoinTime() + " / " + participant.getLeaveTime());
+        }
+    }
+
+    // Append one row of already encoded values - the streaming page decoder's entry point
+    int addRow(int join, int leave, int duration, int userId, int name, int email, int attentivenessScore, int identity) {
+        if (size == joinSeconds.length) {
+            grow();
+        }
+        int row = size++;
+        joinSeconds[row] = join;
+        leaveSeconds[row] = leave;
+        durationSeconds[row] = duration;
+        userIds[row] = userId;
+        names[row] = name;
+        emails[row] = email;
+        attentiveness[row] = attentivenessScore;
+        identities[row] = identity;
+        return row;
+    }
+
+    // Dictionary code of an identity field, NONE when blank. Emails are matched trimmed and lower-cased.
+    int keyCode(String value, boolean email) {
+        if (value == null || value.isBlank()) {
+            return StringDictionary.NONE;
+        }
+        return strings.encode(email ? value.trim().toLowerCase(Locale.ROOT) : value);
+    }
+
+    // The same for a value still in the parser's buffer - ASCII is handled in place, anything else as a String
+    int keyCode(char[] chars, int offset, int length, boolean email) {
+        int start = offset;
+        int end = offset + length;
+        boolean upperCase = false;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c >= 0x80) {
+                return keyCode(new String(chars, offset, length), email);
+            }
+            upperCase |= c >= 'A' && c <= 'Z';
+        }
+        while (start < end && chars[start] <= ' ') {
+            start++;
+        }
+        while (end > start && chars[end - 1] <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return StringDictionary.NONE;      // blank
+        }
+        if (!email) {
+            return strings.encode(chars, offset, length);
+        }
+        if (!upperCase) {
+            return strings.encode(chars, start, end - start);
+        }
+        if (keyScratch.length < end - start) {
+            keyScratch = new char[end - start];
+        }
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            keyScratch[i - start] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return strings.encode(keyScratch, 0, end - start);
+    }
+
+    // Identity of a row as text, e.g. "email:ann@example.com" - null when the row has none
+    String identity(int row) {
+        int identity = identities[row];
+        return identity == StringDictionary.NONE ? null
+                : SessionMerging.identityKind(identity) + ":" + strings.decode(SessionMerging.identityCode(identity));
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Room for this many rows in total, e.g. from total_records of the first page, so the columns
+    // and the dictionary are allocated once instead of doubling page after page
+    void ensureCapacity(int rows) {
+        int capacity = Math.min(rows, MAX_PRESIZED_ROWS);
+        if (capacity > joinSeconds.length) {
+            resize(capacity);
+            strings.ensureCapacity(capacity * STRINGS_PER_ROW);
+        }
+    }
+
+    String string(int code) {
+        return strings.decode(code);
+    }
+
+    // Earliest valid join (the webinar start), NO_TIME when no row has one
+    int earliestJoin() {
+        int earliest = NO_TIME;
+        for (int row = 0; row < size; row++) {
+            int join = joinSeconds[row];
+            if (join != NO_TIME && (earliest == NO_TIME || join < earliest)) {
+                earliest = join;
+            }
+        }
+        return earliest;
+    }
+
+    // Seconds of a timestamp on this store's time axis
+    long secondsOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) - baseEpochSecond;
+    }
+
+    LocalDateTime timeOf(long seconds) {
+        return LocalDateTime.ofEpochSecond(baseEpochSecond + seconds, 0, ZoneOffset.UTC);
+    }
+
+    // Zoom timestamp string of a stored time - the same text the API sent
+    // Formatted times go through the interner too - details, timelines and session intervals repeat them
+    String formatTime(int seconds) {
+        if (seconds == NO_TIME) {
+            return null;
+        }
+        String formatted = timeOf(seconds).format(ZOOM_TIME_FORMATTER);
+        return interner != null ? interner.intern(formatted) : formatted;
+    }
+
+    int parseTime(String value) {
+        if (value == null) {
+            return NO_TIME;
+        }
+        try {
+            return relative(epochSecond(value));
+        } catch (Exception e) {
+            return NO_TIME;
+        }
+    }
+
+    // Timestamp still in the parser's buffer - only unusual values are turned into a String
+    int parseTime(char[] chars, int offset, int length) {
+        long epochSecond = length == 20 ? fastEpochSecond(chars, offset) : -1;
+        return epochSecond >= 0 ? relative(epochSecond) : parseTime(new String(chars, offset, length));
+    }
+
+    private int relative(long epochSecond) {
+        if (!hasBase) {
+            baseEpochSecond = epochSecond;
+            hasBase = true;
+        }
+        long seconds = epochSecond - baseEpochSecond;
+        // Integer.MIN_VALUE is the NO_TIME marker; anything beyond +-68 years is not a real session
+        return seconds > Integer.MIN_VALUE && seconds <= Integer.MAX_VALUE ? (int) seconds : NO_TIME;
+    }
+
+    // yyyy-MM-ddTHH:mm:ssZ read digit by digit; anything else (or a day the formatter would adjust) goes
+    // through the formatter, so the result is always exactly what ZOOM_TIME_FORMATTER would parse
+    private static long epochSecond(String value) {
+        long epochSecond = value.length() == 20 ? fastEpochSecond(value.toCharArray(), 0) : -1;
+        return epochSecond >= 0 ? epochSecond : LocalDateTime.parse(value, ZOOM_TIME_FORMATTER).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // Epoch second of the 20 chars at offset, -1 when they are not a plain valid timestamp
+    private static long fastEpochSecond(char[] value, int offset) {
+        if (value[offset + 4] != '-' || value[offset + 7] != '-' || value[offset + 10] != 'T'
+                || value[offset + 13] != ':' || value[offset + 16] != ':' || value[offset + 19] != 'Z') {
+            return -1;
+        }
+        int year = digits(value, offset, 4);
+        int month = digits(value, offset + 5, 2);
+        int day = digits(value, offset + 8, 2);
+        int hour = digits(value, offset + 11, 2);
+        int minute = digits(value, offset + 14, 2);
+        int second = digits(value, offset + 17, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return LocalDate.of(year, month, day).toEpochDay() * 86_400 + hour * 3_600 + minute * 60 + second;
+    }
+
+    // Non-negative value of count ASCII digits, -1 when one is not a digit
+    private static int digits(char[] value, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private void grow() {
+        resize(joinSeconds.length * 2);
+    }
+
+    private void resize(int capacity) {
+        joinSeconds = Arrays.copyOf(joinSeconds, capacity);
+        leaveSeconds = Arrays.copyOf(leaveSeconds, capacity);
+        durationSeconds = Arrays.copyOf(durationSeconds, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        attentiveness = Arrays.copyOf(attentiveness, capacity);
+        identities = Arrays.copyOf(identities, capacity);
+    }
+}
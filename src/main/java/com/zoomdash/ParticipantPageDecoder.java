@@ -0,0 +1,240 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// Streaming decoder for one Zoom participants report page. The response DataBuffers are fed to Jackson's
+// non-blocking parser as they arrive and the fields the engine needs go straight into ParticipantColumns -
+// no Participant object per row, unused fields and nested values are skipped token by token.
+final class ParticipantPageDecoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    // Depths of the token stream: the page object, the participants array, one participant
+    private static final int PAGE = 1;
+    private static final int ROWS = 2;
+    private static final int ROW = 3;
+
+    // Paging fields of the decoded page
+    static final class Page {
+        int firstRow;           // first row of this page in the columns
+        int rows;
+        int totalRecords;
+        int pageSize;
+        int pageCount;
+        String nextPageToken;
+
+        boolean hasNext() {
+            return nextPageToken != null && !nextPageToken.isEmpty();
+        }
+    }
+
+    private final ParticipantColumns columns;
+    private final JsonParser parser;
+    private final Page page = new Page();
+    private byte[] scratch = new byte[0];   // copy of a buffer without an accessible array
+
+    private int depth;
+    private String pageField;
+    private String rowField;
+    private boolean inRows;
+
+    // Fields of the participant being read, already encoded - strings are dictionary codes and are read
+    // from the parser's char buffer, so no String is created for a value the dictionary already holds
+    private int join;
+    private int leave;
+    private int duration;
+    private int userId;
+    private int name;
+    private int email;
+    private int attentiveness;
+    private int accountKey;
+    private int emailKey;
+    private int registrantKey;
+    private int participantKey;
+
+    ParticipantPageDecoder(ParticipantColumns columns) {
+        this.columns = columns;
+        this.page.firstRow = columns.size();
+        try {
+            this.parser = JSON.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create non-blocking JSON parser", e);
+        }
+    }
+
+    // Decode one chunk of the body - the buffer is fully consumed and can be released afterwards
+    void feed(DataBuffer buffer) {
+        ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        try (DataBuffer.ByteBufferIterator byteBuffers = buffer.readableByteBuffers()) {
+            while (byteBuffers.hasNext()) {
+                ByteBuffer bytes = byteBuffers.next();
+                if (bytes.hasArray()) {
+                    int start = bytes.arrayOffset() + bytes.position();
+                    feeder.feedInput(bytes.array(), start, start + bytes.remaining());
+                } else {
+                    // Direct (Netty) and read-only buffers are copied - the array-backed parser is much faster than the
+                    // ByteBuffer one. drain() consumes the whole input, so the same scratch array serves every chunk
+                    int length = bytes.remaining();
+                    if (scratch.length < length) {
+                        scratch = new byte[length];
+                    }
+                    bytes.get(scratch, 0, length);
+                    feeder.feedInput(scratch, 0, length);
+                }
+                drain();
+            }
+        } catch (IOException e) {
+            throw new DecodingException("Malformed participants page: " + e.getMessage(), e);
+        }
+    }
+
+    // End of the body - the page must be complete
+    Page finish() {
+        try {
+            parser.getNonBlockingInputFeeder().endOfInput();
+            drain();
+            parser.close();
+        } catch (IOException e) {
+            throw new DecodingException("Malformed participants page: " + e.getMessage(), e);
+        }
+        if (depth != 0) {
+            throw new DecodingException("Participants page ended after " + page.rows + " rows, inside an unfinished JSON value");
+        }
+        return page;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    depth++;
+                    if (depth == ROWS && token == JsonToken.START_ARRAY && "participants".equals(pageField)) {
+                        inRows = true;
+                    } else if (depth == ROW && inRows && token == JsonToken.START_OBJECT) {
+                        startRow();
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (depth == ROW && inRows && token == JsonToken.END_OBJECT) {
+                        endRow();
+                    } else if (depth == ROWS) {
+                        inRows = false;
+                    }
+                    depth--;
+                }
+                case FIELD_NAME -> {
+                    if (depth == PAGE) {
+                        pageField = parser.currentName();
+                    } else if (depth == ROW) {
+                        rowField = parser.currentName();
+                    }
+                }
+                default -> {
+                    if (depth == PAGE) {
+                        pageValue(token);
+                    } else if (depth == ROW && inRows) {
+                        rowValue(token);
+                    }
+                }
+            }
+        }
+    }
+
+    private void pageValue(JsonToken token) throws IOException {
+        switch (pageField) {
+            case "next_page_token" -> page.nextPageToken = text(token);
+            case "total_records" -> {
+                page.totalRecords = number(token);
+                // Zoom sends the paging fields before the rows - size the store for all pages at once
+                columns.ensureCapacity(page.totalRecords);
+            }
+            case "page_size" -> page.pageSize = number(token);
+            case "page_count" -> page.pageCount = number(token);
+            default -> { }
+        }
+    }
+
+    // Scalars bind to String fields as their text, like Jackson binding a Participant would
+    private void rowValue(JsonToken token) throws IOException {
+        boolean isNull = token == JsonToken.VALUE_NULL;
+        switch (rowField) {
+            case "join_time" -> join = isNull ? ParticipantColumns.NO_TIME
+                    : columns.parseTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            case "leave_time" -> leave = isNull ? ParticipantColumns.NO_TIME
+                    : columns.parseTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            case "duration" -> duration = number(token);
+            case "user_id" -> {
+                userId = isNull ? StringDictionary.NONE : code();
+                participantKey = isNull ? StringDictionary.NONE : key(false);
+            }
+            case "name" -> name = isNull ? StringDictionary.NONE : code();
+            case "user_email" -> {
+                email = isNull ? StringDictionary.NONE : code();
+                emailKey = isNull ? StringDictionary.NONE : key(true);
+            }
+            case "attentiveness_score" -> attentiveness = isNull ? StringDictionary.NONE : code();
+            case "participant_user_id" -> accountKey = isNull ? StringDictionary.NONE : key(false);
+            case "registrant_id" -> registrantKey = isNull ? StringDictionary.NONE : key(false);
+            default -> { }
+        }
+    }
+
+    private void startRow() {
+        join = ParticipantColumns.NO_TIME;
+        leave = ParticipantColumns.NO_TIME;
+        duration = 0;
+        userId = StringDictionary.NONE;
+        name = StringDictionary.NONE;
+        email = StringDictionary.NONE;
+        attentiveness = StringDictionary.NONE;
+        accountKey = StringDictionary.NONE;
+        emailKey = StringDictionary.NONE;
+        registrantKey = StringDictionary.NONE;
+        participantKey = StringDictionary.NONE;
+    }
+
+    private void endRow() {
+        columns.addRow(join, leave, duration, userId, name, email, attentiveness,
+                SessionMerging.identity(accountKey, emailKey, registrantKey, participantKey));
+        if (join == ParticipantColumns.NO_TIME || leave == ParticipantColumns.NO_TIME) {
+            System.err.println("❌ Error processing participant " + columns.string(name) + ": unparseable join/leave time");
+        }
+        page.rows++;
+    }
+
+    private int code() throws IOException {
+        return columns.strings.encode(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private int key(boolean email) throws IOException {
+        return columns.keyCode(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), email);
+    }
+
+    private String text(JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    // Numbers as Jackson would bind them to an int field: numeric strings are coerced, anything else is 0
+    private int number(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
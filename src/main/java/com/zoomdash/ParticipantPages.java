@@ -0,0 +1,182 @@
+package com.zoomdash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Cursor paging over the participant_details / user_timelines of a computed analytics result,
+// so the headline analytics response does not have to carry every participant inline
+final class ParticipantPages {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    // Filtered and sorted participant order per query fingerprint - the fingerprint holds the data tag (the cached
+    // result's ETag), so every page of one listing reuses the order sorted for its first page
+    private static final int MAX_CACHED_ORDERS = 64;
+    private static final Map<String, int[]> orders = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+            return size() > MAX_CACHED_ORDERS;
+        }
+    };
+
+    private ParticipantPages() {
+    }
+
+    // Query of one paged listing - the cursor is only valid for the same query over the same data
+    static class Query {
+        String sort = "join_time";      // join_time | duration
+        boolean descending;
+        String prefix;                  // name or email prefix, case-insensitive
+        Integer segment;                // only participants present in this segment
+        boolean includeTimelines;
+        int limit = DEFAULT_PAGE_SIZE;
+
+        private String fingerprint(String dataTag) {
+            return String.join("|", sort, String.valueOf(descending), String.valueOf(prefix),
+                    String.valueOf(segment), String.valueOf(dataTag));
+        }
+    }
+
+    // One page of participants, or an error map when the cursor does not belong to this query / data
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> page(Map<String, Object> analytics, Query query, String cursor, String dataTag) {
+        List<Map<String, Object>> details = (List<Map<String, Object>>) analytics.get("participant_details");
+        List<Map<String, Object>> timelines = (List<Map<String, Object>>) analytics.get("user_timelines");
+        if (details == null) {
+            details = Collections.emptyList();
+        }
+        // Both lists are built in the same pass over the participants, so index i is the same person
+        boolean timelinesAligned = timelines != null && timelines.size() == details.size();
+
+        String fingerprint = Integer.toHexString(query.fingerprint(dataTag).hashCode());
+        int offset = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] decoded = decodeCursor(cursor);
+            if (decoded == null || !decoded[1].equals(fingerprint)) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("success", false);
+                error.put("error", "Cursor does not match this query or the analytics changed - restart without a cursor");
+                return error;
+            }
+            offset = Integer.parseInt(decoded[0]);
+        }
+
+        int[] matching = dataTag != null ? cachedOrder(query.fingerprint(dataTag), details, query) : sortedOrder(details, query);
+
+        int from = Math.min(offset, matching.length);
+        int to = Math.min(from + query.limit, matching.length);
+        List<Map<String, Object>> pageDetails = new ArrayList<>(to - from);
+        List<Map<String, Object>> pageTimelines = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            int index = matching[position];
+            pageDetails.add(details.get(index));
+            if (query.includeTimelines && timelinesAligned) {
+                pageTimelines.add(timelines.get(index));
+            }
+        }
+
+        Map<String, Object> page = new HashMap<>();
+        page.put("success", true);
+        page.put("participants", pageDetails);
+        if (query.includeTimelines) {
+            page.put("user_timelines", pageTimelines);
+        }
+        page.put("total_matching", matching.length);
+        page.put("total_participants", details.size());
+        page.put("offset", from);
+        page.put("limit", query.limit);
+        page.put("sort", query.sort);
+        page.put("order", query.descending ? "desc" : "asc");
+        page.put("next_cursor", to < matching.length ? encodeCursor(to, fingerprint) : null);
+        return page;
+    }
+
+    private static int[] cachedOrder(String key, List<Map<String, Object>> details, Query query) {
+        synchronized (orders) {
+            int[] order = orders.get(key);
+            if (order != null) {
+                return order;
+            }
+        }
+        // Sorted outside the lock - two first pages at once both sort, and the later one wins
+        int[] order = sortedOrder(details, query);
+        synchronized (orders) {
+            orders.put(key, order);
+        }
+        return order;
+    }
+
+    // Positions of the matching participants in query order
+    private static int[] sortedOrder(List<Map<String, Object>> details, Query query) {
+        List<Integer> matching = new ArrayList<>();
+        for (int i = 0; i < details.size(); i++) {
+            if (matches(details.get(i), query)) {
+                matching.add(i);
+            }
+        }
+        Comparator<Integer> order = "duration".equals(query.sort)
+                ? Comparator.comparingDouble(i -> number(details.get(i).get("duration_seconds")))
+                : Comparator.comparing(i -> String.valueOf(details.get(i).get("join_time")));
+        if (query.descending) {
+            order = order.reversed();
+        }
+        // Stable tie-break on position keeps pages consistent between requests
+        matching.sort(order.thenComparing(Comparator.naturalOrder()));
+        return matching.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Copy of an analytics result without the per-participant lists - the cached result itself is not modified
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> withoutParticipantLists(Map<String, Object> analytics) {
+        Map<String, Object> headline = new HashMap<>(analytics);
+        Object details = headline.remove("participant_details");
+        headline.remove("user_timelines");
+        if (headline.get("engagement_metrics") instanceof Map) {
+            Map<String, Object> metrics = new HashMap<>((Map<String, Object>) headline.get("engagement_metrics"));
+            metrics.remove("participant_details");
+            headline.put("engagement_metrics", metrics);
+        }
+
+        headline.put("participants_paged", true);
+        headline.put("participant_count", details instanceof List ? ((List<?>) details).size() : 0);
+        return headline;
+    }
+
+    private static boolean matches(Map<String, Object> detail, Query query) {
+        if (query.prefix != null && !query.prefix.isEmpty()) {
+            String prefix = query.prefix.toLowerCase(Locale.ROOT);
+            String name = String.valueOf(detail.getOrDefault("name", "")).toLowerCase(Locale.ROOT);
+            String email = String.valueOf(detail.getOrDefault("email", "")).toLowerCase(Locale.ROOT);
+            if (!name.startsWith(prefix) && !email.startsWith(prefix)) {
+                return false;
+            }
+        }
+        if (query.segment != null) {
+            double joinSegment = number(detail.get("join_segment"));
+            double leaveSegment = number(detail.get("leave_segment"));
+            return joinSegment <= query.segment && query.segment <= leaveSegment;
+        }
+        return true;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static String encodeCursor(int offset, String fingerprint) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((offset + ":" + fingerprint).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (parts.length != 2 || Integer.parseInt(parts[0]) < 0) {
+                return null;
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Same byte-level proxy as TranscriptProxyController on Reactor Netty - the upstream Flux<DataBuffer> is
+// written to the client connection directly, with Netty's backpressure instead of a blocking bridge
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "http://localhost:5173")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTranscriptProxyController {
+
+    private final ZoomService zoomService;
+
+    @Value("${zoom.proxy.idle-timeout-seconds:90}")
+    private long idleTimeoutSeconds;
+
+    public ReactiveTranscriptProxyController(ZoomService zoomService) {
+        this.zoomService = zoomService;
+    }
+
+    @RequestMapping(value = "/transcript-proxy/{meetingId}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> proxyTranscript(
+            @PathVariable String meetingId,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpMethod method) {
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        System.out.println("🔀 PROXY TRANSCRIPT for: " + meetingId + (range != null ? " range: " + range : ""));
+
+        return zoomService.getMeetingTranscript(meetingId)
+                .flatMap(transcriptInfo -> {
+                    if (!Boolean.TRUE.equals(transcriptInfo.get("success"))) {
+                        return Mono.just(errorBody(404, "No transcript available"));
+                    }
+                    return relay(meetingId, (String) transcriptInfo.get("download_url"), requestHeaders, HttpMethod.HEAD.equals(method));
+                })
+                .onErrorResume(e -> Mono.just(upstreamError(e)));
+    }
+
+    @RequestMapping(value = "/recording-proxy/{meetingId}/{fileId}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> proxyRecording(
+            @PathVariable String meetingId,
+            @PathVariable String fileId,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpMethod method) {
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        System.out.println("🔀 PROXY RECORDING " + fileId + " for: " + meetingId + (range != null ? " range: " + range : ""));
+
+        return zoomService.getMeetingRecordings(meetingId)
+                .flatMap(recordings -> {
+                    Optional<RecordingFile> file = Optional.ofNullable(recordings.getRecordingFiles())
+                            .flatMap(files -> files.stream().filter(f -> fileId.equals(f.getId())).findFirst());
+                    if (file.isEmpty()) {
+                        return Mono.just(errorBody(404, "Recording file not found: " + fileId));
+                    }
+                    return relay(meetingId, file.get().getDownloadUrl(), requestHeaders, HttpMethod.HEAD.equals(method));
+                })
+                .onErrorResume(e -> Mono.just(upstreamError(e)));
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> relay(String meetingId, String downloadUrl,
+                                                         HttpHeaders requestHeaders, boolean headOnly) {
+        return zoomService.openDownloadStream(downloadUrl, requestHeaders, headOnly)
+                .map(upstream -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.status(upstream.getStatusCode());
+                    for (String header : TranscriptProxyController.RELAYED_HEADERS) {
+                        String value = upstream.getHeaders().getFirst(header);
+                        if (value != null) {
+                            response.header(header, value);
+                        }
+                    }
+                    response.header("X-Streaming", "proxy");
+
+                    if (upstream.getBody() == null || headOnly) {
+                        return response.body(Flux.<DataBuffer>empty());
+                    }
+                    AtomicLong bytes = new AtomicLong();
+                    // Cancelling the response (client gone) cancels the upstream download
+                    Flux<DataBuffer> body = upstream.getBody()
+                            .timeout(Duration.ofSeconds(idleTimeoutSeconds))
+                            .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                            .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                            .doOnComplete(() -> System.out.println("✅ Proxied " + bytes.get() + " bytes for meeting: " + meetingId));
+                    return response.body(body);
+                });
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> upstreamError(Throwable e) {
+        System.out.println("❌ Proxy error: " + e.getMessage());
+        if (e instanceof WebClientResponseException) {
+            return errorBody(((WebClientResponseException) e).getStatusCode().value(), "Upstream error: " + e.getMessage());
+        }
+        return errorBody(502, "Proxy failed: " + e.getMessage());
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> errorBody(int status, String message) {
+        byte[] bytes = ("ERROR: " + message).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(bytes.length)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
+    }
+}
@@ -0,0 +1,155 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Recordings list (/meetings/{id}/recordings) of each meeting, shared by the transcript, proxy and debug
+// paths - one dashboard page load used to fetch the same list several times. Entries expire after a TTL
+// and are dropped explicitly when Zoom reports a recording change.
+@Component
+public class RecordingsCache {
+
+    private final Map<String, CachedRecordings> entries = new ConcurrentHashMap<>();
+
+    // Fetches currently running, so concurrent callers share one upstream request. An invalidate removes the
+    // meeting's fetch - one that is no longer registered here may carry the old list and is not cached.
+    private final Map<String, Mono<Recordings>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final RecordingsDecoder decoder;
+
+    @Value("${zoom.recordings-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    public RecordingsCache(ObjectMapper objectMapper) {
+        this.decoder = new RecordingsDecoder(objectMapper);
+    }
+
+    // Recordings list of one meeting: the raw body (for diagnostics), the typed response and its files by file_type
+    public static final class Recordings {
+        final String rawBody;
+        final ZoomRecordingsResponse response;
+        final Map<String, List<RecordingFile>> filesByType;
+        final long fetchedAtMillis;
+
+        Recordings(String rawBody, ZoomRecordingsResponse response) {
+            this.rawBody = rawBody != null ? rawBody : "";
+            this.response = response;
+            this.fetchedAtMillis = System.currentTimeMillis();
+            Map<String, List<RecordingFile>> byType = new HashMap<>();
+            for (RecordingFile file : RecordingsDecoder.files(response)) {
+                if (file.getFileType() != null) {
+                    byType.computeIfAbsent(file.getFileType(), type -> new ArrayList<>(1)).add(file);
+                }
+            }
+            this.filesByType = byType;
+        }
+
+        List<RecordingFile> files() {
+            return RecordingsDecoder.files(response);
+        }
+
+        // First file of the type in Zoom's order, or null
+        RecordingFile first(String fileType) {
+            List<RecordingFile> files = filesByType.get(fileType);
+            return files != null ? files.get(0) : null;
+        }
+
+        boolean hasRecordingFiles() {
+            return response.getRecordingFiles() != null;
+        }
+    }
+
+    // Cached list when fresh, otherwise the body is fetched once and decoded. Only a body that decodes to
+    // a recordings object is cached - errors and unparseable bodies are fetched again next time.
+    public Mono<Recordings> getOrFetch(String meetingId, Supplier<Mono<String>> fetchBody) {
+        Recordings cached = get(meetingId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Mono.just(cached);
+        }
+        misses.incrementAndGet();
+
+        return inFlight.computeIfAbsent(meetingId, id -> {
+            // Removed only while it is still this fetch - an invalidate may already have replaced it with a newer one
+            AtomicReference<Mono<Recordings>> self = new AtomicReference<>();
+            Mono<Recordings> fetch = Mono.defer(fetchBody)
+                    .map(body -> new Recordings(body, decoder.decode(body)))
+                    .doOnNext(recordings -> {
+                        if (recordings.hasRecordingFiles()) {
+                            put(id, recordings, self.get());
+                        }
+                        // Before callers see the list - an invalidate right after must not find this fetch still in flight
+                        inFlight.remove(id, self.get());
+                    })
+                    .doFinally(signal -> inFlight.remove(id, self.get()))
+                    .cache();
+            self.set(fetch);
+            return fetch;
+        });
+    }
+
+    public Recordings get(String meetingId) {
+        CachedRecordings entry = entries.get(meetingId);
+        if (entry == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.recordings;
+    }
+
+    // Checked and stored under the entry's lock, so an invalidate cannot slip in between
+    private void put(String meetingId, Recordings recordings, Mono<Recordings> fetch) {
+        entries.values().removeIf(CachedRecordings::isExpired);
+        entries.compute(meetingId, (id, current) -> inFlight.get(id) == fetch
+                ? new CachedRecordings(recordings, recordings.fetchedAtMillis + ttlSeconds * 1000)
+                : current);
+    }
+
+    // Drop a meeting's list and any fetch of it still running - the next caller fetches it again
+    public void invalidate(String meetingId) {
+        // The fetch is dropped under the entry's lock too, so it cannot store its list after this
+        entries.compute(meetingId, (id, current) -> {
+            inFlight.remove(id);
+            if (current != null) {
+                invalidations.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("in_flight", inFlight.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("ttl_seconds", ttlSeconds);
+        return stats;
+    }
+
+    private static class CachedRecordings {
+        private final Recordings recordings;
+        private final long expiresAtMillis;
+
+        private CachedRecordings(Recordings recordings, long expiresAtMillis) {
+            this.recordings = recordings;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// Typed view of a Zoom recordings list for the diagnostic endpoints, which keep the raw body for previews.
+// The body is decoded once with the shared ObjectMapper - no per-call mapper, no scanning of the raw text.
+final class RecordingsDecoder {
+
+    private final ObjectReader reader;
+
+    RecordingsDecoder(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(ZoomRecordingsResponse.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    // A body that is not a recordings object (an error page, truncated JSON) decodes as an empty list
+    ZoomRecordingsResponse decode(String body) {
+        if (body == null || body.isBlank()) {
+            return new ZoomRecordingsResponse();
+        }
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            System.out.println("⚠️ Error parsing recordings JSON: " + e.getMessage());
+            return new ZoomRecordingsResponse();
+        }
+    }
+
+    static List<RecordingFile> files(ZoomRecordingsResponse recordings) {
+        return recordings.getRecordingFiles() != null ? recordings.getRecordingFiles() : Collections.emptyList();
+    }
+
+    // The transcript file - an exact TRANSCRIPT type first, then any type mentioning a transcript
+    static RecordingFile transcript(ZoomRecordingsResponse recordings) {
+        RecordingFile lenient = null;
+        for (RecordingFile file : files(recordings)) {
+            String fileType = file.getFileType();
+            if ("TRANSCRIPT".equals(fileType)) {
+                return file;
+            }
+            if (lenient == null && fileType != null && fileType.toUpperCase(Locale.ROOT).contains("TRANSCRIPT")) {
+                lenient = file;
+            }
+        }
+        return lenient;
+    }
+
+    static String transcriptUrl(ZoomRecordingsResponse recordings) {
+        RecordingFile transcript = transcript(recordings);
+        return transcript != null ? transcript.getDownloadUrl() : null;
+    }
+
+    static List<String> fileTypes(ZoomRecordingsResponse recordings) {
+        List<String> fileTypes = new ArrayList<>();
+        for (RecordingFile file : files(recordings)) {
+            if (file.getFileType() != null) {
+                fileTypes.add(file.getFileType());
+            }
+        }
+        return fileTypes;
+    }
+}
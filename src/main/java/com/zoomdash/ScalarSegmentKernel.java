@@ -0,0 +1,44 @@
+package com.zoomdash;
+
+// Plain loops - the fallback whenever the Vector API is not available
+final class ScalarSegmentKernel implements SegmentKernel {
+
+    static final ScalarSegmentKernel INSTANCE = new ScalarSegmentKernel();
+
+    private ScalarSegmentKernel() {
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public int[] prefixSum(int[] differences, int length) {
+        int[] running = new int[length];
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += differences[i];
+            running[i] = sum;
+        }
+        return running;
+    }
+
+    @Override
+    public void segmentStats(int[] values, int length, int segmentLength, int[] averages, int[] peaks) {
+        for (int segment = 0; segment < averages.length; segment++) {
+            int start = segment * segmentLength;
+            int end = Math.min(start + segmentLength, length);
+            int sum = 0;
+            int peak = 0;
+            for (int i = start; i < end; i++) {
+                sum += values[i];
+                if (values[i] > peak) {
+                    peak = values[i];
+                }
+            }
+            averages[segment] = end > start ? sum / (end - start) : 0;
+            peaks[segment] = peak;
+        }
+    }
+}
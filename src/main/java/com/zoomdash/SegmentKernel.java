@@ -0,0 +1,15 @@
+package com.zoomdash;
+
+// Int-array kernels of the engagement engine: turning the difference array into concurrency,
+// and the per-segment average / peak reductions over it
+interface SegmentKernel {
+
+    String name();
+
+    // Running sum of the first length entries - concurrency per minute (or second) from the join/leave differences
+    int[] prefixSum(int[] differences, int length);
+
+    // Integer average and peak of each segment of segmentLength values (the last one may be shorter,
+    // segments past the end are 0). Segments are written to averages / peaks, one per array slot.
+    void segmentStats(int[] values, int length, int segmentLength, int[] averages, int[] peaks);
+}
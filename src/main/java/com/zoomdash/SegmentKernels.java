@@ -0,0 +1,30 @@
+package com.zoomdash;
+
+// Picks the segment kernel once at startup
+final class SegmentKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private SegmentKernels() {
+    }
+
+    // auto = vector when the incubator module is loaded, scalar otherwise; vector / scalar force one
+    static SegmentKernel select(String mode) {
+        if ("scalar".equals(mode)) {
+            return ScalarSegmentKernel.INSTANCE;
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            if ("vector".equals(mode)) {
+                System.out.println("⚠️ Vector kernel requested but the JVM was started without --add-modules " + VECTOR_MODULE + ", using scalar");
+            }
+            return ScalarSegmentKernel.INSTANCE;
+        }
+        try {
+            // Loaded by name, so the class (and the incubator module) is only linked when present
+            return (SegmentKernel) Class.forName("com.zoomdash.VectorSegmentKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            System.out.println("⚠️ Vector kernel unavailable (" + e + "), using scalar");
+            return ScalarSegmentKernel.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.zoomdash;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Zoom report endpoints return one row per join session - a user who reconnects five times is five rows.
+// This stage groups the sessions by user identity so the engine counts users, not reconnects.
+final class SessionMerging {
+
+    private SessionMerging() {
+    }
+
+    // Sessions grouped by user: the rows of user u are rows[offsets[u] .. offsets[u + 1]),
+    // users in order of first appearance and each user's sessions in input order
+    static final class Groups {
+        final ParticipantColumns columns;
+        final int[] rows;
+        final int[] offsets;
+
+        private Groups(ParticipantColumns columns, int[] rows, int[] offsets) {
+            this.columns = columns;
+            this.rows = rows;
+            this.offsets = offsets;
+        }
+
+        int users() {
+            return offsets.length - 1;
+        }
+
+        int sessionCount() {
+            return rows.length;
+        }
+    }
+
+    // Every row its own user - the pre-merging behaviour
+    static Groups unmerged(ParticipantColumns columns) {
+        int[] offsets = new int[columns.size() + 1];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = i;
+        }
+        return new Groups(columns, Arrays.copyOf(offsets, columns.size()), offsets);
+    }
+
+    static Groups merge(List<Participant> participants) {
+        return merge(ParticipantColumns.of(participants));
+    }
+
+    static Groups merge(ParticipantColumns columns) {
+        int count = columns.size();
+        int[] userOf = new int[count];
+        LongIntHashMap userOfIdentity = new LongIntHashMap(count);
+
+        int users = 0;
+        for (int row = 0; row < count; row++) {
+            int identity = columns.identities[row];
+            if (identity == StringDictionary.NONE) {
+                userOf[row] = users++;     // no identity - cannot be matched to another session
+            } else {
+                int user = userOfIdentity.putIfAbsent(identity, users, -1);
+                userOf[row] = user >= 0 ? user : users++;
+            }
+        }
+
+        // Counting sort of the rows by user keeps both orders stable
+        int[] offsets = new int[users + 1];
+        for (int row = 0; row < count; row++) {
+            offsets[userOf[row] + 1]++;
+        }
+        for (int user = 0; user < users; user++) {
+            offsets[user + 1] += offsets[user];
+        }
+        int[] next = Arrays.copyOf(offsets, users);
+        int[] rows = new int[count];
+        for (int row = 0; row < count; row++) {
+            rows[next[userOf[row]]++] = row;
+        }
+        return new Groups(columns, rows, offsets);
+    }
+
+    // Kinds of identity, strongest first - the kind is kept in the low bits of the identity
+    private static final String[] KINDS = {"account", "email", "registrant", "participant"};
+
+    // Strongest identity first: Zoom account id, email, webinar registrant id, then the per-meeting participant id.
+    // Arguments are dictionary codes of the non-blank values (emails trimmed and lower-cased); NONE when the
+    // row has none of them.
+    static int identity(int accountId, int emailKey, int registrantId, int participantId) {
+        if (accountId != StringDictionary.NONE) {
+            return accountId << 2;
+        }
+        if (emailKey != StringDictionary.NONE) {
+            return emailKey << 2 | 1;
+        }
+        if (registrantId != StringDictionary.NONE) {
+            return registrantId << 2 | 2;
+        }
+        return participantId != StringDictionary.NONE ? participantId << 2 | 3 : StringDictionary.NONE;
+    }
+
+    static String identityKind(int identity) {
+        return KINDS[identity & 3];
+    }
+
+    static int identityCode(int identity) {
+        return identity >>> 2;
+    }
+}
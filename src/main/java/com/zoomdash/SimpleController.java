@@ -1,6 +1,12 @@
 package com.zoomdash;
 
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
@@ -8,22 +14,57 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "http://localhost:5173")
 public class SimpleController {
     
+    private static final String ANALYTICS_VERSION_HEADER = "X-Analytics-Version";
+
+    // Splits on line endings and keeps them, so the streamed text is byte-for-byte the upstream VTT
+    private static final StringDecoder TRANSCRIPT_DECODER = StringDecoder.allMimeTypes(StringDecoder.DEFAULT_DELIMITERS, false);
+
     private final ZoomService zoomService;
     private final WebClient.Builder webClientBuilder;
+    private final EngagementRollupService rollupService;
+    private final DownloadRedirectCache redirectCache;
+    private final AnalyticsCache analyticsCache;
+    private final AnalyticsVersionHistory versionHistory;
+    private final EngagementComputeScheduler computeScheduler;
+    private final StringInterner stringInterner;
+    private final RecordingsCache recordingsCache;
+    private final ZoomCircuitBreakers circuitBreakers;
+    
+    // How long browsers and CDNs may reuse an analytics or transcript response before revalidating its ETag
+    @Value("${zoom.http-cache.max-age-seconds:300}")
+    private long httpCacheMaxAgeSeconds;
     
-    public SimpleController(ZoomService zoomService, WebClient.Builder webClientBuilder) {
+    @Value("${zoom.participants.max-page-size:1000}")
+    private int maxParticipantPageSize;
+    
+    public SimpleController(ZoomService zoomService, WebClient.Builder webClientBuilder, EngagementRollupService rollupService,
+                            DownloadRedirectCache redirectCache, AnalyticsCache analyticsCache,
+                            AnalyticsVersionHistory versionHistory, EngagementComputeScheduler computeScheduler,
+                            StringInterner stringInterner, RecordingsCache recordingsCache,
+                            ZoomCircuitBreakers circuitBreakers) {
         this.zoomService = zoomService;
         this.webClientBuilder = webClientBuilder;
+        this.rollupService = rollupService;
+        this.redirectCache = redirectCache;
+        this.analyticsCache = analyticsCache;
+        this.versionHistory = versionHistory;
+        this.computeScheduler = computeScheduler;
+        this.stringInterner = stringInterner;
+        this.recordingsCache = recordingsCache;
+        this.circuitBreakers = circuitBreakers;
     }
     
     // ========== COMPLETE DEBUGGING ENDPOINTS ==========
@@ -58,28 +99,20 @@ public class SimpleController {
                     System.out.println("   Expires In: " + authResponse.getExpiresIn() + " seconds");
                     
                     // STEP 2: Get recordings list
-                    return webClientBuilder.build()
-                            .get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(String.class) // Get raw JSON response
-                            .flatMap(rawResponse -> {
+                    return zoomService.getRecordings(meetingId) // Shared recordings cache - the raw body is kept for the previews
+                            .flatMap(cachedRecordings -> {
+                                String rawResponse = cachedRecordings.rawBody;
+                                ZoomRecordingsResponse recordings = cachedRecordings.response;
                                 Map<String, Object> step2 = new HashMap<>();
                                 step2.put("step", 2);
                                 step2.put("description", "Get Recordings List");
                                 step2.put("success", rawResponse != null && !rawResponse.isEmpty());
                                 step2.put("response_length", rawResponse.length());
-                                step2.put("has_recordings", rawResponse.contains("recording_files"));
-                                
-                                // Try to parse to find transcript
-                                boolean hasTranscript = rawResponse.contains("\"file_type\":\"TRANSCRIPT\"") || 
-                                                       rawResponse.contains("\"file_type\":\"TRANSCRIPT\"") ||
-                                                       rawResponse.contains("TRANSCRIPT");
-                                step2.put("has_transcript", hasTranscript);
+                                step2.put("has_recordings", recordings.getRecordingFiles() != null);
+                                step2.put("has_transcript", RecordingsDecoder.transcript(recordings) != null);
                                 
-                                // Find download URL in raw response
-                                String downloadUrl = extractDownloadUrl(rawResponse);
+                                // Find the transcript download URL
+                                String downloadUrl = extractDownloadUrl(recordings);
                                 step2.put("download_url_found", downloadUrl != null);
                                 step2.put("download_url", downloadUrl);
                                 
@@ -108,7 +141,7 @@ public class SimpleController {
                                                 System.out.println("   Error: " + testResult.get("error"));
                                                 
                                                 // STEP 4: Build final diagnostic result
-                                                Map<String, Object> finalResult = buildDiagnosticResult(meetingId, debugSteps, rawResponse);
+                                                Map<String, Object> finalResult = buildDiagnosticResult(meetingId, debugSteps, rawResponse, recordings);
                                                 return finalResult;
                                             });
                                 } else {
@@ -123,7 +156,7 @@ public class SimpleController {
                                     System.out.println("\n❌ STEP 3: No Download URL Found");
                                     System.out.println("   Error: No transcript download URL found in recordings response");
                                     
-                                    Map<String, Object> finalResult = buildDiagnosticResult(meetingId, debugSteps, rawResponse);
+                                    Map<String, Object> finalResult = buildDiagnosticResult(meetingId, debugSteps, rawResponse, recordings);
                                     return Mono.just(finalResult);
                                 }
                             })
@@ -181,17 +214,13 @@ public class SimpleController {
                     System.out.println("✅ Got access token");
                     
                     // Get recordings to find transcript
-                    return webClientBuilder.build()
-                            .get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .flatMap(rawResponse -> {
+                    return zoomService.getRecordings(meetingId) // Shared recordings cache - the raw body is kept for the previews
+                            .flatMap(cachedRecordings -> {
+                                String rawResponse = cachedRecordings.rawBody;
                                 System.out.println("📥 Got recordings response: " + rawResponse.length() + " chars");
                                 
                                 // Find transcript URL in response
-                                String downloadUrl = extractDownloadUrl(rawResponse);
+                                String downloadUrl = extractDownloadUrl(cachedRecordings.response);
                                 if (downloadUrl == null) {
                                     System.out.println("❌ No transcript download URL found");
                                     Map<String, Object> error = new HashMap<>();
@@ -265,17 +294,13 @@ public class SimpleController {
                     System.out.println("✅ Got access token");
                     
                     // Step 1: Get the recordings
-                    return webClientBuilder.build()
-                            .get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .flatMap(rawResponse -> {
+                    return zoomService.getRecordings(meetingId) // Shared recordings cache - the raw body is kept for the previews
+                            .flatMap(cachedRecordings -> {
+                                String rawResponse = cachedRecordings.rawBody;
                                 System.out.println("📥 Got recordings response: " + rawResponse.length() + " chars");
                                 
                                 // Extract download URL
-                                String downloadUrl = extractDownloadUrl(rawResponse);
+                                String downloadUrl = extractDownloadUrl(cachedRecordings.response);
                                 if (downloadUrl == null) {
                                     System.out.println("❌ No download URL found in response");
                                     Map<String, Object> error = new HashMap<>();
@@ -377,16 +402,12 @@ public class SimpleController {
                     System.out.println("✅ Step 1: Got access token");
                     
                     // Get recordings to find download URL
-                    return webClientBuilder.build()
-                            .get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .flatMap(rawResponse -> {
+                    return zoomService.getRecordings(meetingId) // Shared recordings cache - the raw body is kept for the previews
+                            .flatMap(cachedRecordings -> {
+                                String rawResponse = cachedRecordings.rawBody;
                                 System.out.println("✅ Step 2: Got recordings, length: " + rawResponse.length());
                                 
-                                String downloadUrl = extractDownloadUrl(rawResponse);
+                                String downloadUrl = extractDownloadUrl(cachedRecordings.response);
                                 if (downloadUrl == null) {
                                     System.out.println("❌ No download URL found");
                                     finalResult.put("success", false);
@@ -476,13 +497,9 @@ public class SimpleController {
         
         return zoomService.getAccessToken()
                 .flatMap(authResponse -> {
-                    return webClientBuilder.build()
-                            .get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .map(rawResponse -> {
+                    return zoomService.getRecordings(meetingId) // Shared recordings cache - the raw body is kept for the previews
+                            .map(cachedRecordings -> {
+                                String rawResponse = cachedRecordings.rawBody;
                                 System.out.println("✅ Got raw response, length: " + rawResponse.length());
                                 
                                 Map<String, Object> result = new HashMap<>();
@@ -491,15 +508,15 @@ public class SimpleController {
                                 result.put("response_length", rawResponse.length());
                                 
                                 // Analyze response
-                                boolean hasRecordingFiles = rawResponse.contains("recording_files");
-                                boolean hasTranscript = rawResponse.contains("TRANSCRIPT") || 
-                                                       rawResponse.contains("\"file_type\":\"TRANSCRIPT\"");
+                                ZoomRecordingsResponse recordings = cachedRecordings.response;
+                                boolean hasRecordingFiles = recordings.getRecordingFiles() != null;
+                                boolean hasTranscript = RecordingsDecoder.transcript(recordings) != null;
                                 
                                 result.put("has_recording_files", hasRecordingFiles);
                                 result.put("has_transcript", hasTranscript);
                                 
                                 // Extract important parts
-                                String downloadUrl = extractDownloadUrl(rawResponse);
+                                String downloadUrl = extractDownloadUrl(recordings);
                                 result.put("download_url_found", downloadUrl != null);
                                 result.put("download_url", downloadUrl);
                                 
@@ -508,7 +525,7 @@ public class SimpleController {
                                 result.put("response_preview", rawResponse.substring(0, previewLength));
                                 
                                 // Find all file types
-                                List<String> fileTypes = extractFileTypes(rawResponse);
+                                List<String> fileTypes = RecordingsDecoder.fileTypes(recordings);
                                 result.put("file_types_found", fileTypes);
                                 
                                 System.out.println("📊 Analysis:");
@@ -601,9 +618,12 @@ public class SimpleController {
     }
     
     // 6. SIMPLE STREAMING - Returns plain text stream (easier for frontend)
+    // A Range header is forwarded upstream so an interrupted stream can resume from the last byte received
     @GetMapping(value = "/transcript-stream-simple/{meetingId}", produces = MediaType.TEXT_PLAIN_VALUE)
-    public Mono<ResponseEntity<Flux<String>>> streamTranscriptSimple(@PathVariable String meetingId) {
-        System.out.println("🌊 SIMPLE STREAM TRANSCRIPT for: " + meetingId);
+    public Mono<ResponseEntity<Flux<String>>> streamTranscriptSimple(
+            @PathVariable String meetingId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        System.out.println("🌊 SIMPLE STREAM TRANSCRIPT for: " + meetingId + (range != null ? " range: " + range : ""));
         
         return zoomService.getMeetingTranscript(meetingId)
                 .flatMap(transcriptInfo -> {
@@ -615,20 +635,16 @@ public class SimpleController {
                     String downloadUrl = (String) transcriptInfo.get("download_url");
                     System.out.println("🔗 Simple streaming from URL: " + downloadUrl);
                     
-                    return zoomService.getAccessToken()
-                            .flatMap(authResponse -> {
-                                WebClient webClient = WebClient.builder()
-                                        .codecs(configurer -> configurer
-                                                .defaultCodecs()
-                                                .maxInMemorySize(5 * 1024 * 1024)) // 5MB max buffer
-                                        .build();
-                                
-                                Flux<String> stream = webClient.get()
-                                        .uri(downloadUrl)
-                                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                                        .header(HttpHeaders.ACCEPT, "text/vtt, text/plain, */*")
-                                        .retrieve()
-                                        .bodyToFlux(String.class)
+                    HttpHeaders rangeHeaders = new HttpHeaders();
+                    if (range != null) {
+                        rangeHeaders.set(HttpHeaders.RANGE, range);
+                    }
+                    return zoomService.openDownloadStream(downloadUrl, rangeHeaders, false)
+                            .map(upstream -> {
+                                Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+                                // Decoded line by line, so multi-byte characters are never split across chunks
+                                Flux<String> stream = TRANSCRIPT_DECODER
+                                        .decode(body, ResolvableType.forClass(String.class), null, null)
                                         .doOnSubscribe(s -> System.out.println("▶️ Starting transcript stream"))
                                         .doOnNext(chunk -> {
                                             if (chunk.length() > 0) {
@@ -640,11 +656,21 @@ public class SimpleController {
                                         .timeout(Duration.ofSeconds(90))
                                         .onErrorResume(e -> Flux.just("ERROR: " + e.getMessage()));
                                 
-                                return Mono.just(ResponseEntity.ok()
+                                // 206 / 416 are relayed so the client knows which bytes it got
+                                int status = upstream.getStatusCode().value();
+                                ResponseEntity.BodyBuilder response = ResponseEntity.status(status == 206 || status == 416 ? status : 200)
                                         .header(HttpHeaders.CONTENT_TYPE, "text/plain; charset=utf-8")
                                         .header("X-Transcript-Url", downloadUrl)
-                                        .header("X-Streaming", "true")
-                                        .body(stream));
+                                        .header("X-Streaming", "true");
+                                String contentRange = upstream.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE);
+                                if (contentRange != null) {
+                                    response.header(HttpHeaders.CONTENT_RANGE, contentRange);
+                                }
+                                String acceptRanges = upstream.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES);
+                                if (acceptRanges != null) {
+                                    response.header(HttpHeaders.ACCEPT_RANGES, acceptRanges);
+                                }
+                                return response.body(stream);
                             });
                 })
                 .onErrorResume(e -> {
@@ -656,83 +682,29 @@ public class SimpleController {
     
     // ========== HELPER METHODS ==========
     
-    private String extractDownloadUrl(String rawResponse) {
-        try {
-            System.out.println("🔍 Searching for transcript download URL...");
-            
-            // Parse JSON properly
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Object> responseMap = mapper.readValue(rawResponse, new TypeReference<Map<String, Object>>() {});
-            
-            // Get recording files
-            List<Map<String, Object>> recordingFiles = (List<Map<String, Object>>) responseMap.get("recording_files");
-            
-            if (recordingFiles == null || recordingFiles.isEmpty()) {
-                System.out.println("❌ No recording files found");
-                return null;
-            }
-            
-            // Look for transcript file
-            for (Map<String, Object> file : recordingFiles) {
-                String fileType = (String) file.get("file_type");
-                System.out.println("📄 Found file type: " + fileType);
-                
-                if ("TRANSCRIPT".equals(fileType) || 
-                    "transcript".equalsIgnoreCase(fileType) ||
-                    (fileType != null && fileType.toUpperCase().contains("TRANSCRIPT"))) {
-                    
-                    String downloadUrl = (String) file.get("download_url");
-                    System.out.println("✅ Found transcript! URL: " + downloadUrl);
-                    return downloadUrl;
-                }
-            }
-            
-            System.out.println("❌ No transcript file found in recording files");
-            
-            // Debug: List all file types
-            System.out.println("📋 All file types found:");
-            recordingFiles.forEach(file -> {
-                System.out.println("  - " + file.get("file_type") + " (" + file.get("file_extension") + ")");
-            });
-            
-        } catch (Exception e) {
-            System.out.println("⚠️ Error parsing JSON: " + e.getMessage());
-            
-            // Fallback: Try string search
-            if (rawResponse.contains("\"file_type\":\"TRANSCRIPT\"")) {
-                int start = rawResponse.indexOf("\"download_url\":\"", rawResponse.indexOf("\"file_type\":\"TRANSCRIPT\""));
-                if (start > -1) {
-                    start += 16;
-                    int end = rawResponse.indexOf("\"", start);
-                    if (end > start) {
-                        String url = rawResponse.substring(start, end);
-                        System.out.println("✅ Found transcript URL via fallback: " + url);
-                        return url;
-                    }
-                }
-            }
+    private String extractDownloadUrl(ZoomRecordingsResponse recordings) {
+        System.out.println("🔍 Searching for transcript download URL...");
+        
+        List<RecordingFile> recordingFiles = RecordingsDecoder.files(recordings);
+        if (recordingFiles.isEmpty()) {
+            System.out.println("❌ No recording files found");
+            return null;
         }
         
-        return null;
-    }
-    
-    private List<String> extractFileTypes(String rawResponse) {
-        List<String> fileTypes = new ArrayList<>();
-        try {
-            int index = 0;
-            while ((index = rawResponse.indexOf("\"file_type\":\"", index)) != -1) {
-                int start = index + 13;
-                int end = rawResponse.indexOf("\"", start);
-                if (end > start) {
-                    String fileType = rawResponse.substring(start, end);
-                    fileTypes.add(fileType);
-                }
-                index = end + 1;
-            }
-        } catch (Exception e) {
-            System.out.println("⚠️ Error extracting file types: " + e.getMessage());
+        RecordingFile transcript = RecordingsDecoder.transcript(recordings);
+        if (transcript != null) {
+            System.out.println("✅ Found transcript! URL: " + transcript.getDownloadUrl());
+            return transcript.getDownloadUrl();
         }
-        return fileTypes;
+        
+        System.out.println("❌ No transcript file found in recording files");
+        
+        // Debug: List all file types
+        System.out.println("📋 All file types found:");
+        recordingFiles.forEach(file -> {
+            System.out.println("  - " + file.getFileType() + " (" + file.getFileExtension() + ")");
+        });
+        return null;
     }
     
     private Mono<Map<String, Object>> testDownloadUrl(String accessToken, String downloadUrl, String meetingId) {
@@ -773,7 +745,8 @@ public class SimpleController {
                 .timeout(Duration.ofSeconds(10));
     }
     
-    private Map<String, Object> buildDiagnosticResult(String meetingId, List<Map<String, Object>> debugSteps, String rawResponse) {
+    private Map<String, Object> buildDiagnosticResult(String meetingId, List<Map<String, Object>> debugSteps, String rawResponse,
+                                                      ZoomRecordingsResponse recordings) {
         Map<String, Object> finalResult = new HashMap<>();
         finalResult.put("meeting_id", meetingId);
         finalResult.put("success", true);
@@ -792,11 +765,8 @@ public class SimpleController {
             finalResult.put("response_preview", rawResponse.substring(0, Math.min(500, rawResponse.length())) + "...");
             
             // Extract summary info
-            boolean hasTranscript = rawResponse.contains("\"file_type\":\"TRANSCRIPT\"") || 
-                                   rawResponse.contains("TRANSCRIPT");
-            finalResult.put("has_transcript_file", hasTranscript);
-            
-            String downloadUrl = extractDownloadUrl(rawResponse);
+            String downloadUrl = RecordingsDecoder.transcriptUrl(recordings);
+            finalResult.put("has_transcript_file", RecordingsDecoder.transcript(recordings) != null);
             finalResult.put("download_url_found", downloadUrl != null);
         }
         
@@ -934,6 +904,11 @@ public class SimpleController {
         response.put("service", "Zoom Dashboard");
         response.put("message", "Service is running with real Zoom API integration");
         response.put("timestamp", System.currentTimeMillis());
+        response.put("compute", computeScheduler.getStats());
+        response.put("strings", stringInterner.getStats());
+        response.put("recordings_cache", recordingsCache.getStats());
+        response.put("circuit_breakers", circuitBreakers.getStats());
+        response.put("analytics_cache", analyticsCache.getStats());
         return response;
     }
 
@@ -943,12 +918,68 @@ public class SimpleController {
     }
     
     @GetMapping("/analytics/{meetingId}")
-    public Mono<Map<String, Object>> getMeetingAnalytics(
+    public Mono<ResponseEntity<Map<String, Object>>> getMeetingAnalytics(
             @PathVariable String meetingId,
-            @RequestParam(required = false, defaultValue = "5") Integer interval) {
+            @RequestParam(required = false, defaultValue = "5") Integer interval,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false, defaultValue = "inline") String details,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
-        System.out.println("🎯 Fetching analytics for meeting: " + meetingId + " with interval: " + interval + " minutes");
-        return zoomService.getMeetingAnalytics(meetingId, interval);
+        Set<AnalyticsSection> sections;
+        try {
+            sections = AnalyticsSection.parse(view, fields);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse(e.getMessage())));
+        }
+        
+        System.out.println("🎯 Fetching analytics for meeting: " + meetingId + " with interval: " + interval + " minutes"
+                + (since != null ? " since version: " + since : "") + " sections: " + AnalyticsSection.key(sections));
+        return versionedAnalyticsResponse(AnalyticsCache.meetingKey(meetingId, interval, sections), ifNoneMatch, accept, since,
+                "paged".equals(details), () -> zoomService.getMeetingAnalytics(meetingId, interval, sections));
+    }
+
+    // Participant details (and optionally timelines) of a meeting, one page at a time from the cached analytics
+    @GetMapping("/analytics/{meetingId}/participants")
+    public Mono<ResponseEntity<Map<String, Object>>> getMeetingParticipantPage(
+            @PathVariable String meetingId,
+            @RequestParam(required = false, defaultValue = "5") Integer interval,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "join_time") String sort,
+            @RequestParam(required = false, defaultValue = "asc") String order,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer segment,
+            @RequestParam(required = false, defaultValue = "false") boolean timelines) {
+        
+        System.out.println("👥 Participant page for meeting: " + meetingId + " sort: " + sort + " " + order);
+        return participantPage(AnalyticsCache.meetingKey(meetingId, interval), () -> zoomService.getMeetingAnalytics(meetingId, interval),
+                cursor, limit, sort, order, q, segment, timelines);
+    }
+
+    // Organization-wide engagement rollup across all meetings in a date range (defaults to the last 7 days)
+    @GetMapping("/rollups")
+    public Mono<ResponseEntity<Map<String, Object>>> getEngagementRollup(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        
+        // Meeting start times are UTC, so the days of the window are too
+        LocalDate toDate;
+        LocalDate fromDate;
+        try {
+            toDate = to != null ? LocalDate.parse(to) : LocalDate.now(ZoneOffset.UTC);
+            fromDate = from != null ? LocalDate.parse(from) : toDate.minusDays(6);
+        } catch (DateTimeParseException e) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse("'from' and 'to' must be dates like 2025-01-15")));
+        }
+        if (fromDate.isAfter(toDate)) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse("'from' must not be after 'to'")));
+        }
+        
+        System.out.println("📈 Fetching engagement rollup from " + fromDate + " to " + toDate);
+        return rollupService.getRollup(fromDate, toDate).map(ResponseEntity::ok);
     }
 
     @GetMapping("/meeting/{meetingId}")
@@ -957,16 +988,47 @@ public class SimpleController {
     }
 
     @GetMapping("/transcript/{meetingId}")
-    public Mono<Map<String, Object>> getMeetingTranscript(@PathVariable String meetingId) {
+    public Mono<ResponseEntity<Map<String, Object>>> getMeetingTranscript(
+            @PathVariable String meetingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         System.out.println("🎤 Fetching transcript for meeting: " + meetingId);
-        return zoomService.getMeetingTranscript(meetingId);
+        return conditionalResponse(AnalyticsCache.transcriptKey(meetingId), null, ifNoneMatch, accept,
+                () -> zoomService.getMeetingTranscript(meetingId),
+                transcript -> Boolean.TRUE.equals(transcript.get("success")));
+    }
+
+    // Drop the cached recordings list (and transcript metadata) of a meeting, e.g. after a recording was edited in Zoom
+    @DeleteMapping("/recordings/{meetingId}/cache")
+    public Map<String, Object> invalidateRecordings(@PathVariable String meetingId) {
+        System.out.println("🧹 Invalidating cached recordings for meeting: " + meetingId);
+        zoomService.invalidateRecordings(meetingId);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("meeting_id", meetingId);
+        return response;
     }
 
     // COMPLETELY FIXED: Simple and reliable transcript download
+    // A full download is revalidated by the transcript file id - a matching If-None-Match skips the download entirely
     @GetMapping("/transcript-download/{meetingId}")
-    public Mono<Map<String, Object>> downloadTranscriptContent(@PathVariable String meetingId) {
-        System.out.println("📥 FIXED DOWNLOAD: Starting for meeting: " + meetingId);
+    public Mono<ResponseEntity<Map<String, Object>>> downloadTranscriptContent(
+            @PathVariable String meetingId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        System.out.println("📥 FIXED DOWNLOAD: Starting for meeting: " + meetingId + (range != null ? " range: " + range : ""));
         
+        if (range != null) {
+            return fetchTranscriptContent(meetingId, range)
+                    .map(result -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(result));
+        }
+        return conditionalResponse(AnalyticsCache.transcriptKey(meetingId), "content", ifNoneMatch, accept,
+                () -> fetchTranscriptContent(meetingId, null),
+                result -> Boolean.TRUE.equals(result.get("success")) && result.get("content") != null);
+    }
+
+    private Mono<Map<String, Object>> fetchTranscriptContent(String meetingId, String range) {
         return zoomService.getMeetingTranscript(meetingId)
                 .flatMap(transcriptInfo -> {
                     System.out.println("📄 STEP 1 - Got transcript info: " + transcriptInfo);
@@ -980,7 +1042,7 @@ public class SimpleController {
                     System.out.println("🔗 STEP 1 - Download URL: " + downloadUrl);
                     
                     // Use the NEW download method from ZoomService
-                    return zoomService.downloadTranscriptWithContent(meetingId, downloadUrl)
+                    return zoomService.downloadTranscriptWithContent(meetingId, downloadUrl, range)
                             .map(downloadResult -> {
                                 System.out.println("✅ STEP 2 - Download completed: " + downloadResult.get("success"));
                                 return downloadResult;
@@ -1015,6 +1077,23 @@ public class SimpleController {
                     String downloadUrl = (String) transcriptInfo.get("download_url");
                     System.out.println("🔗 Download URL: " + downloadUrl);
                     
+                    // Repeat viewers get the still-valid signed URL without asking Zoom again
+                    String cachedRedirectUrl = redirectCache.get(downloadUrl);
+                    if (cachedRedirectUrl != null) {
+                        System.out.println("⚡ Using cached AWS redirect URL");
+                        Map<String, Object> result = new HashMap<>();
+                        result.put("success", true);
+                        result.put("meeting_id", meetingId);
+                        result.put("transcript_available", true);
+                        result.put("original_download_url", downloadUrl);
+                        result.put("has_redirect", true);
+                        result.put("redirect_url", cachedRedirectUrl);
+                        result.put("redirect_cached", true);
+                        result.put("solution", "frontend_direct_download");
+                        result.put("instructions", "Use redirect_url directly in browser window to download");
+                        return Mono.just(result);
+                    }
+                    
                     // Get the AWS redirect URL for frontend
                     return zoomService.getAccessToken()
                             .flatMap(authResponse -> {
@@ -1034,6 +1113,7 @@ public class SimpleController {
                                             if (response.statusCode().is3xxRedirection()) {
                                                 String redirectUrl = response.headers().header(HttpHeaders.LOCATION).get(0);
                                                 System.out.println("🔄 Found AWS redirect URL: " + redirectUrl);
+                                                redirectCache.put(downloadUrl, redirectUrl);
                                                 
                                                 result.put("has_redirect", true);
                                                 result.put("redirect_url", redirectUrl);
@@ -1084,6 +1164,20 @@ public class SimpleController {
                     String downloadUrl = (String) transcriptInfo.get("download_url");
                     System.out.println("🔗 Enhanced - Download URL: " + downloadUrl);
                     
+                    String cachedRedirectUrl = redirectCache.get(downloadUrl);
+                    if (cachedRedirectUrl != null) {
+                        System.out.println("⚡ Enhanced - Using cached redirect URL");
+                        Map<String, Object> result = new HashMap<>();
+                        result.put("meeting_id", meetingId);
+                        result.put("download_url", downloadUrl);
+                        result.put("redirect_url", cachedRedirectUrl);
+                        result.put("has_redirect", true);
+                        result.put("redirect_cached", true);
+                        result.put("success", false);
+                        result.put("method_used", "redirect_required");
+                        return Mono.just(result);
+                    }
+                    
                     return zoomService.getAccessToken()
                             .flatMap(authResponse -> {
                                 System.out.println("🔑 Enhanced - Got access token");
@@ -1114,6 +1208,7 @@ public class SimpleController {
                                                         });
                                             } else if (response.statusCode().is3xxRedirection()) {
                                                 String redirectUrl = response.headers().header(HttpHeaders.LOCATION).get(0);
+                                                redirectCache.put(downloadUrl, redirectUrl);
                                                 result.put("redirect_url", redirectUrl);
                                                 result.put("has_redirect", true);
                                                 result.put("success", false);
@@ -1136,9 +1231,18 @@ public class SimpleController {
 
     // SIMPLE WORKING VERSION - Always returns basic info
     @GetMapping("/transcript-simple/{meetingId}")
-    public Mono<Map<String, Object>> getTranscriptSimple(@PathVariable String meetingId) {
+    public Mono<ResponseEntity<Map<String, Object>>> getTranscriptSimple(
+            @PathVariable String meetingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         System.out.println("🔄 SIMPLE TRANSCRIPT for: " + meetingId);
         
+        return conditionalResponse(AnalyticsCache.transcriptKey(meetingId), "simple", ifNoneMatch, accept,
+                () -> fetchTranscriptSimple(meetingId),
+                result -> Boolean.TRUE.equals(result.get("success")));
+    }
+
+    private Mono<Map<String, Object>> fetchTranscriptSimple(String meetingId) {
         return zoomService.getMeetingTranscript(meetingId)
                 .map(transcriptInfo -> {
                     System.out.println("📄 Simple transcript info: " + transcriptInfo);
@@ -1208,12 +1312,45 @@ public class SimpleController {
     }
 
     @GetMapping("/webinar-analytics/{webinarId}")
-    public Mono<Map<String, Object>> getWebinarAnalytics(
+    public Mono<ResponseEntity<Map<String, Object>>> getWebinarAnalytics(
             @PathVariable String webinarId,
-            @RequestParam(required = false, defaultValue = "5") Integer interval) {
+            @RequestParam(required = false, defaultValue = "5") Integer interval,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false, defaultValue = "inline") String details,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
-        System.out.println("🎯 Fetching analytics for webinar: " + webinarId + " with interval: " + interval + " minutes");
-        return zoomService.getWebinarAnalytics(webinarId, interval);
+        Set<AnalyticsSection> sections;
+        try {
+            sections = AnalyticsSection.parse(view, fields);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse(e.getMessage())));
+        }
+        
+        System.out.println("🎯 Fetching analytics for webinar: " + webinarId + " with interval: " + interval + " minutes"
+                + (since != null ? " since version: " + since : "") + " sections: " + AnalyticsSection.key(sections));
+        return versionedAnalyticsResponse(AnalyticsCache.webinarKey(webinarId, interval, sections), ifNoneMatch, accept, since,
+                "paged".equals(details), () -> zoomService.getWebinarAnalytics(webinarId, interval, sections));
+    }
+
+    // Participant details (and optionally timelines) of a webinar, one page at a time from the cached analytics
+    @GetMapping("/webinar-analytics/{webinarId}/participants")
+    public Mono<ResponseEntity<Map<String, Object>>> getWebinarParticipantPage(
+            @PathVariable String webinarId,
+            @RequestParam(required = false, defaultValue = "5") Integer interval,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "join_time") String sort,
+            @RequestParam(required = false, defaultValue = "asc") String order,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer segment,
+            @RequestParam(required = false, defaultValue = "false") boolean timelines) {
+        
+        System.out.println("👥 Participant page for webinar: " + webinarId + " sort: " + sort + " " + order);
+        return participantPage(AnalyticsCache.webinarKey(webinarId, interval), () -> zoomService.getWebinarAnalytics(webinarId, interval),
+                cursor, limit, sort, order, q, segment, timelines);
     }
 
     @PostMapping("/analyze-webinar")
@@ -1236,4 +1373,185 @@ public class SimpleController {
         errorResponse.put("transcript_available", false);
         return errorResponse;
     }
+
+    // ========== PARTICIPANT PAGING ==========
+
+    private Mono<ResponseEntity<Map<String, Object>>> participantPage(
+            String cacheKey, Supplier<Mono<Map<String, Object>>> analytics,
+            String cursor, Integer limit, String sort, String order, String prefix, Integer segment, boolean timelines) {
+        
+        if (!"join_time".equals(sort) && !"duration".equals(sort)) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse("sort must be join_time or duration")));
+        }
+        if (!"asc".equals(order) && !"desc".equals(order)) {
+            return Mono.just(ResponseEntity.badRequest().body(createErrorResponse("order must be asc or desc")));
+        }
+        
+        ParticipantPages.Query query = new ParticipantPages.Query();
+        query.sort = sort;
+        query.descending = "desc".equals(order);
+        query.prefix = prefix;
+        query.segment = segment;
+        query.includeTimelines = timelines;
+        query.limit = Math.max(1, Math.min(limit != null ? limit : ParticipantPages.DEFAULT_PAGE_SIZE, maxParticipantPageSize));
+        
+        // Served from the cached analytics - the cursor is tied to that entry's ETag
+        return analytics.get().map(result -> {
+            if (EngagementComputeScheduler.isOverloadedResult(result)) {
+                return overloaded(result);
+            }
+            if (!Boolean.TRUE.equals(result.get("success"))) {
+                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(result);
+            }
+            Map<String, Object> page = ParticipantPages.page(result, query, cursor, analyticsCache.getETag(cacheKey));
+            if (!Boolean.TRUE.equals(page.get("success"))) {
+                return ResponseEntity.badRequest().body(page);
+            }
+            for (String field : List.of("meeting_id", "webinar_id", "data_source")) {
+                if (result.get(field) != null) {
+                    page.put(field, result.get(field));
+                }
+            }
+            return ResponseEntity.ok().body(page);
+        });
+    }
+
+    // ========== VERSIONED / DELTA ANALYTICS ==========
+
+    // Every versioned analytics response carries its version in X-Analytics-Version. With ?since=<version> only the
+    // segments, participants and counters changed since then are returned - or the full result, flagged
+    // delta=false, when that version is no longer known.
+    // details=paged leaves the participant lists out of the response (see the /participants endpoints).
+    private Mono<ResponseEntity<Map<String, Object>>> versionedAnalyticsResponse(
+            String cacheKey, String ifNoneMatch, String accept, Long since, boolean pagedDetails,
+            Supplier<Mono<Map<String, Object>>> compute) {
+        
+        if (since == null) {
+            return conditionalResponse(cacheKey, pagedDetails ? "paged" : null, ifNoneMatch, accept,
+                    () -> compute.get()
+                            .doOnNext(result -> recordVersion(cacheKey, result))
+                            .map(result -> pagedDetails ? ParticipantPages.withoutParticipantLists(result) : result),
+                    analytics -> Boolean.TRUE.equals(analytics.get("success")))
+                    .map(response -> withVersionHeader(response, versionHistory.currentVersion(cacheKey)));
+        }
+        
+        return compute.get().map(result -> {
+            if (EngagementComputeScheduler.isOverloadedResult(result)) {
+                return overloaded(result);
+            }
+            Long version = recordVersion(cacheKey, result);
+            Map<String, Object> delta = version != null ? versionHistory.deltaSince(cacheKey, since) : null;
+            Map<String, Object> body;
+            if (delta != null) {
+                body = delta;
+                for (String idField : List.of("meeting_id", "webinar_id")) {
+                    if (result.get(idField) != null) {
+                        body.put(idField, result.get(idField));
+                    }
+                }
+                System.out.println("📉 Delta since " + since + ": " + delta.get("changed"));
+            } else {
+                body = pagedDetails ? ParticipantPages.withoutParticipantLists(result) : new HashMap<>(result);
+                body.put("delta", false);
+                body.put("analytics_version", version);
+            }
+            return withVersionHeader(ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body), version);
+        });
+    }
+
+    // Only real Zoom and live webhook results are versioned - simulated data changes on every call
+    private Long recordVersion(String cacheKey, Map<String, Object> result) {
+        Object dataSource = result.get("data_source");
+        if (!Boolean.TRUE.equals(result.get("success")) || !("zoom_api".equals(dataSource) || "zoom_webhook".equals(dataSource))) {
+            return null;
+        }
+        // A stale result served while Zoom fails is an old version, not a new one
+        if (Boolean.TRUE.equals(result.get("stale"))) {
+            return null;
+        }
+        return versionHistory.record(cacheKey, result);
+    }
+
+    private ResponseEntity<Map<String, Object>> withVersionHeader(ResponseEntity<Map<String, Object>> response, Long version) {
+        if (version == null) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(ANALYTICS_VERSION_HEADER, String.valueOf(version))
+                .body(response.getBody());
+    }
+
+    // ========== CONDITIONAL GET ==========
+
+    // Answer If-None-Match from the cached entry's ETag before anything is computed or serialized.
+    // variant distinguishes different representations built from the same cache entry, and the
+    // negotiated format (JSON, CBOR or Smile) is folded in as well.
+    private Mono<ResponseEntity<Map<String, Object>>> conditionalResponse(
+            String cacheKey, String variant, String ifNoneMatch, String accept,
+            Supplier<Mono<Map<String, Object>>> compute, Predicate<Map<String, Object>> cacheable) {
+        
+        return Mono.defer(() -> {
+            String format = BinaryFormatsConfig.formatVariant(accept);
+            String representation = variant == null ? format : format == null ? variant : variant + "-" + format;
+            String cachedETag = variantETag(analyticsCache.getETag(cacheKey), representation);
+            if (cachedETag != null && etagMatches(ifNoneMatch, cachedETag)) {
+                System.out.println("♻️ 304 Not Modified for: " + cacheKey);
+                return Mono.just(notModified(cachedETag));
+            }
+            
+            return compute.get().map(result -> {
+                if (EngagementComputeScheduler.isOverloadedResult(result)) {
+                    return overloaded(result);
+                }
+                // Only results that made it into the cache get an ETag - simulated and failed results are never cached
+                String etag = cacheable.test(result) ? variantETag(analyticsCache.getETag(cacheKey), representation) : null;
+                if (etag == null) {
+                    return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(result);
+                }
+                if (etagMatches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+                return ResponseEntity.ok().eTag(etag).cacheControl(httpCacheControl()).varyBy(HttpHeaders.ACCEPT).body(result);
+            });
+        });
+    }
+
+    // 503 with Retry-After when the full compute queue turned the computation away
+    private ResponseEntity<Map<String, Object>> overloaded(Map<String, Object> result) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(result.get("retry_after_seconds")))
+                .cacheControl(CacheControl.noStore())
+                .body(result);
+    }
+
+        private ResponseEntity<Map<String, Object>> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(httpCacheControl())
+                .varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private CacheControl httpCacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(httpCacheMaxAgeSeconds)).cachePublic().mustRevalidate();
+    }
+
+    private static String variantETag(String etag, String variant) {
+        if (etag == null || variant == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+    }
+
+    // Strong comparison against a comma-separated If-None-Match list (or *)
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.zoomdash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Dictionary encoding for string columns: each distinct value is stored once and rows keep an int code.
+// Values are packed as UTF-8 into one byte array (no String object per value), lookups go through a
+// 64-bit hash in a LongIntHashMap with the bytes compared on a hit. Strings are only built on decode.
+final class StringDictionary {
+
+    static final int NONE = -1;
+
+    private byte[] bytes;
+    private int[] offsets;     // value i is bytes[offsets[i] .. offsets[i + 1])
+    private int size;
+    private final LongIntHashMap codesByHash;
+    // Values whose 64-bit hash collided with a different value - practically always empty
+    private Map<String, Integer> collided;
+    // Pool the decoded Strings are shared through, null decodes a new String every time
+    private final StringInterner interner;
+
+    StringDictionary(int expectedSize) {
+        this(expectedSize, null);
+    }
+
+    StringDictionary(int expectedSize, StringInterner interner) {
+        this.interner = interner;
+        bytes = new byte[Math.max(64, expectedSize * 8)];
+        offsets = new int[Math.max(16, expectedSize) + 1];
+        codesByHash = new LongIntHashMap(expectedSize);
+    }
+
+    // Code of the value, adding it when new - null is NONE
+    int encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        int code = codesByHash.putIfAbsent(hash64(value), size, NONE);
+        if (code == NONE) {
+            return append(encoded);
+        }
+        if (Arrays.equals(bytes, offsets[code], offsets[code + 1], encoded, 0, encoded.length)) {
+            return code;
+        }
+        if (collided == null) {
+            collided = new HashMap<>();
+        }
+        return collided.computeIfAbsent(value, added -> append(encoded));
+    }
+
+    // Code of the value in chars[offset .. offset + length) without building a String for it
+    int encode(char[] chars, int offset, int length) {
+        long hash = 0xcbf29ce484222325L;
+        boolean ascii = true;
+        for (int i = offset; i < offset + length; i++) {
+            hash ^= chars[i];
+            hash *= 0x100000001b3L;
+            ascii &= chars[i] < 0x80;
+        }
+        if (!ascii) {
+            return encode(new String(chars, offset, length));
+        }
+        int code = codesByHash.putIfAbsent(hash, size, NONE);
+        if (code == NONE) {
+            return appendAscii(chars, offset, length);
+        }
+        if (equalsAscii(code, chars, offset, length)) {
+            return code;
+        }
+        return encode(new String(chars, offset, length));
+    }
+
+    String decode(int code) {
+        if (code == NONE) {
+            return null;
+        }
+        int start = offsets[code];
+        int length = offsets[code + 1] - start;
+        return interner != null ? interner.intern(bytes, start, length) : new String(bytes, start, length, StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void ensureCapacity(int expectedSize) {
+        if (expectedSize + 1 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, expectedSize + 1);
+        }
+        if (expectedSize * 8 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, expectedSize * 8);
+        }
+        codesByHash.ensureCapacity(expectedSize);
+    }
+
+    private boolean equalsAscii(int code, char[] chars, int offset, int length) {
+        int start = offsets[code];
+        if (offsets[code + 1] - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[start + i] != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int appendAscii(char[] chars, int offset, int length) {
+        int end = reserve(length);
+        for (int i = 0; i < length; i++) {
+            bytes[end + i] = (byte) chars[offset + i];
+        }
+        offsets[size + 1] = end + length;
+        return size++;
+    }
+
+    // Room for length more bytes and one more value - returns where the value starts
+    private int reserve(int length) {
+        int end = offsets[size];
+        if (end + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, end + length));
+        }
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        return end;
+    }
+
+    private int append(byte[] encoded) {
+        int end = reserve(encoded.length);
+        System.arraycopy(encoded, 0, bytes, end, encoded.length);
+        offsets[size + 1] = end + encoded.length;
+        return size++;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars - String.hashCode is only 32 bits and collides far too often at scale
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
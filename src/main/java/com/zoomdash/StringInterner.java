@@ -0,0 +1,114 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Shared pool for the names, emails and ids decoded into analytics results. Recurring meetings see the
+// same attendees again and again - cached results then hold one String per distinct value instead of one
+// per participant map. Bounded: a fixed table of weak slots, a colliding value replaces the slot's entry.
+// Weak: a pooled String lives only as long as a cached result (or anything else) still uses it.
+@Component
+public class StringInterner {
+
+    private final AtomicReferenceArray<WeakReference<String>> slots;
+    private final int mask;
+    private final int shift;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder replaced = new LongAdder();
+
+    public StringInterner(@Value("${zoom.strings.intern-capacity:65536}") int capacity) {
+        // Power of two so the slot is a mask of the hash - 0 turns pooling off
+        int size = capacity > 0 ? Integer.highestOneBit(Math.min(capacity, 1 << 24)) : 0;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.shift = 32 - Integer.numberOfTrailingZeros(Math.max(1, size));
+    }
+
+    // The pooled String equal to utf8[offset .. offset + length), created and pooled when absent.
+    // ASCII values are compared against the bytes, so a hit allocates nothing.
+    String intern(byte[] utf8, int offset, int length) {
+        int hash = 0;
+        boolean ascii = true;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + utf8[i];
+            ascii &= utf8[i] >= 0;
+        }
+        if (!ascii || mask < 0) {
+            return intern(new String(utf8, offset, length, StandardCharsets.UTF_8));
+        }
+        // For ASCII the byte hash is String.hashCode, so both intern methods use the same slot
+        int slot = slot(hash);
+        String pooled = pooled(slot);
+        if (pooled != null && equalsAscii(pooled, utf8, offset, length)) {
+            hits.increment();
+            return pooled;
+        }
+        return add(slot, pooled, new String(utf8, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    String intern(String value) {
+        if (value == null || mask < 0) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String pooled = pooled(slot);
+        if (value.equals(pooled)) {
+            hits.increment();
+            return pooled;
+        }
+        return add(slot, pooled, value);
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("capacity", slots.length());
+        stats.put("hits", hitCount);
+        stats.put("misses", lookups - hitCount);
+        stats.put("hit_rate", lookups > 0 ? Math.round(hitCount * 1000.0 / lookups) / 1000.0 : 0.0);
+        stats.put("replaced", replaced.sum());
+        return stats;
+    }
+
+    private String add(int slot, String previous, String value) {
+        misses.increment();
+        if (previous != null) {
+            replaced.increment();
+        }
+        slots.set(slot, new WeakReference<>(value));
+        return value;
+    }
+
+    private String pooled(int slot) {
+        WeakReference<String> entry = slots.get(slot);
+        return entry != null ? entry.get() : null;
+    }
+
+    // Fibonacci hashing - sequential ids and "Attendee N" names have hashes in arithmetic progressions,
+    // which collide in a plain mask of the low bits
+    private int slot(int hash) {
+        return (hash * 0x9E3779B9) >>> shift & mask;
+    }
+
+    private static boolean equalsAscii(String pooled, byte[] utf8, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != utf8[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
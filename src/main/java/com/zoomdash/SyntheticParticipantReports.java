@@ -0,0 +1,242 @@
+package com.zoomdash;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+// Seeded, Zoom-shaped participant reports for simulated analytics, load tests and benchmarks. Every user is
+// generated from their own seed (the report seed and the user index), so the same seed always gives the
+// same report and any page can be produced without generating the pages before it - millions of rows
+// stream straight into the engine's columns without a Participant list in between.
+//
+// Shape: most users join within the first minutes, the rest arrive late; a share stays to the end and the
+// others drop off at a constant rate; some lose their connection and rejoin (one row per session). Signed-in
+// users carry a participant_user_id, guests only an email or nothing at all - like real reports, so
+// session merging sees the same mix of identities.
+final class SyntheticParticipantReports {
+
+    private static final DateTimeFormatter ZOOM_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    // Zoom caps report pages at 300 rows
+    static final int MAX_PAGE_SIZE = 300;
+
+    // Sessions of one user: the first one plus at most this many rejoins
+    private static final int MAX_REJOINS = 3;
+
+    // Per-session user_id values start here, like Zoom's
+    private static final long FIRST_SESSION_USER_ID = 16_778_240L;
+
+    private static final String[] FIRST_NAMES = {
+            "Ann", "Ben", "Carla", "David", "Elena", "Farid", "Grace", "Hiro", "Ines", "James", "Kavya", "Liam",
+            "Maria", "Noah", "Olga", "Pedro", "Quinn", "Rosa", "Sam", "Tariq", "Uma", "Victor", "Wei", "Yara", "Zoë"};
+    private static final String[] LAST_NAMES = {
+            "Adams", "Brown", "Chen", "Diaz", "Evans", "Fischer", "Garcia", "Hansen", "Ito", "Johnson", "Kim", "Lopez",
+            "Müller", "Nguyen", "Okafor", "Patel", "Rossi", "Smith", "Tanaka", "Williams"};
+    private static final String[] GUEST_DOMAINS = {"gmail.com", "outlook.com", "yahoo.com", "partner.io"};
+
+    private SyntheticParticipantReports() {
+    }
+
+    // What a report looks like - use meeting() or webinar() and adjust
+    static final class Params {
+        long seed = 42;
+        int users = 100;
+        int durationMinutes = 60;
+        LocalDateTime start = LocalDateTime.of(2025, 1, 15, 15, 0);
+        double lateJoinRate = 0.15;             // share joining after the first minutes
+        int onTimeWindowSeconds = 300;          // the others join within this window
+        double stayToEndRate = 0.7;             // share leaving in the last two minutes
+        double dropOffMeanMinutes = 30;         // mean time in the session of those dropping off earlier
+        double rejoinRate = 0.1;                // chance of each further session (connection drop and rejoin)
+        double signedInRate = 0.75;             // users with a participant_user_id
+        double guestEmailRate = 0.6;            // guests that still have an email
+        String domain = "example.com";
+    }
+
+    static Params meeting(long seed, int users, int durationMinutes) {
+        Params params = new Params();
+        params.seed = seed;
+        params.users = users;
+        params.durationMinutes = durationMinutes;
+        return params;
+    }
+
+    // Webinars: more late arrivals, a longer tail of early leavers, fewer signed-in attendees
+    static Params webinar(long seed, int users, int durationMinutes) {
+        Params params = meeting(seed, users, durationMinutes);
+        params.lateJoinRate = 0.3;
+        params.stayToEndRate = 0.55;
+        params.dropOffMeanMinutes = Math.max(10, durationMinutes / 2.0);
+        params.rejoinRate = 0.05;
+        params.signedInRate = 0.4;
+        return params;
+    }
+
+    // Every session row of the report in user order
+    static void forEach(Params params, Consumer<Participant> rows) {
+        User draws = new User();
+        for (int user = 0; user < params.users; user++) {
+            draws.draw(params, user);
+            for (int session = 0; session < draws.sessions; session++) {
+                rows.accept(draws.row(params, user, session));
+            }
+        }
+    }
+
+    static List<Participant> participants(Params params) {
+        List<Participant> participants = new ArrayList<>(params.users);
+        forEach(params, participants::add);
+        return participants;
+    }
+
+    // The report decoded into the engine's columns, one row at a time
+    static ParticipantColumns columns(Params params, StringInterner interner) {
+        ParticipantColumns columns = new ParticipantColumns(0, interner);
+        columns.ensureCapacity(params.users);
+        forEach(params, columns::add);
+        return columns;
+    }
+
+    // One page of the report as Zoom returns it. The page token is opaque to callers: it holds the user
+    // and session to continue at and total_records, so no page needs the pages before it.
+    static ParticipantsResponse page(Params params, String nextPageToken, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        int user = 0;
+        int session = 0;
+        int totalRecords;
+        if (nextPageToken == null || nextPageToken.isEmpty()) {
+            totalRecords = totalRecords(params);
+        } else {
+            String[] parts = nextPageToken.split("\\.");
+            try {
+                if (parts.length != 3) {
+                    throw new NumberFormatException();
+                }
+                user = Integer.parseInt(parts[0]);
+                session = Integer.parseInt(parts[1]);
+                totalRecords = Integer.parseInt(parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid next_page_token: " + nextPageToken);
+            }
+        }
+
+        List<Participant> rows = new ArrayList<>(size);
+        User draws = new User();
+        while (user < params.users && rows.size() < size) {
+            draws.draw(params, user);
+            while (session < draws.sessions && rows.size() < size) {
+                rows.add(draws.row(params, user, session++));
+            }
+            if (session == draws.sessions) {
+                user++;
+                session = 0;
+            }
+        }
+
+        ParticipantsResponse response = new ParticipantsResponse();
+        response.setParticipants(rows);
+        response.setPageSize(size);
+        response.setTotalRecords(totalRecords);
+        response.setPageCount((totalRecords + size - 1) / size);
+        // Zoom leaves the token empty on the last page
+        response.setNextPageToken(user < params.users ? user + "." + session + "." + totalRecords : "");
+        return response;
+    }
+
+    // Rows in the whole report - users are drawn, but no rows or Strings are built
+    static int totalRecords(Params params) {
+        User draws = new User();
+        int total = 0;
+        for (int user = 0; user < params.users; user++) {
+            draws.draw(params, user);
+            total += draws.sessions;
+        }
+        return total;
+    }
+
+    // Everything drawn for one user - who they are and their sessions as seconds from the start.
+    // Reused from user to user; Strings are only built for the rows actually emitted.
+    private static final class User {
+        int firstName;
+        int lastName;
+        boolean signedIn;
+        int guestDomain;            // -1 for a guest without email
+        int sessions;
+        final int[] joins = new int[MAX_REJOINS + 1];
+        final int[] leaves = new int[MAX_REJOINS + 1];
+
+        void draw(Params params, int user) {
+            // SplittableRandom mixes its seed, so neighbouring users still get unrelated streams
+            SplittableRandom random = new SplittableRandom(params.seed * 0x9E3779B97F4A7C15L + user);
+            int end = Math.max(60, params.durationMinutes * 60);
+
+            // Who: names repeat across users like in a real organization, ids and emails do not
+            firstName = random.nextInt(FIRST_NAMES.length);
+            lastName = random.nextInt(LAST_NAMES.length);
+            signedIn = random.nextDouble() < params.signedInRate;
+            guestDomain = !signedIn && random.nextDouble() < params.guestEmailRate ? random.nextInt(GUEST_DOMAINS.length) : -1;
+
+            // When: on time or late, then to the end or dropping off
+            int join = random.nextDouble() < params.lateJoinRate
+                    ? params.onTimeWindowSeconds + random.nextInt(Math.max(1, end / 2))
+                    : random.nextInt(Math.max(1, params.onTimeWindowSeconds));
+            join = Math.min(join, end - 60);
+            int leave = random.nextDouble() < params.stayToEndRate
+                    ? end - random.nextInt(120)
+                    : join + 60 + (int) exponential(random, params.dropOffMeanMinutes * 60);
+            leave = Math.max(join + 30, Math.min(leave, end));
+
+            // Rejoins split the stay at a drop point, with a short gap before the next session - as long as
+            // there are a few minutes of the stay left to split
+            sessions = 0;
+            int sessionJoin = join;
+            while (sessions < MAX_REJOINS && leave - sessionJoin > 180 && random.nextDouble() < params.rejoinRate) {
+                int drop = sessionJoin + 30 + random.nextInt(leave - sessionJoin - 150);
+                joins[sessions] = sessionJoin;
+                leaves[sessions++] = drop;
+                sessionJoin = drop + 10 + random.nextInt(Math.min(290, leave - drop - 20));
+            }
+            joins[sessions] = sessionJoin;
+            leaves[sessions++] = leave;
+        }
+
+        Participant row(Params params, int user, int session) {
+            String first = FIRST_NAMES[firstName];
+            String last = LAST_NAMES[lastName];
+            Participant participant = new Participant();
+            if (signedIn) {
+                // Stable per user, unique as the multiplier is odd
+                String participantUserId = "u" + Long.toString(((user + 1L) * 0x2545F491L + params.seed) & 0xFFFFFFFFFFL, 36);
+                participant.setId(participantUserId);
+                participant.setParticipantUserId(participantUserId);
+                participant.setUserEmail(emailName(first) + "." + emailName(last) + user + "@" + params.domain);
+                participant.setInternalUser(true);
+            } else {
+                participant.setId("");
+                if (guestDomain >= 0) {
+                    participant.setUserEmail(emailName(first) + user + "@" + GUEST_DOMAINS[guestDomain]);
+                }
+            }
+            participant.setUserId(String.valueOf(FIRST_SESSION_USER_ID + (long) user * (MAX_REJOINS + 1) + session));
+            participant.setName(first + " " + last);
+            participant.setJoinTime(params.start.plusSeconds(joins[session]).format(ZOOM_TIME_FORMATTER));
+            participant.setLeaveTime(params.start.plusSeconds(leaves[session]).format(ZOOM_TIME_FORMATTER));
+            participant.setDuration(leaves[session] - joins[session]);
+            participant.setAttentivenessScore("");
+            participant.setStatus("in_meeting");
+            return participant;
+        }
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -mean * Math.log(1.0 - random.nextDouble());
+    }
+
+    private static String emailName(String name) {
+        return name.toLowerCase(Locale.ROOT).replace("ë", "e").replace("ü", "u");
+    }
+}
@@ -0,0 +1,154 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Byte-level proxy for transcripts and recordings - relays the upstream DataBuffers
+// straight to the client without decoding them into Strings (servlet stack, see ReactiveTranscriptProxyController)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api")
+@CrossOrigin(origins = "http://localhost:5173")
+public class TranscriptProxyController {
+
+    // Upstream headers that are passed through to the client unchanged
+    static final List<String> RELAYED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_DISPOSITION,
+            HttpHeaders.CONTENT_RANGE, HttpHeaders.ACCEPT_RANGES, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final ZoomService zoomService;
+
+    // Max gap between two upstream chunks - large files are not cut off by a total timeout
+    @Value("${zoom.proxy.idle-timeout-seconds:90}")
+    private long idleTimeoutSeconds;
+
+    // Buffers requested ahead of what the client has consumed
+    @Value("${zoom.proxy.prefetch-buffers:4}")
+    private int prefetchBuffers;
+
+    public TranscriptProxyController(ZoomService zoomService) {
+        this.zoomService = zoomService;
+    }
+
+    // Transcript (VTT) bytes relayed from Zoom - supports Range requests for resumable and parallel downloads,
+    // and If-None-Match / If-Modified-Since revalidation against the upstream ETag
+    @RequestMapping(value = "/transcript-proxy/{meetingId}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public Mono<ResponseEntity<StreamingResponseBody>> proxyTranscript(
+            @PathVariable String meetingId,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpMethod method) {
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        System.out.println("🔀 PROXY TRANSCRIPT for: " + meetingId + (range != null ? " range: " + range : ""));
+
+        return zoomService.getMeetingTranscript(meetingId)
+                .flatMap(transcriptInfo -> {
+                    if (!Boolean.TRUE.equals(transcriptInfo.get("success"))) {
+                        return Mono.just(errorBody(404, "No transcript available"));
+                    }
+                    return relay(meetingId, (String) transcriptInfo.get("download_url"), requestHeaders, HttpMethod.HEAD.equals(method));
+                })
+                .onErrorResume(e -> Mono.just(upstreamError(e)));
+    }
+
+    // Any recording file (MP4, M4A, VTT, ...) relayed from Zoom by file id - supports Range requests
+    @RequestMapping(value = "/recording-proxy/{meetingId}/{fileId}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public Mono<ResponseEntity<StreamingResponseBody>> proxyRecording(
+            @PathVariable String meetingId,
+            @PathVariable String fileId,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpMethod method) {
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        System.out.println("🔀 PROXY RECORDING " + fileId + " for: " + meetingId + (range != null ? " range: " + range : ""));
+
+        return zoomService.getMeetingRecordings(meetingId)
+                .flatMap(recordings -> {
+                    Optional<RecordingFile> file = Optional.ofNullable(recordings.getRecordingFiles())
+                            .flatMap(files -> files.stream().filter(f -> fileId.equals(f.getId())).findFirst());
+                    if (file.isEmpty()) {
+                        return Mono.just(errorBody(404, "Recording file not found: " + fileId));
+                    }
+                    return relay(meetingId, file.get().getDownloadUrl(), requestHeaders, HttpMethod.HEAD.equals(method));
+                })
+                .onErrorResume(e -> Mono.just(upstreamError(e)));
+    }
+
+    private Mono<ResponseEntity<StreamingResponseBody>> relay(String meetingId, String downloadUrl,
+                                                              HttpHeaders requestHeaders, boolean headOnly) {
+        return zoomService.openDownloadStream(downloadUrl, requestHeaders, headOnly)
+                .map(upstream -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.status(upstream.getStatusCode());
+                    for (String header : RELAYED_HEADERS) {
+                        String value = upstream.getHeaders().getFirst(header);
+                        if (value != null) {
+                            response.header(header, value);
+                        }
+                    }
+                    response.header("X-Streaming", "proxy");
+
+                    Flux<DataBuffer> body = upstream.getBody() != null && !headOnly ? upstream.getBody() : Flux.empty();
+                    return response.body(outputStream -> {
+                        long bytes = 0;
+                        WritableByteChannel channel = Channels.newChannel(outputStream);
+                        // The blocking stream only requests more upstream buffers as the client drains them,
+                        // and closing it cancels the upstream download if the client goes away
+                        try (Stream<DataBuffer> buffers = body.timeout(Duration.ofSeconds(idleTimeoutSeconds))
+                                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                .toStream(prefetchBuffers)) {
+                            Iterator<DataBuffer> iterator = buffers.iterator();
+                            while (iterator.hasNext()) {
+                                DataBuffer buffer = iterator.next();
+                                try (DataBuffer.ByteBufferIterator byteBuffers = buffer.readableByteBuffers()) {
+                                    while (byteBuffers.hasNext()) {
+                                        ByteBuffer byteBuffer = byteBuffers.next();
+                                        bytes += byteBuffer.remaining();
+                                        while (byteBuffer.hasRemaining()) {
+                                            channel.write(byteBuffer);
+                                        }
+                                    }
+                                } finally {
+                                    DataBufferUtils.release(buffer);
+                                }
+                            }
+                        }
+                        outputStream.flush();
+                        System.out.println("✅ Proxied " + bytes + " bytes for meeting: " + meetingId);
+                    });
+                });
+    }
+
+    private ResponseEntity<StreamingResponseBody> upstreamError(Throwable e) {
+        System.out.println("❌ Proxy error: " + e.getMessage());
+        if (e instanceof WebClientResponseException) {
+            return errorBody(((WebClientResponseException) e).getStatusCode().value(), "Upstream error: " + e.getMessage());
+        }
+        return errorBody(502, "Proxy failed: " + e.getMessage());
+    }
+
+    private ResponseEntity<StreamingResponseBody> errorBody(int status, String message) {
+        byte[] bytes = ("ERROR: " + message).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(bytes.length)
+                .body(outputStream -> outputStream.write(bytes));
+    }
+}
@@ -0,0 +1,55 @@
+package com.zoomdash;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API (incubating) version of the segment kernels. Only loaded through SegmentKernels when the
+// JVM was started with --add-modules jdk.incubator.vector - results are identical to the scalar kernel.
+final class VectorSegmentKernel implements SegmentKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x32";
+    }
+
+    // The running total is a serial dependency - an in-register shift-and-add scan measured ~2.4x slower
+    // than the scalar loop on JDK 17 (SegmentKernelBenchmark), so the scan stays scalar
+    @Override
+    public int[] prefixSum(int[] differences, int length) {
+        return ScalarSegmentKernel.INSTANCE.prefixSum(differences, length);
+    }
+
+    @Override
+    public void segmentStats(int[] values, int length, int segmentLength, int[] averages, int[] peaks) {
+        int lanes = SPECIES.length();
+        for (int segment = 0; segment < averages.length; segment++) {
+            int start = segment * segmentLength;
+            int end = Math.min(start + segmentLength, length);
+            int i = start;
+            int sum = 0;
+            int peak = 0;
+            if (end - start >= lanes) {
+                IntVector sums = IntVector.zero(SPECIES);
+                IntVector maxima = IntVector.zero(SPECIES);
+                for (; i + lanes <= end; i += lanes) {
+                    IntVector block = IntVector.fromArray(SPECIES, values, i);
+                    sums = sums.add(block);
+                    maxima = maxima.max(block);
+                }
+                sum = sums.reduceLanes(VectorOperators.ADD);
+                peak = maxima.reduceLanes(VectorOperators.MAX);
+            }
+            for (; i < end; i++) {
+                sum += values[i];
+                if (values[i] > peak) {
+                    peak = values[i];
+                }
+            }
+            averages[segment] = end > start ? sum / (end - start) : 0;
+            peaks[segment] = peak;
+        }
+    }
+}
@@ -7,8 +7,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
     
+    // Built from Boot's builder so Zoom responses are decoded with the shared, pre-configured ObjectMapper
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(WebClient.Builder builder) {
+        return builder.build();
     }
-}
\ No newline at end of file
+}
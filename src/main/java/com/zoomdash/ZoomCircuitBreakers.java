@@ -0,0 +1,182 @@
+package com.zoomdash;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One circuit breaker per Zoom endpoint family. After enough consecutive outage failures (connection
+// errors, timeouts, 5xx, 429) a family is opened and its calls fail fast instead of reaching Zoom. Once
+// the open time has passed a single trial call is let through - success closes the breaker, failure
+// opens it again. 4xx answers mean Zoom is up and are not counted.
+@Component
+public class ZoomCircuitBreakers {
+
+    public static final String AUTH = "auth";
+    public static final String MEETINGS = "meetings";
+    public static final String REPORTS = "reports";
+    public static final String RECORDINGS = "recordings";
+    public static final String WEBINARS = "webinars";
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    public ZoomCircuitBreakers(@Value("${zoom.circuit.failure-threshold:5}") int failureThreshold,
+                               @Value("${zoom.circuit.open-seconds:30}") long openSeconds) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0, openSeconds) * 1000;
+    }
+
+    // Thrown instead of calling Zoom while a family is open
+    public static final class CircuitOpenException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        CircuitOpenException(String family, long retryAfterSeconds) {
+            super("Zoom " + family + " API unavailable (circuit open, retry in " + retryAfterSeconds + "s)");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    // Errors that mean Zoom itself is failing, as opposed to a bad request for one meeting
+    public static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof CircuitOpenException || error instanceof WebClientRequestException
+                || error instanceof TimeoutException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException) {
+            int status = ((WebClientResponseException) error).getStatusCode().value();
+            return status >= 500 || status == 429;
+        }
+        return false;
+    }
+
+    // Seconds until the trial call, 0 when the error is not an open circuit
+    public static long retryAfterSeconds(Throwable error) {
+        return error instanceof CircuitOpenException ? ((CircuitOpenException) error).getRetryAfterSeconds() : 0;
+    }
+
+    // Subscribe to the call only when the family's breaker admits it, and record how it ended
+    public <T> Mono<T> guard(String family, Mono<T> call) {
+        return Mono.defer(() -> {
+            Breaker breaker = breakers.computeIfAbsent(family, f -> new Breaker());
+            if (!breaker.tryAcquire()) {
+                breaker.rejected.incrementAndGet();
+                return Mono.error(new CircuitOpenException(family, breaker.retryAfterSeconds()));
+            }
+            return call
+                    .doOnSuccess(value -> breaker.onSuccess())
+                    .doOnError(error -> {
+                        if (isUpstreamFailure(error)) {
+                            if (breaker.onFailure()) {
+                                System.out.println("🔌 Circuit opened for Zoom " + family + " API: " + error.getMessage());
+                            }
+                        } else {
+                            breaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(breaker::releaseTrial);
+        });
+    }
+
+    public boolean isOpen(String family) {
+        Breaker breaker = breakers.get(family);
+        return breaker != null && breaker.state() != State.CLOSED;
+    }
+
+    State state(String family) {
+        Breaker breaker = breakers.get(family);
+        return breaker != null ? breaker.state() : State.CLOSED;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("failure_threshold", failureThreshold);
+        stats.put("open_seconds", openMillis / 1000);
+        breakers.forEach((family, breaker) -> stats.put(family, breaker.getStats()));
+        return stats;
+    }
+
+    private final class Breaker {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtMillis;
+        private boolean trialInFlight;
+
+        private final AtomicLong opened = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        synchronized boolean tryAcquire() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMillis) {
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN && !trialInFlight) {
+                trialInFlight = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        // True when this failure opened the breaker
+        synchronized boolean onFailure() {
+            trialInFlight = false;
+            if (state == State.OPEN) {
+                return false;
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtMillis = System.currentTimeMillis();
+                opened.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        // A cancelled trial call proved nothing - let the next caller try
+        synchronized void releaseTrial() {
+            trialInFlight = false;
+        }
+
+        synchronized State state() {
+            return state;
+        }
+
+        synchronized long retryAfterSeconds() {
+            long remaining = openMillis - (System.currentTimeMillis() - openedAtMillis);
+            return Math.max(1, (remaining + 999) / 1000);
+        }
+
+        synchronized Map<String, Object> getStats() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("state", state.name());
+            stats.put("consecutive_failures", consecutiveFailures);
+            stats.put("opened", opened.get());
+            stats.put("rejected", rejected.get());
+            return stats;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.zoomdash;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ZoomDashboardApplication {
     public static void main(String[] args) {
         SpringApplication.run(ZoomDashboardApplication.class, args);
@@ -1,21 +1,36 @@
 package com.zoomdash;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
 public class ZoomService {
     
     private final WebClient webClient;
+    // Shared client for whole-file downloads with a larger in-memory buffer
+    private final WebClient downloadClient;
+    private final AnalyticsCache analyticsCache;
+    private final LiveEngagementTracker liveTracker;
+    private final DownloadRedirectCache redirectCache;
+    private final RecordingsCache recordingsCache;
+    private final ZoomCircuitBreakers circuitBreakers;
 
     @Value("${zoom.account-id}")
     private String accountId;
@@ -26,93 +41,171 @@ public class ZoomService {
     @Value("${zoom.client-secret}")
     private String clientSecret;
 
+    // Client request headers passed on to Zoom / storage when relaying a download
+    private static final List<String> FORWARDED_DOWNLOAD_HEADERS = List.of(
+            HttpHeaders.RANGE, HttpHeaders.IF_RANGE, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
     // DateTime formatter for parsing Zoom timestamps
     private static final DateTimeFormatter ZOOM_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
 
-    public ZoomService(WebClient webClient) {
+    // Access token is reused until 5 minutes before it expires instead of being requested per call
+    private final Mono<ZoomAuthResponse> cachedAccessToken = Mono.defer(this::requestAccessToken)
+            .cache(authResponse -> Duration.ofSeconds(Math.max(0, authResponse.getExpiresIn() - 300)),
+                    error -> Duration.ZERO,
+                    () -> Duration.ZERO);
+
+    // Delay before the next AWS download strategy is hedged in
+    @Value("${zoom.download.hedge-delay-ms:1500}")
+    private long downloadHedgeDelayMs;
+
+    private final EngagementComputeScheduler computeScheduler;
+
+    // Names, emails and ids of decoded participants are shared across meetings and cached results
+    private final StringInterner stringInterner;
+
+    // Participant lists at least this large are aggregated in parallel chunks
+    @Value("${zoom.compute.parallel-threshold:5000}")
+    private int parallelThreshold;
+
+    // Collapse rejoin sessions of the same user into one participant before computing engagement
+    @Value("${zoom.analytics.merge-sessions:true}")
+    private boolean mergeSessions;
+
+    // While Zoom is failing, analytics up to this old are served marked stale instead of simulated
+    @Value("${zoom.stale.max-age-seconds:86400}")
+    private long staleMaxAgeSeconds;
+
+    // Background refreshes of stale analytics: how many run at once, how often each retries and how far apart
+    @Value("${zoom.stale.max-refreshes:4}")
+    private int staleMaxRefreshes;
+
+    @Value("${zoom.stale.refresh-attempts:5}")
+    private int staleRefreshAttempts;
+
+    @Value("${zoom.stale.refresh-interval-seconds:30}")
+    private long staleRefreshIntervalSeconds;
+
+    // Cache keys with a background refresh running
+    private final Set<String> staleRefreshes = ConcurrentHashMap.newKeySet();
+
+    // Download host -> name of the strategy that last succeeded there
+    private final Map<String, String> preferredDownloadStrategies = new ConcurrentHashMap<>();
+
+    public ZoomService(WebClient webClient, AnalyticsCache analyticsCache, LiveEngagementTracker liveTracker,
+                       DownloadRedirectCache redirectCache, EngagementComputeScheduler computeScheduler,
+                       StringInterner stringInterner, RecordingsCache recordingsCache, ZoomCircuitBreakers circuitBreakers) {
         this.webClient = webClient;
+        this.circuitBreakers = circuitBreakers;
+        this.recordingsCache = recordingsCache;
+        this.stringInterner = stringInterner;
+        this.computeScheduler = computeScheduler;
+        this.redirectCache = redirectCache;
+        this.downloadClient = webClient.mutate()
+                .codecs(configurer -> configurer
+                        .defaultCodecs()
+                        .maxInMemorySize(10 * 1024 * 1024)) // 10MB max buffer
+                .build();
+        this.analyticsCache = analyticsCache;
+        this.liveTracker = liveTracker;
     }
 
-    // Get Access Token from Zoom API
+    // Get Access Token (cached)
     public Mono<ZoomAuthResponse> getAccessToken() {
+        return cachedAccessToken;
+    }
+
+    // Request a new Access Token from Zoom API
+    private Mono<ZoomAuthResponse> requestAccessToken() {
         String credentials = clientId + ":" + clientSecret;
         String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
 
-        return webClient.post()
+        return circuitBreakers.guard(ZoomCircuitBreakers.AUTH, webClient.post()
                 .uri("https://zoom.us/oauth/token?grant_type=account_credentials&account_id=" + accountId)
                 .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedCredentials)
                 .retrieve()
-                .bodyToMono(ZoomAuthResponse.class);
+                .bodyToMono(ZoomAuthResponse.class));
     }
 
     // Get User's Meetings
     public Mono<ZoomMeetingsResponse> getMeetings(String accessToken) {
-        return webClient.get()
+        return circuitBreakers.guard(ZoomCircuitBreakers.MEETINGS, webClient.get()
                 .uri("https://api.zoom.us/v2/users/me/meetings")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(ZoomMeetingsResponse.class);
+                .bodyToMono(ZoomMeetingsResponse.class));
+    }
+
+    // Get Meeting Participants - decoded straight into the columnar store
+    public Mono<ParticipantColumns> getMeetingParticipants(String accessToken, String meetingId) {
+        return Mono.defer(() -> {
+            ParticipantColumns columns = new ParticipantColumns(0, stringInterner);
+            return getParticipantPage(accessToken, "https://api.zoom.us/v2/report/meetings/" + meetingId + "/participants", columns)
+                    .thenReturn(columns);
+        });
     }
 
-    // Get Meeting Participants
-    public Mono<ParticipantsResponse> getMeetingParticipants(String accessToken, String meetingId) {
-        return webClient.get()
-                .uri("https://api.zoom.us/v2/report/meetings/" + meetingId + "/participants")
+    // One participants report page: the response buffers are decoded as they arrive and appended to the columns
+    private Mono<ParticipantPageDecoder.Page> getParticipantPage(String accessToken, String uri, ParticipantColumns columns) {
+        return circuitBreakers.guard(ZoomCircuitBreakers.REPORTS, webClient.get()
+                .uri(uri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(ParticipantsResponse.class);
+                .bodyToFlux(DataBuffer.class)
+                .collect(() -> new ParticipantPageDecoder(columns), (decoder, buffer) -> {
+                    try {
+                        decoder.feed(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .map(ParticipantPageDecoder::finish));
     }
 
     // Calculate REAL Engagement Metrics with ACTUAL Join/Leave Times AND Individual User Tracking
     public Map<String, Object> calculateEngagementMetrics(ParticipantsResponse participantsResponse, int webinarDuration, int intervalMinutes) {
-        Map<String, Object> engagementData = new HashMap<>();
-        
+        return calculateEngagementMetrics(participantsResponse, webinarDuration, intervalMinutes, AnalyticsSection.ALL);
+    }
+
+    // Same, building only the requested sections - skipped sections are never computed or allocated
+    public Map<String, Object> calculateEngagementMetrics(ParticipantsResponse participantsResponse, int webinarDuration, int intervalMinutes,
+                                                          Set<AnalyticsSection> sections) {
         if (participantsResponse == null || participantsResponse.getParticipants() == null) {
+            Map<String, Object> engagementData = new HashMap<>();
             engagementData.put("error", "No participant data available");
             return engagementData;
         }
+        return calculateEngagementMetrics(ParticipantColumns.of(participantsResponse.getParticipants()), webinarDuration, intervalMinutes, sections);
+    }
+
+    // The engine proper - reads only the columnar participant store
+    Map<String, Object> calculateEngagementMetrics(ParticipantColumns participants, int webinarDuration, int intervalMinutes,
+                                                   Set<AnalyticsSection> sections) {
+        Map<String, Object> engagementData = new HashMap<>();
 
-        List<Participant> participants = participantsResponse.getParticipants();
-        int totalParticipants = participants.size();
+        // One row per join session - rejoining users are merged into one participant with several sessions
+        SessionMerging.Groups users = mergeSessions ? SessionMerging.merge(participants) : SessionMerging.unmerged(participants);
+        int totalParticipants = users.users();
 
         // DEBUG: Show sample participant data
-        System.out.println("=== DEBUG: Processing " + totalParticipants + " participants ===");
+        System.out.println("=== DEBUG: Processing " + participants.size() + " sessions of " + totalParticipants + " participants ===");
         System.out.println("📊 Using interval: " + intervalMinutes + " minutes");
-        if (!participants.isEmpty()) {
-            for (int i = 0; i < Math.min(3, participants.size()); i++) {
-                Participant participant = participants.get(i);
-                System.out.println("Sample Participant " + (i+1) + ": " + participant.getName() + " | Join: " + participant.getJoinTime() + " | Leave: " + participant.getLeaveTime());
-            }
+        for (int row = 0; row < Math.min(3, participants.size()); row++) {
+            System.out.println("Sample Participant " + (row+1) + ": " + participants.string(participants.names[row])
+                    + " | Join: " + participants.formatTime(participants.joinSeconds[row])
+                    + " | Leave: " + participants.formatTime(participants.leaveSeconds[row]));
         }
 
-        // Calculate basic duration metrics
-        int totalDurationSeconds = 0;
-        int maxDurationSeconds = 0;
-        int minDurationSeconds = Integer.MAX_VALUE;
-
-        for (Participant participant : participants) {
-            int duration = participant.getDuration(); // This is in SECONDS
-            totalDurationSeconds += duration;
-            
-            if (duration > maxDurationSeconds) {
-                maxDurationSeconds = duration;
-            }
-            if (duration < minDurationSeconds) {
-                minDurationSeconds = duration;
-            }
-        }
-
-        // Convert seconds to minutes
+        // Calculate REAL-TIME engagement from ACTUAL join/leave times WITH INDIVIDUAL USER TRACKING
+        Map<String, Object> realTimeAnalysis = calculateRealTimeEngagementWithUserTracking(users, webinarDuration, intervalMinutes, sections);
+        
+        // Duration metrics come out of the same pass - convert seconds to minutes
+        long totalDurationSeconds = (Long) realTimeAnalysis.get("total_duration_seconds");
+        int maxDurationSeconds = (Integer) realTimeAnalysis.get("max_duration_seconds");
+        int minDurationSeconds = (Integer) realTimeAnalysis.get("min_duration_seconds");
         double averageDurationMinutes = totalParticipants > 0 ? (double) totalDurationSeconds / totalParticipants / 60.0 : 0;
         double maxDurationMinutes = maxDurationSeconds / 60.0;
         double minDurationMinutes = minDurationSeconds == Integer.MAX_VALUE ? 0 : minDurationSeconds / 60.0;
         double totalMeetingMinutes = totalDurationSeconds / 60.0;
-
-        // USE DYNAMIC TIME BINS based on interval parameter
-        List<String> timeLabels = generateDynamicTimeBins(webinarDuration, intervalMinutes);
-        
-        // Calculate REAL-TIME engagement from ACTUAL join/leave times WITH INDIVIDUAL USER TRACKING
-        Map<String, Object> realTimeAnalysis = calculateRealTimeEngagementWithUserTracking(participants, webinarDuration, intervalMinutes);
         
         List<Integer> activeParticipants = (List<Integer>) realTimeAnalysis.get("active_participants");
         List<Integer> engagementRates = (List<Integer>) realTimeAnalysis.get("engagement_rate");
@@ -122,16 +215,20 @@ public class ZoomService {
         List<Map<String, Object>> userTimelines = (List<Map<String, Object>>) realTimeAnalysis.get("user_timelines");
         List<Map<String, Object>> participantDetails = (List<Map<String, Object>>) realTimeAnalysis.get("participant_details");
         
-        Map<String, Object> engagementGraph = new HashMap<>();
-        engagementGraph.put("labels", timeLabels);
-        engagementGraph.put("active_participants", activeParticipants);
-        engagementGraph.put("engagement_rate", engagementRates);
-        engagementGraph.put("users_joined", usersJoined);
-        engagementGraph.put("users_left", usersLeft);
-        engagementGraph.put("peak_active_users", peakActiveUsers);
-        engagementGraph.put("user_timelines", userTimelines); // Individual user presence per segment
+        Map<String, Object> engagementGraph = null;
+        if (sections.contains(AnalyticsSection.GRAPH)) {
+            engagementGraph = new HashMap<>();
+            engagementGraph.put("labels", realTimeAnalysis.get("labels"));
+            engagementGraph.put("active_participants", activeParticipants);
+            engagementGraph.put("engagement_rate", engagementRates);
+            engagementGraph.put("users_joined", usersJoined);
+            engagementGraph.put("users_left", usersLeft);
+            engagementGraph.put("peak_active_users", peakActiveUsers);
+        }
         
         engagementData.put("total_participants", totalParticipants);
+        engagementData.put("unique_users", totalParticipants);
+        engagementData.put("total_sessions", users.sessionCount());
         engagementData.put("average_participation_minutes", Math.round(averageDurationMinutes * 100.0) / 100.0);
         engagementData.put("max_participation_minutes", Math.round(maxDurationMinutes * 100.0) / 100.0);
         engagementData.put("min_participation_minutes", Math.round(minDurationMinutes * 100.0) / 100.0);
@@ -140,14 +237,29 @@ public class ZoomService {
         engagementData.put("final_active_users", realTimeAnalysis.get("final_active_users"));
         engagementData.put("total_joined", realTimeAnalysis.get("total_joined"));
         engagementData.put("total_left", realTimeAnalysis.get("total_left"));
-        engagementData.put("engagement_over_time", engagementGraph);
-        engagementData.put("participant_details", participantDetails); // Detailed user information
+        if (engagementGraph != null) {
+            engagementData.put("engagement_over_time", engagementGraph);
+        }
+        // Individual user presence per segment - callers move it to the top level of the analytics result,
+        // so the (largest) per-participant list is serialised once and not again inside engagement_metrics
+        if (userTimelines != null) {
+            engagementData.put("user_timelines", userTimelines);
+        }
+        if (participantDetails != null) {
+            engagementData.put("participant_details", participantDetails); // Detailed user information
+        }
 
         return engagementData;
     }
 
+    // calculateEngagementMetrics on the bounded compute pool instead of the I/O thread that delivered the participants
+    public Mono<Map<String, Object>> computeEngagementMetrics(ParticipantColumns participants, int webinarDuration, int intervalMinutes,
+                                                             Set<AnalyticsSection> sections) {
+        return computeScheduler.compute(() -> calculateEngagementMetrics(participants, webinarDuration, intervalMinutes, sections));
+    }
+
     // Generate DYNAMIC time bins based on interval parameter - FIXED to return proper time format
-    private List<String> generateDynamicTimeBins(int webinarDurationMinutes, int intervalMinutes) {
+    static List<String> generateDynamicTimeBins(int webinarDurationMinutes, int intervalMinutes) {
         List<String> timeLabels = new ArrayList<>();
         int binSize = intervalMinutes; // Use dynamic interval
         
@@ -190,7 +302,12 @@ public class ZoomService {
     }
 
     // Calculate REAL-TIME engagement with INDIVIDUAL USER TRACKING
-    private Map<String, Object> calculateRealTimeEngagementWithUserTracking(List<Participant> participants, int webinarDuration, int intervalMinutes) {
+    private Map<String, Object> calculateRealTimeEngagementWithUserTracking(SessionMerging.Groups users, int webinarDuration, int intervalMinutes,
+                                                                          Set<AnalyticsSection> sections) {
+        boolean buildGraph = sections.contains(AnalyticsSection.GRAPH);
+        boolean buildTimelines = sections.contains(AnalyticsSection.TIMELINES);
+        boolean buildDetails = sections.contains(AnalyticsSection.DETAILS);
+        
         // Generate dynamic time segments based on interval
         List<String> timeBins = generateDynamicTimeBins(webinarDuration, intervalMinutes);
         int segmentCount = timeBins.size();
@@ -199,128 +316,37 @@ public class ZoomService {
         
         // Arrays to store results for each segment
         int[] activeBySegment = new int[segmentCount];      // Average active users per segment
-        int[] joinedBySegment = new int[segmentCount];      // Users joined in each segment
-        int[] leftBySegment = new int[segmentCount];        // Users left in each segment  
         int[] peakBySegment = new int[segmentCount];        // Peak active users per segment
         
-        // Minute-by-minute tracking for accurate real-time calculation
-        int[] activeUsersPerMinute = new int[totalMinutes];
-        Arrays.fill(activeUsersPerMinute, 0);
-        
-        // Individual user tracking
-        List<Map<String, Object>> userTimelines = new ArrayList<>();
-        List<Map<String, Object>> participantDetails = new ArrayList<>();
-        
         // Find webinar start time (earliest join time)
-        LocalDateTime webinarStart = findWebinarStartTime(participants);
+        LocalDateTime webinarStart = findWebinarStartTime(users.columns);
         System.out.println("📅 Webinar Start Time: " + webinarStart);
         System.out.println("⏰ Webinar Duration: " + webinarDuration + " minutes");
         System.out.println("📊 Segment Count: " + segmentCount + " segments");
         System.out.println("⏱️ Segment Duration: " + segmentDuration + " minutes per segment");
         
-        // Process each participant's actual join and leave times
-        for (Participant participant : participants) {
-            try {
-                String joinTimeStr = participant.getJoinTime();
-                String leaveTimeStr = participant.getLeaveTime();
-                
-                // Parse join and leave times
-                LocalDateTime joinTime = LocalDateTime.parse(joinTimeStr, ZOOM_TIME_FORMATTER);
-                LocalDateTime leaveTime = LocalDateTime.parse(leaveTimeStr, ZOOM_TIME_FORMATTER);
-                
-                // Calculate minutes from webinar start
-                long joinMinuteFromStart = Duration.between(webinarStart, joinTime).toMinutes();
-                long leaveMinuteFromStart = Duration.between(webinarStart, leaveTime).toMinutes();
-                
-                // Ensure minutes are within webinar bounds (0 to webinarDuration-1 minutes)
-                joinMinuteFromStart = Math.max(0, Math.min(joinMinuteFromStart, totalMinutes - 1));
-                leaveMinuteFromStart = Math.max(0, Math.min(leaveMinuteFromStart, totalMinutes - 1));
-                
-                // Determine which segment the join and leave events happened in
-                int joinSegment = (int) (joinMinuteFromStart / segmentDuration);
-                int leaveSegment = (int) (leaveMinuteFromStart / segmentDuration);
-                
-                // Count join event
-                if (joinSegment < segmentCount) {
-                    joinedBySegment[joinSegment]++;
-                }
-                
-                // Count leave event  
-                if (leaveSegment < segmentCount) {
-                    leftBySegment[leaveSegment]++;
-                }
-                
-                // Mark participant as active for each minute they were present
-                for (int minute = (int) joinMinuteFromStart; minute <= (int) leaveMinuteFromStart; minute++) {
-                    if (minute < totalMinutes) {
-                        activeUsersPerMinute[minute]++;
-                    }
-                }
-                
-                // Create individual user timeline
-                Map<String, Object> userTimeline = new HashMap<>();
-                userTimeline.put("user_id", participant.getUserId() != null ? participant.getUserId() : "");
-                userTimeline.put("name", participant.getName() != null ? participant.getName() : "");
-                userTimeline.put("email", participant.getUserEmail() != null ? participant.getUserEmail() : "");
-                userTimeline.put("join_time", joinTimeStr);
-                userTimeline.put("leave_time", leaveTimeStr);
-                userTimeline.put("duration_minutes", Math.round(participant.getDuration() / 60.0 * 100.0) / 100.0);
-                userTimeline.put("join_minute", (int) joinMinuteFromStart);
-                userTimeline.put("leave_minute", (int) leaveMinuteFromStart);
-                
-                // Create presence array for each segment (1 = present, 0 = absent)
-                List<Integer> presenceBySegment = new ArrayList<>();
-                for (int segment = 0; segment < segmentCount; segment++) {
-                    int segmentStartMinute = segment * segmentDuration;
-                    int segmentEndMinute = Math.min((segment + 1) * segmentDuration - 1, totalMinutes - 1);
-                    
-                    boolean presentInSegment = ((int) joinMinuteFromStart <= segmentEndMinute) && 
-                                             ((int) leaveMinuteFromStart >= segmentStartMinute);
-                    presenceBySegment.add(presentInSegment ? 1 : 0);
-                }
-                userTimeline.put("presence_by_segment", presenceBySegment);
-                userTimelines.add(userTimeline);
-                
-                // Create participant details
-                Map<String, Object> participantDetail = new HashMap<>();
-                participantDetail.put("user_id", participant.getUserId() != null ? participant.getUserId() : "");
-                participantDetail.put("name", participant.getName() != null ? participant.getName() : "");
-                participantDetail.put("email", participant.getUserEmail() != null ? participant.getUserEmail() : "");
-                participantDetail.put("join_time", joinTimeStr);
-                participantDetail.put("leave_time", leaveTimeStr);
-                participantDetail.put("duration_seconds", participant.getDuration());
-                participantDetail.put("duration_minutes", Math.round(participant.getDuration() / 60.0 * 100.0) / 100.0);
-                participantDetail.put("join_segment", joinSegment);
-                participantDetail.put("leave_segment", leaveSegment);
-                participantDetail.put("attentiveness_score", participant.getAttentivenessScore() != null ? participant.getAttentivenessScore() : "");
-                participantDetails.add(participantDetail);
-                
-            } catch (Exception e) {
-                System.err.println("❌ Error processing participant " + participant.getName() + ": " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
-        
-        // Calculate segment statistics from minute-by-minute data
-        for (int segment = 0; segment < segmentCount; segment++) {
-            int segmentStartMinute = segment * segmentDuration;
-            int segmentEndMinute = Math.min((segment + 1) * segmentDuration - 1, totalMinutes - 1);
-            
-            // Calculate average active users in this segment
-            int segmentSum = 0;
-            int segmentPeak = 0;
-            int minutesInSegment = 0;
-            
-            for (int minute = segmentStartMinute; minute <= segmentEndMinute; minute++) {
-                segmentSum += activeUsersPerMinute[minute];
-                if (activeUsersPerMinute[minute] > segmentPeak) {
-                    segmentPeak = activeUsersPerMinute[minute];
-                }
-                minutesInSegment++;
-            }
-            
-            activeBySegment[segment] = minutesInSegment > 0 ? segmentSum / minutesInSegment : 0; // Average active users
-            peakBySegment[segment] = segmentPeak; // Peak active users in segment
+        // Process each participant's actual join and leave times - in parallel chunks for large lists.
+        // Individual user tracking is only built when those sections were requested.
+        EngagementAggregation.Params params = new EngagementAggregation.Params();
+        params.start = webinarStart;
+        params.totalMinutes = totalMinutes;
+        params.segmentDuration = segmentDuration;
+        params.segmentCount = segmentCount;
+        params.buildTimelines = buildTimelines;
+        params.buildDetails = buildDetails;
+        EngagementAggregation.Result aggregation = EngagementAggregation.aggregate(
+                users, params, computeScheduler.getAggregationPool(), parallelThreshold);
+        
+        SegmentKernel kernel = computeScheduler.getSegmentKernel();
+        int[] activeUsersPerMinute = kernel.prefixSum(aggregation.totals.minuteDiff, totalMinutes);  // Minute-by-minute active users
+        int[] joinedBySegment = aggregation.totals.joinedBySegment;              // Users joined in each segment
+        int[] leftBySegment = aggregation.totals.leftBySegment;                  // Users left in each segment
+        List<Map<String, Object>> userTimelines = aggregation.userTimelines;
+        List<Map<String, Object>> participantDetails = aggregation.participantDetails;
+        
+        // Calculate segment statistics (average and peak active users) from minute-by-minute data
+        if (buildGraph) {
+            kernel.segmentStats(activeUsersPerMinute, totalMinutes, segmentDuration, activeBySegment, peakBySegment);
         }
         
         // Calculate overall statistics
@@ -336,9 +362,9 @@ public class ZoomService {
         List<Integer> usersLeftList = new ArrayList<>();
         List<Integer> peakActiveUsersList = new ArrayList<>();
         
-        for (int i = 0; i < segmentCount; i++) {
+        for (int i = 0; buildGraph && i < segmentCount; i++) {
             activeParticipantsList.add(activeBySegment[i]);
-            int engagementRate = participants.size() > 0 ? (activeBySegment[i] * 100) / participants.size() : 0;
+            int engagementRate = users.users() > 0 ? (activeBySegment[i] * 100) / users.users() : 0;
             engagementRatesList.add(engagementRate);
             usersJoinedList.add(joinedBySegment[i]);
             usersLeftList.add(leftBySegment[i]);
@@ -350,65 +376,79 @@ public class ZoomService {
         System.out.println("📊 Peak Concurrent Users: " + peakConcurrent);
         System.out.println("📊 Final Active Users: " + finalActiveUsers);
         System.out.println("📊 Total Joined: " + totalJoined + " | Total Left: " + totalLeft);
-        System.out.println("👥 Total Participants: " + participants.size());
+        System.out.println("👥 Total Participants: " + users.users() + " (" + users.sessionCount() + " sessions)");
         System.out.println("⏰ Segment Active Users: " + activeParticipantsList);
         System.out.println("➕ Segment Joins: " + usersJoinedList);
         System.out.println("➖ Segment Leaves: " + usersLeftList);
         
         Map<String, Object> result = new HashMap<>();
-        result.put("active_participants", activeParticipantsList);
-        result.put("engagement_rate", engagementRatesList);
-        result.put("users_joined", usersJoinedList);
-        result.put("users_left", usersLeftList);
-        result.put("peak_active_users", peakActiveUsersList);
+        if (buildGraph) {
+            result.put("labels", timeBins);
+            result.put("active_participants", activeParticipantsList);
+            result.put("engagement_rate", engagementRatesList);
+            result.put("users_joined", usersJoinedList);
+            result.put("users_left", usersLeftList);
+            result.put("peak_active_users", peakActiveUsersList);
+        }
         result.put("peak_concurrent", peakConcurrent);
         result.put("final_active_users", finalActiveUsers);
         result.put("total_joined", totalJoined);
         result.put("total_left", totalLeft);
         result.put("user_timelines", userTimelines);
         result.put("participant_details", participantDetails);
+        result.put("total_duration_seconds", aggregation.totals.durationSumSeconds);
+        result.put("max_duration_seconds", aggregation.totals.durationMaxSeconds);
+        result.put("min_duration_seconds", aggregation.totals.durationMinSeconds);
         
         return result;
     }
 
     // Helper method to find webinar start time (earliest join time)
-    private LocalDateTime findWebinarStartTime(List<Participant> participants) {
-        LocalDateTime earliest = null;
-        
-        for (Participant participant : participants) {
-            try {
-                String joinTimeStr = participant.getJoinTime();
-                LocalDateTime joinTime = LocalDateTime.parse(joinTimeStr, ZOOM_TIME_FORMATTER);
-                
-                if (earliest == null || joinTime.isBefore(earliest)) {
-                    earliest = joinTime;
-                }
-            } catch (Exception e) {
-                // Skip participants with invalid join times
-                System.err.println("⚠️  Invalid join time for participant: " + participant.getName());
-            }
+    private LocalDateTime findWebinarStartTime(ParticipantColumns participants) {
+        int earliest = participants.earliestJoin();
+        if (earliest != ParticipantColumns.NO_TIME) {
+            return participants.timeOf(earliest);
         }
-        
-        // If no valid join times found, use the first participant's join time as fallback
-        if (earliest == null && !participants.isEmpty()) {
-            try {
-                String firstJoinTime = participants.get(0).getJoinTime();
-                earliest = LocalDateTime.parse(firstJoinTime, ZOOM_TIME_FORMATTER);
-                System.out.println("⚠️  Using first participant's join time as webinar start: " + earliest);
-            } catch (Exception e) {
-                // Ultimate fallback
-                earliest = LocalDateTime.now().minusMinutes(60);
-                System.out.println("⚠️  Using default webinar start time: " + earliest);
-            }
+        // No valid join times - nothing is placed on the timeline, any start will do
+        LocalDateTime fallback = LocalDateTime.now().minusMinutes(60);
+        if (participants.size() > 0) {
+            System.out.println("⚠️  Using default webinar start time: " + fallback);
         }
-        
-        return earliest;
+        return fallback;
     }
 
-    // Get Complete Meeting Analytics with Participant Details - UPDATED to accept interval
+    // Get Complete Meeting Analytics with Participant Details - served from cache when warm
     public Mono<Map<String, Object>> getMeetingAnalytics(String meetingId, Integer intervalMinutes) {
         int interval = intervalMinutes != null ? intervalMinutes : 5; // Default to 5 minutes
         
+        return analyticsCache.getOrCompute(AnalyticsCache.meetingKey(meetingId, interval),
+                () -> computeMeetingAnalytics(meetingId, interval, AnalyticsSection.ALL),
+                ZoomService::isRealAnalytics);
+    }
+
+    // Meeting analytics limited to some sections - projected from a warm full entry, otherwise computed
+    // with only those sections and cached under their own key
+    public Mono<Map<String, Object>> getMeetingAnalytics(String meetingId, Integer intervalMinutes, Set<AnalyticsSection> sections) {
+        int interval = intervalMinutes != null ? intervalMinutes : 5;
+        if (AnalyticsSection.isFull(sections)) {
+            return getMeetingAnalytics(meetingId, interval);
+        }
+        Map<String, Object> full = analyticsCache.get(AnalyticsCache.meetingKey(meetingId, interval));
+        return analyticsCache.getOrCompute(AnalyticsCache.meetingKey(meetingId, interval, sections),
+                () -> full != null
+                        ? Mono.just(AnalyticsSection.project(full, sections))
+                        : computeMeetingAnalytics(meetingId, interval, sections),
+                ZoomService::isRealAnalytics);
+    }
+
+    // Only fresh real Zoom results are cached - simulated, failed and stale results are recomputed next time
+    private static boolean isRealAnalytics(Map<String, Object> analytics) {
+        return Boolean.TRUE.equals(analytics.get("success")) && "zoom_api".equals(analytics.get("data_source"))
+                && !Boolean.TRUE.equals(analytics.get("stale"));
+    }
+
+    // Compute Meeting Analytics from Zoom API - UPDATED to accept interval
+    private Mono<Map<String, Object>> computeMeetingAnalytics(String meetingId, int interval, Set<AnalyticsSection> sections) {
         return getAccessToken()
                 .flatMap(authResponse -> {
                     // Get transcript data FIRST and include it in analytics
@@ -417,12 +457,12 @@ public class ZoomService {
                                 System.out.println("🎤 Transcript data retrieved for analytics: " + transcriptData.get("success"));
                                 
                                 // Then get participant data and analytics
+                                // Default meeting duration if not available
+                                int meetingDuration = 60; // default 1 hour
                                 return getMeetingParticipants(authResponse.getAccessToken(), meetingId)
-                                        .map(participantsResponse -> {
+                                        .flatMap(participants -> computeEngagementMetrics(participants, meetingDuration, interval, sections))
+                                        .map(engagementData -> {
                                             Map<String, Object> analytics = new HashMap<>();
-                                            // Default meeting duration if not available
-                                            int meetingDuration = 60; // default 1 hour
-                                            Map<String, Object> engagementData = calculateEngagementMetrics(participantsResponse, meetingDuration, interval);
                                             
                                             analytics.put("meeting_id", meetingId);
                                             analytics.put("success", true);
@@ -431,7 +471,7 @@ public class ZoomService {
                                             analytics.put("engagement_metrics", engagementData);
                                             analytics.put("engagement_graph", engagementData.get("engagement_over_time"));
                                             analytics.put("participant_details", engagementData.get("participant_details"));
-                                            analytics.put("user_timelines", engagementData.get("user_timelines"));
+                                            analytics.put("user_timelines", engagementData.remove("user_timelines"));
                                             
                                             // ADD TRANSCRIPT DATA TO ANALYTICS
                                             analytics.put("transcript", transcriptData);
@@ -452,6 +492,9 @@ public class ZoomService {
                                         })
                                         .onErrorResume(e -> {
                                             System.err.println("❌ Error getting real meeting data: " + e.getMessage());
+                                            if (ZoomCircuitBreakers.isUpstreamFailure(e) || EngagementComputeScheduler.isOverloaded(e)) {
+                                                return fallbackAnalytics(meetingId, interval, sections, e);
+                                            }
                                             // Even if analytics fail, return transcript data
                                             Map<String, Object> fallbackAnalytics = new HashMap<>();
                                             fallbackAnalytics.put("meeting_id", meetingId);
@@ -466,10 +509,9 @@ public class ZoomService {
                                 System.err.println("❌ Error getting transcript for analytics: " + e.getMessage());
                                 // If transcript fails, try to get analytics without transcript
                                 return getMeetingParticipants(authResponse.getAccessToken(), meetingId)
-                                        .map(participantsResponse -> {
+                                        .flatMap(participants -> computeEngagementMetrics(participants, 60, interval, sections))
+                                        .map(engagementData -> {
                                             Map<String, Object> analytics = new HashMap<>();
-                                            int meetingDuration = 60;
-                                            Map<String, Object> engagementData = calculateEngagementMetrics(participantsResponse, meetingDuration, interval);
                                             
                                             analytics.put("meeting_id", meetingId);
                                             analytics.put("success", true);
@@ -478,7 +520,7 @@ public class ZoomService {
                                             analytics.put("engagement_metrics", engagementData);
                                             analytics.put("engagement_graph", engagementData.get("engagement_over_time"));
                                             analytics.put("participant_details", engagementData.get("participant_details"));
-                                            analytics.put("user_timelines", engagementData.get("user_timelines"));
+                                            analytics.put("user_timelines", engagementData.remove("user_timelines"));
                                             analytics.put("message", "Real participant data analyzed (transcript unavailable)");
                                             analytics.put("data_source", "zoom_api");
                                             analytics.put("transcript_available", false);
@@ -488,33 +530,123 @@ public class ZoomService {
                                         })
                                         .onErrorResume(e2 -> {
                                             System.err.println("❌ Both transcript and analytics failed: " + e2.getMessage());
-                                            return generateSimulatedAnalytics(meetingId, interval);
+                                            return fallbackAnalytics(meetingId, interval, sections, e2);
                                         });
                             });
                 })
                 .onErrorResume(e -> {
                     System.err.println("❌ Error in meeting analytics: " + e.getMessage());
-                    return generateSimulatedAnalytics(meetingId, interval);
-                });
+                    return fallbackAnalytics(meetingId, interval, sections, e);
+                })
+                .map(analytics -> AnalyticsSection.project(analytics, sections));
+    }
+
+    // Report endpoints have no data while a meeting is running - use live webhook data when we have it.
+    // Otherwise a Zoom outage serves the last good analytics, anything else falls back to simulated data.
+    // A full compute queue is reported as such - simulating would only add more work to it.
+    private Mono<Map<String, Object>> fallbackAnalytics(String meetingId, int intervalMinutes, Set<AnalyticsSection> sections,
+                                                       Throwable error) {
+        if (EngagementComputeScheduler.isOverloaded(error)) {
+            return Mono.just(overloadedAnalytics(false, meetingId, intervalMinutes, error));
+        }
+        if (!liveTracker.isTracking(meetingId)) {
+            if (ZoomCircuitBreakers.isUpstreamFailure(error)) {
+                return Mono.just(staleAnalytics(false, meetingId, intervalMinutes, sections, error));
+            }
+            return generateSimulatedAnalytics(meetingId, intervalMinutes);
+        }
+        System.out.println("📡 Using live webhook data for meeting: " + meetingId);
+        Map<String, Object> live = liveTracker.snapshot(meetingId, intervalMinutes);
+        Map<String, Object> analytics = new HashMap<>(live);
+        analytics.put("message", "Live participant data from Zoom webhooks (meeting report not yet available)");
+        analytics.put("transcript_available", false);
+        return Mono.just(analytics);
+    }
+
+    // Last good analytics while Zoom is failing - the full cached result or the one for these sections,
+    // marked stale - and a background refresh to replace it. Never simulated: with nothing cached the
+    // caller gets an error telling it when to retry.
+    private Map<String, Object> staleAnalytics(boolean webinar, String id, int intervalMinutes, Set<AnalyticsSection> sections,
+                                               Throwable error) {
+        String fullKey = webinar ? AnalyticsCache.webinarKey(id, intervalMinutes) : AnalyticsCache.meetingKey(id, intervalMinutes);
+        String key = webinar ? AnalyticsCache.webinarKey(id, intervalMinutes, sections) : AnalyticsCache.meetingKey(id, intervalMinutes, sections);
+        refreshStale(key, () -> webinar
+                ? computeWebinarAnalytics(id, intervalMinutes, sections)
+                : computeMeetingAnalytics(id, intervalMinutes, sections));
+
+        Map<String, Object> stale = analyticsCache.getStale(fullKey, staleMaxAgeSeconds);
+        if (stale == null && !key.equals(fullKey)) {
+            stale = analyticsCache.getStale(key, staleMaxAgeSeconds);
+        }
+        if (stale != null) {
+            System.out.println("🕰️ Zoom unavailable, serving stale analytics for " + key + " (" + stale.get("stale_age_seconds") + "s old)");
+            stale.put("stale_reason", error.getMessage());
+            return stale;
+        }
+
+        long retryAfter = ZoomCircuitBreakers.retryAfterSeconds(error);
+        Map<String, Object> unavailable = new HashMap<>();
+        unavailable.put(webinar ? "webinar_id" : "meeting_id", id);
+        unavailable.put("success", false);
+        unavailable.put("interval_minutes", intervalMinutes);
+        unavailable.put("error", "Zoom API unavailable and no earlier analytics cached: " + error.getMessage());
+        unavailable.put("upstream_unavailable", true);
+        unavailable.put("retry_after_seconds", retryAfter > 0 ? retryAfter : staleRefreshIntervalSeconds);
+        return unavailable;
+    }
+
+    // The compute queue was full - tell the caller when to retry (the controller answers 503)
+    private static Map<String, Object> overloadedAnalytics(boolean webinar, String id, int intervalMinutes, Throwable error) {
+        System.out.println("🚦 Compute queue full, rejecting analytics for " + (webinar ? "webinar " : "meeting ") + id);
+        Map<String, Object> overloaded = EngagementComputeScheduler.overloadedResult(error);
+        overloaded.put(webinar ? "webinar_id" : "meeting_id", id);
+        overloaded.put("interval_minutes", intervalMinutes);
+        return overloaded;
+    }
+
+    // Recompute in the background until Zoom answers again and cache the real result. Bounded: one refresh
+    // per key, at most staleMaxRefreshes at once, staleRefreshAttempts attempts each.
+    private void refreshStale(String key, Supplier<Mono<Map<String, Object>>> compute) {
+        if (!staleRefreshes.add(key)) {
+            return;
+        }
+        if (staleRefreshes.size() > staleMaxRefreshes) {
+            staleRefreshes.remove(key);
+            return;
+        }
+        Duration retryInterval = Duration.ofSeconds(Math.max(1, staleRefreshIntervalSeconds));
+        Mono.delay(retryInterval)
+                .then(Mono.defer(compute)
+                        .filter(ZoomService::isRealAnalytics)
+                        .repeatWhenEmpty(Math.max(0, staleRefreshAttempts - 1), attempts -> attempts.delayElements(retryInterval)))
+                .doFinally(signal -> staleRefreshes.remove(key))
+                .subscribe(result -> {
+                    analyticsCache.put(key, result);
+                    System.out.println("🔄 Refreshed stale analytics: " + key);
+                }, e -> System.out.println("⚠️ Gave up refreshing stale analytics for " + key + ": " + e.getMessage()));
     }
 
     // Generate simulated analytics when real data is not available - UPDATED to accept interval
     private Mono<Map<String, Object>> generateSimulatedAnalytics(String meetingId, int intervalMinutes) {
         return getAccessToken()
                 .flatMap(authResponse -> getMeetings(authResponse.getAccessToken()))
-                .map(meetingsResponse -> {
-                    Map<String, Object> analytics = new HashMap<>();
-                    
+                .flatMap(meetingsResponse -> {
                     // Find the meeting to get basic info
                     Optional<ZoomMeeting> meetingOpt = meetingsResponse.getMeetings().stream()
                             .filter(meeting -> meetingId.equals(meeting.getId()))
                             .findFirst();
                     
-                    if (meetingOpt.isPresent()) {
-                        ZoomMeeting meeting = meetingOpt.get();
-                        Map<String, Object> simulatedData = createSimulatedEngagementData(meeting, intervalMinutes);
-                        
+                    if (meetingOpt.isEmpty()) {
+                        Map<String, Object> analytics = new HashMap<>();
+                        analytics.put("success", false);
+                        analytics.put("error", "Meeting not found");
                         analytics.put("meeting_id", meetingId);
+                        analytics.put("transcript_available", false);
+                        return Mono.just(analytics);
+                    }
+                    ZoomMeeting meeting = meetingOpt.get();
+                    return createSimulatedEngagementData(meeting, intervalMinutes).map(simulatedData -> {
+                        Map<String, Object> analytics = new HashMap<>();
                         analytics.put("success", true);
                         analytics.put("interval_minutes", intervalMinutes);
                         analytics.put("meeting_topic", meeting.getTopic());
@@ -523,31 +655,23 @@ public class ZoomService {
                         analytics.put("total_participants", simulatedData.get("total_participants"));
                         analytics.put("engagement_metrics", simulatedData);
                         analytics.put("engagement_graph", simulatedData.get("engagement_over_time"));
+                        analytics.put("user_timelines", simulatedData.remove("user_timelines"));
                         analytics.put("message", "Simulated analytics (real participant data not available)");
                         analytics.put("data_source", "simulated");
                         analytics.put("note", "Real participant data is only available for recent meetings via Zoom API");
                         analytics.put("transcript_available", false);
-                    } else {
-                        analytics.put("success", false);
-                        analytics.put("error", "Meeting not found");
-                        analytics.put("meeting_id", meetingId);
-                        analytics.put("transcript_available", false);
-                    }
-                    
-                    return analytics;
+                        return analytics;
+                    });
                 })
-                .onErrorResume(e -> {
-                    // Ultimate fallback - basic simulated data
-                    Map<String, Object> basicAnalytics = createBasicSimulatedData(meetingId, intervalMinutes);
-                    return Mono.just(basicAnalytics);
-                });
+                .onErrorResume(e -> EngagementComputeScheduler.isOverloaded(e)
+                        ? Mono.just(overloadedAnalytics(false, meetingId, intervalMinutes, e))
+                        // Ultimate fallback - basic simulated data
+                        : createBasicSimulatedData(meetingId, intervalMinutes));
     }
 
-    // Create realistic simulated engagement data based on meeting - UPDATED to accept interval
-    private Map<String, Object> createSimulatedEngagementData(ZoomMeeting meeting, int intervalMinutes) {
-        Map<String, Object> engagementData = new HashMap<>();
-        
-        // Simulate realistic participant counts based on meeting type
+    // Simulated engagement for a meeting without report data - participant count from the topic, shape
+    // from a synthetic report seeded with the meeting id
+    private Mono<Map<String, Object>> createSimulatedEngagementData(ZoomMeeting meeting, int intervalMinutes) {
         int baseParticipants = 12;
         if (meeting.getTopic().toLowerCase().contains("review") || 
             meeting.getTopic().toLowerCase().contains("team")) {
@@ -557,192 +681,57 @@ public class ZoomService {
         }
         
         Random random = new Random(meeting.getId().hashCode()); // Consistent based on meeting ID
-        
         int totalParticipants = baseParticipants + random.nextInt(8);
-        int meetingDuration = meeting.getDuration();
-        
-        // Generate DYNAMIC time bins based on interval
-        List<String> timeLabels = generateDynamicTimeBins(meetingDuration, intervalMinutes);
-        int segments = timeLabels.size();
-        
-        List<Integer> activeParticipants = new ArrayList<>();
-        List<Integer> engagementRates = new ArrayList<>();
-        List<Integer> usersJoined = new ArrayList<>();
-        List<Integer> usersLeft = new ArrayList<>();
-        List<Integer> peakActiveUsers = new ArrayList<>();
-        List<Map<String, Object>> userTimelines = new ArrayList<>();
-        List<Map<String, Object>> participantDetails = new ArrayList<>();
-        
-        for (int i = 0; i < segments; i++) {
-            // Simulate natural drop-off
-            double retention = 1.0 - (i * 0.08); // 8% drop per segment
-            int active = (int) (totalParticipants * retention);
-            activeParticipants.add(Math.max(active, 1));
-            
-            int engagementRate = 100 - (i * 8); // 8% engagement drop per segment
-            engagementRates.add(Math.max(engagementRate, 20));
-            
-            // Simulate join/leave patterns
-            usersJoined.add(i == 0 ? totalParticipants : random.nextInt(3));
-            usersLeft.add(i == 0 ? 0 : random.nextInt(5));
-            peakActiveUsers.add(active + random.nextInt(3));
-        }
-        
-        // Create simulated participant details
-        for (int i = 0; i < totalParticipants; i++) {
-            Map<String, Object> participantDetail = new HashMap<>();
-            participantDetail.put("user_id", "simulated_user_" + i);
-            participantDetail.put("name", "User " + (i + 1));
-            participantDetail.put("email", "user" + (i + 1) + "@example.com");
-            participantDetail.put("join_time", LocalDateTime.now().minusMinutes(meetingDuration).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("leave_time", LocalDateTime.now().format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("duration_seconds", meetingDuration * 60);
-            participantDetail.put("duration_minutes", meetingDuration);
-            participantDetail.put("attentiveness_score", "");
-            participantDetails.add(participantDetail);
-            
-            Map<String, Object> userTimeline = new HashMap<>();
-            userTimeline.put("user_id", "simulated_user_" + i);
-            userTimeline.put("name", "User " + (i + 1));
-            userTimeline.put("email", "user" + (i + 1) + "@example.com");
-            userTimeline.put("join_time", LocalDateTime.now().minusMinutes(meetingDuration).format(ZOOM_TIME_FORMATTER));
-            userTimeline.put("leave_time", LocalDateTime.now().format(ZOOM_TIME_FORMATTER));
-            userTimeline.put("duration_minutes", meetingDuration);
-            userTimeline.put("join_minute", 0);
-            userTimeline.put("leave_minute", meetingDuration - 1);
-            
-            // Create presence array
-            List<Integer> presenceBySegment = new ArrayList<>();
-            for (int seg = 0; seg < segments; seg++) {
-                presenceBySegment.add(1); // All present in simulation
-            }
-            userTimeline.put("presence_by_segment", presenceBySegment);
-            userTimelines.add(userTimeline);
-        }
-        
-        // Calculate metrics
-        int totalDuration = meetingDuration * totalParticipants;
-        double averageDuration = meetingDuration * 0.7; // 70% average attendance
-        
-        Map<String, Object> engagementGraph = new HashMap<>();
-        engagementGraph.put("labels", timeLabels);
-        engagementGraph.put("active_participants", activeParticipants);
-        engagementGraph.put("engagement_rate", engagementRates);
-        engagementGraph.put("users_joined", usersJoined);
-        engagementGraph.put("users_left", usersLeft);
-        engagementGraph.put("peak_active_users", peakActiveUsers);
-        engagementGraph.put("user_timelines", userTimelines);
-        
-        engagementData.put("total_participants", totalParticipants);
-        engagementData.put("average_participation_minutes", Math.round(averageDuration * 100.0) / 100.0);
-        engagementData.put("max_participation_minutes", meetingDuration);
-        engagementData.put("min_participation_minutes", 5);
-        engagementData.put("total_meeting_minutes", totalDuration);
-        engagementData.put("engagement_score", 75 + random.nextInt(20));
-        engagementData.put("attention_retention", Math.round((activeParticipants.get(activeParticipants.size()-1) / (double)totalParticipants) * 100));
-        engagementData.put("engagement_over_time", engagementGraph);
-        engagementData.put("participant_details", participantDetails);
-        engagementData.put("user_timelines", userTimelines);
-        engagementData.put("peak_concurrent_users", totalParticipants);
-        engagementData.put("final_active_users", activeParticipants.get(activeParticipants.size()-1));
-        engagementData.put("total_joined", totalParticipants);
-        engagementData.put("total_left", totalParticipants - activeParticipants.get(activeParticipants.size()-1));
-        
-        return engagementData;
+
+        SyntheticParticipantReports.Params params = SyntheticParticipantReports.meeting(meeting.getId().hashCode(), totalParticipants,
+                meeting.getDuration() > 0 ? meeting.getDuration() : 60);
+        params.start = meeting.getStartTime() != null ? meeting.getStartTime() : endingNow(params.durationMinutes);
+        return simulatedEngagement(params, intervalMinutes);
     }
 
-    // Create basic simulated data as ultimate fallback - UPDATED to accept interval
-    private Map<String, Object> createBasicSimulatedData(String meetingId, int intervalMinutes) {
+    // Basic simulated analytics as the ultimate fallback - a 60-minute synthetic report for the meeting id
+    private Mono<Map<String, Object>> createBasicSimulatedData(String meetingId, int intervalMinutes) {
+        SyntheticParticipantReports.Params params = SyntheticParticipantReports.meeting(meetingId.hashCode(), 15, 60);
+        params.start = endingNow(params.durationMinutes);
+        return simulatedEngagement(params, intervalMinutes).map(engagementData -> {
+            Map<String, Object> analytics = simulatedAnalytics(engagementData, intervalMinutes);
+            analytics.put("meeting_id", meetingId);
+            analytics.put("message", "Basic simulated analytics (fallback data)");
+            analytics.put("data_source", "basic_fallback");
+            analytics.put("transcript_available", false);
+            return analytics;
+        });
+    }
+
+    // Simulated engagement: a seeded synthetic report run through the real engine, so simulated results
+    // have exactly the shape and arithmetic of real ones. Generated and computed on the compute pool like real data.
+    private Mono<Map<String, Object>> simulatedEngagement(SyntheticParticipantReports.Params params, int intervalMinutes) {
+        return computeScheduler.compute(() -> calculateEngagementMetrics(SyntheticParticipantReports.columns(params, stringInterner),
+                params.durationMinutes, intervalMinutes, AnalyticsSection.ALL));
+    }
+
+    // Top-level analytics fields of a simulated result, the same ones real results carry
+    private static Map<String, Object> simulatedAnalytics(Map<String, Object> engagementData, int intervalMinutes) {
         Map<String, Object> analytics = new HashMap<>();
-        Map<String, Object> engagementData = new HashMap<>();
-        
-        // Use DYNAMIC time bins for 60-minute meeting
-        List<String> timeLabels = generateDynamicTimeBins(60, intervalMinutes);
-        
-        // Generate data for each segment
-        List<Integer> activeParticipants = new ArrayList<>();
-        List<Integer> engagementRates = new ArrayList<>();
-        List<Integer> usersJoined = new ArrayList<>();
-        List<Integer> usersLeft = new ArrayList<>();
-        List<Integer> peakActiveUsers = new ArrayList<>();
-        List<Map<String, Object>> userTimelines = new ArrayList<>();
-        List<Map<String, Object>> participantDetails = new ArrayList<>();
-        
-        Random random = new Random(meetingId.hashCode());
-        int baseParticipants = 15;
-        
-        for (int i = 0; i < timeLabels.size(); i++) {
-            // Simulate natural drop-off
-            double retention = 1.0 - (i * 0.07);
-            int active = (int) (baseParticipants * retention);
-            activeParticipants.add(Math.max(active, 1));
-            
-            int engagementRate = 100 - (i * 7);
-            engagementRates.add(Math.max(engagementRate, 20));
-            
-            // Simulate join/leave patterns
-            usersJoined.add(i == 0 ? baseParticipants : random.nextInt(2));
-            usersLeft.add(i == 0 ? 0 : random.nextInt(3));
-            peakActiveUsers.add(active + random.nextInt(2));
-        }
-        
-        // Create basic participant details
-        for (int i = 0; i < baseParticipants; i++) {
-            Map<String, Object> participantDetail = new HashMap<>();
-            participantDetail.put("user_id", "basic_user_" + i);
-            participantDetail.put("name", "Basic User " + (i + 1));
-            participantDetail.put("email", "basic" + (i + 1) + "@example.com");
-            participantDetail.put("join_time", LocalDateTime.now().minusMinutes(60).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("leave_time", LocalDateTime.now().minusMinutes(10).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("duration_seconds", 3000);
-            participantDetail.put("duration_minutes", 50);
-            participantDetail.put("attentiveness_score", "");
-            participantDetails.add(participantDetail);
-        }
-        
-        Map<String, Object> engagementGraph = new HashMap<>();
-        engagementGraph.put("labels", timeLabels);
-        engagementGraph.put("active_participants", activeParticipants);
-        engagementGraph.put("engagement_rate", engagementRates);
-        engagementGraph.put("users_joined", usersJoined);
-        engagementGraph.put("users_left", usersLeft);
-        engagementGraph.put("peak_active_users", peakActiveUsers);
-        engagementGraph.put("user_timelines", userTimelines);
-        
-        engagementData.put("total_participants", 15);
-        engagementData.put("average_participation_minutes", 42.5);
-        engagementData.put("max_participation_minutes", 60);
-        engagementData.put("min_participation_minutes", 5);
-        engagementData.put("total_meeting_minutes", 637);
-        engagementData.put("engagement_score", 82);
-        engagementData.put("attention_retention", 67);
-        engagementData.put("engagement_over_time", engagementGraph);
-        engagementData.put("participant_details", participantDetails);
-        engagementData.put("user_timelines", userTimelines);
-        engagementData.put("peak_concurrent_users", 15);
-        engagementData.put("final_active_users", 10);
-        engagementData.put("total_joined", 15);
-        engagementData.put("total_left", 5);
-        
-        analytics.put("meeting_id", meetingId);
         analytics.put("success", true);
         analytics.put("interval_minutes", intervalMinutes);
-        analytics.put("total_participants", 15);
+        analytics.put("total_participants", engagementData.get("total_participants"));
         analytics.put("engagement_metrics", engagementData);
-        analytics.put("engagement_graph", engagementGraph);
-        analytics.put("participant_details", participantDetails);
-        analytics.put("user_timelines", userTimelines);
-        analytics.put("message", "Basic simulated analytics (fallback data)");
-        analytics.put("data_source", "basic_fallback");
-        analytics.put("peak_concurrent_users", 15);
-        analytics.put("final_active_users", 10);
-        analytics.put("total_joined", 15);
-        analytics.put("total_left", 5);
-        analytics.put("transcript_available", false);
-        
+        analytics.put("engagement_graph", engagementData.get("engagement_over_time"));
+        analytics.put("participant_details", engagementData.get("participant_details"));
+        analytics.put("user_timelines", engagementData.remove("user_timelines"));
+        analytics.put("peak_concurrent_users", engagementData.get("peak_concurrent_users"));
+        analytics.put("final_active_users", engagementData.get("final_active_users"));
+        analytics.put("total_joined", engagementData.get("total_joined"));
+        analytics.put("total_left", engagementData.get("total_left"));
         return analytics;
     }
 
+    // Start of a simulated session that ends now, on a whole minute
+    private static LocalDateTime endingNow(int durationMinutes) {
+        return LocalDateTime.now().withSecond(0).withNano(0).minusMinutes(durationMinutes);
+    }
+
     // Get All Meetings with Basic Info
     public Mono<Map<String, Object>> getAllMeetings() {
         return getAccessToken()
@@ -856,28 +845,29 @@ public class ZoomService {
     
     // ========== TRANSCRIPT METHODS ==========
     
-    // Get Meeting Transcript - SIMPLE VERSION (Returns download URL for frontend)
+    // Get Meeting Transcript metadata - served from cache when warm
     public Mono<Map<String, Object>> getMeetingTranscript(String meetingId) {
+        return analyticsCache.getOrCompute(AnalyticsCache.transcriptKey(meetingId),
+                () -> fetchMeetingTranscript(meetingId),
+                transcript -> Boolean.TRUE.equals(transcript.get("success")));
+    }
+
+    // Fetch Meeting Transcript - SIMPLE VERSION (Returns download URL for frontend)
+    private Mono<Map<String, Object>> fetchMeetingTranscript(String meetingId) {
         System.out.println("🎯 SIMPLE getMeetingTranscript for: " + meetingId);
 
         return getAccessToken()
                 .flatMap(authResponse -> {
                     System.out.println("✅ Got access token");
                     
-                    return webClient.get()
-                            .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
-                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
-                            .retrieve()
-                            .bodyToMono(ZoomRecordingsResponse.class)
-                            .flatMap(recordingsResponse -> {
-                                System.out.println("📥 Found " + recordingsResponse.getRecordingFiles().size() + " recording files");
+                    return getRecordings(meetingId)
+                            .flatMap(recordings -> {
+                                System.out.println("📥 Found " + recordings.files().size() + " recording files");
                                 
                                 // Find transcript file
-                                Optional<RecordingFile> transcriptOpt = recordingsResponse.getRecordingFiles().stream()
-                                        .filter(file -> "TRANSCRIPT".equals(file.getFileType()))
-                                        .findFirst();
+                                RecordingFile transcript = recordings.first("TRANSCRIPT");
 
-                                if (transcriptOpt.isEmpty()) {
+                                if (transcript == null) {
                                     System.out.println("❌ No transcript file available");
                                     Map<String, Object> errorResult = new HashMap<>();
                                     errorResult.put("success", false);
@@ -886,7 +876,6 @@ public class ZoomService {
                                     return Mono.just(errorResult);
                                 }
 
-                                RecordingFile transcript = transcriptOpt.get();
                                 System.out.println("🎤 Found transcript file: " + transcript.getDownloadUrl());
                                 
                                 // Return the URL and let frontend handle the download
@@ -918,26 +907,31 @@ public class ZoomService {
     // NEW FIXED METHOD: Download transcript with actual content - COMPLETELY FIXED
  // FIXED VERSION: Download transcript with STREAMING to handle large files
     public Mono<Map<String, Object>> downloadTranscriptWithContent(String meetingId, String downloadUrl) {
-        System.out.println("📥 DOWNLOAD WITH CONTENT (STREAMING) for: " + meetingId);
+        return downloadTranscriptWithContent(meetingId, downloadUrl, null);
+    }
+
+    // Range-aware variant - a retry after a timeout can fetch only the bytes it is still missing
+    public Mono<Map<String, Object>> downloadTranscriptWithContent(String meetingId, String downloadUrl, String range) {
+        System.out.println("📥 DOWNLOAD WITH CONTENT (STREAMING) for: " + meetingId + (range != null ? " range: " + range : ""));
         System.out.println("🔗 Download URL: " + downloadUrl);
         
         return getAccessToken()
                 .flatMap(authResponse -> {
                     System.out.println("🔑 Got access token for download");
                     
-                    // Create a WebClient with larger buffer for streaming
-                    WebClient webClient = WebClient.builder()
-                            .codecs(configurer -> configurer
-                                    .defaultCodecs()
-                                    .maxInMemorySize(10 * 1024 * 1024)) // 10MB max buffer
-                            .build();
-                    
-                    return webClient.get()
+                    // Shared download client - larger buffer, the application's codecs
+                    Mono<Map<String, Object>> zoomDownload = downloadClient.get()
                             .uri(downloadUrl)
                             .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
                             .header(HttpHeaders.ACCEPT, "text/vtt, text/plain, */*")
+                            .headers(headers -> {
+                                if (range != null) {
+                                    headers.set(HttpHeaders.RANGE, range);
+                                }
+                            })
                             .exchangeToMono(response -> {
                                 System.out.println("📥 Initial request HTTP Status: " + response.statusCode());
+                                String contentRange = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_RANGE);
                                 
                                 if (response.statusCode().is2xxSuccessful()) {
                                     // Stream the content
@@ -954,6 +948,10 @@ public class ZoomService {
                                                 result.put("transcript_available", true);
                                                 result.put("download_method", "streamed_download");
                                                 result.put("http_status", response.statusCode().value());
+                                                result.put("partial", response.statusCode().value() == 206);
+                                                if (contentRange != null) {
+                                                    result.put("content_range", contentRange);
+                                                }
                                                 
                                                 // Add preview for debugging
                                                 if (content.length() > 0) {
@@ -968,6 +966,7 @@ public class ZoomService {
                                     // Handle redirect
                                     String redirectUrl = response.headers().header(HttpHeaders.LOCATION).get(0);
                                     System.out.println("🔄 Found redirect URL: " + redirectUrl);
+                                    redirectCache.put(downloadUrl, redirectUrl);
                                     
                                     Map<String, Object> result = new HashMap<>();
                                     result.put("success", true);
@@ -977,7 +976,18 @@ public class ZoomService {
                                     result.put("transcript_available", true);
                                     result.put("download_method", "aws_redirect");
                                     result.put("message", "Large file - use redirect_url for download");
-                                    return Mono.just(result);
+                                    
+                                    // Fetch the content from AWS ourselves - fall back to handing out the redirect
+                                    return response.releaseBody()
+                                            .then(attemptMultipleAWSDownloadStrategies(meetingId, authResponse.getAccessToken(), redirectUrl, range))
+                                            .map(awsResult -> {
+                                                if (!Boolean.TRUE.equals(awsResult.get("success"))) {
+                                                    return result;
+                                                }
+                                                awsResult.put("has_redirect", true);
+                                                awsResult.put("redirect_url", redirectUrl);
+                                                return awsResult;
+                                            });
                                 } else {
                                     // Other HTTP status
                                     System.out.println("❌ Download failed with HTTP status: " + response.statusCode());
@@ -989,9 +999,31 @@ public class ZoomService {
                                     result.put("transcript_available", true);
                                     result.put("download_method", "http_error");
                                     result.put("http_status", response.statusCode().value());
+                                    if (contentRange != null) {
+                                        result.put("content_range", contentRange);
+                                    }
                                     return Mono.just(result);
                                 }
                             });
+                    
+                    // A still-valid signed URL from an earlier request skips the round trip to Zoom
+                    String cachedRedirectUrl = redirectCache.get(downloadUrl);
+                    if (cachedRedirectUrl == null) {
+                        return zoomDownload;
+                    }
+                    System.out.println("⚡ Using cached redirect URL for: " + meetingId);
+                    return attemptMultipleAWSDownloadStrategies(meetingId, authResponse.getAccessToken(), cachedRedirectUrl, range)
+                            .flatMap(awsResult -> {
+                                if (!Boolean.TRUE.equals(awsResult.get("success"))) {
+                                    // Rejected before its advertised expiry - resolve it again through Zoom
+                                    redirectCache.invalidate(downloadUrl);
+                                    return zoomDownload;
+                                }
+                                awsResult.put("has_redirect", true);
+                                awsResult.put("redirect_url", cachedRedirectUrl);
+                                awsResult.put("redirect_cached", true);
+                                return Mono.just(awsResult);
+                            });
                 })
                 .onErrorResume(e -> {
                     System.out.println("❌ Download error: " + e.getMessage());
@@ -1014,16 +1046,18 @@ public class ZoomService {
                     timeoutResult.put("meeting_id", meetingId);
                     timeoutResult.put("transcript_available", true);
                     timeoutResult.put("download_method", "timeout");
-                    timeoutResult.put("suggestion", "Try streaming endpoint: /api/transcript-stream-simple/" + meetingId);
+                    timeoutResult.put("suggestion", "Try streaming endpoint: /api/transcript-stream-simple/" + meetingId
+                            + " or resume with a Range header on /api/transcript-proxy/" + meetingId);
                     return Mono.just(timeoutResult);
                 });
     }
 
-    // New method to try multiple AWS download strategies
+    // Try the AWS download strategies hedged - the next strategy starts after a short delay
+    // (or as soon as the previous one fails), the first success wins and the rest are cancelled
     private Mono<Map<String, Object>> attemptMultipleAWSDownloadStrategies(
-        String meetingId, String accessToken, String awsUrl
+        String meetingId, String accessToken, String awsUrl, String range
     ) {
-        System.out.println("🔄 Trying multiple AWS download strategies...");
+        System.out.println("🔄 Trying hedged AWS download strategies...");
         
         Map<String, Object> baseResult = new HashMap<>();
         baseResult.put("success", false);
@@ -1031,81 +1065,110 @@ public class ZoomService {
         baseResult.put("transcript_available", true);
         baseResult.put("aws_url", awsUrl);
         
-        // Strategy 1: Try with original access token (sometimes works)
-        Mono<Map<String, Object>> strategy1 = tryDownloadWithStrategy(awsUrl, "strategy1_auth", Map.of(
-            HttpHeaders.AUTHORIZATION, "Bearer " + accessToken,
-            HttpHeaders.ACCEPT, "text/vtt, text/plain, */*"
+        List<DownloadStrategy> strategies = new ArrayList<>(List.of(
+            // Strategy 1: Try with original access token (sometimes works)
+            new DownloadStrategy("strategy1_auth", Map.of(
+                HttpHeaders.AUTHORIZATION, "Bearer " + accessToken,
+                HttpHeaders.ACCEPT, "text/vtt, text/plain, */*"
+            )),
+            // Strategy 2: Try with no auth but proper user agent (CloudFront sometimes allows)
+            new DownloadStrategy("strategy2_no_auth", Map.of(
+                HttpHeaders.ACCEPT, "text/vtt, text/plain, */*",
+                HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36"
+            )),
+            // Strategy 3: Try with minimal headers
+            new DownloadStrategy("strategy3_minimal", Map.of(
+                HttpHeaders.ACCEPT, "*/*"
+            ))
         ));
         
-        // Strategy 2: Try with no auth but proper user agent (CloudFront sometimes allows)
-        Mono<Map<String, Object>> strategy2 = tryDownloadWithStrategy(awsUrl, "strategy2_no_auth", Map.of(
-            HttpHeaders.ACCEPT, "text/vtt, text/plain, */*",
-            HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36"
-        ));
-        
-        // Strategy 3: Try with minimal headers
-        Mono<Map<String, Object>> strategy3 = tryDownloadWithStrategy(awsUrl, "strategy3_minimal", Map.of(
-            HttpHeaders.ACCEPT, "*/*"
-        ));
+        // The strategy that last worked for this host goes first, so it normally answers before any hedge fires
+        String host = URI.create(awsUrl).getHost();
+        String preferred = host != null ? preferredDownloadStrategies.get(host) : null;
+        if (preferred != null) {
+            strategies.sort(Comparator.comparing(strategy -> !strategy.name().equals(preferred)));
+            System.out.println("🎯 Using remembered strategy for " + host + ": " + preferred);
+        }
         
-        // Try strategies in order until one works
-        return strategy1
-                .flatMap(result -> {
-                    if (result.containsKey("content") && result.get("content") != null) {
-                        System.out.println("✅ Strategy 1 (with auth) succeeded");
-                        return Mono.just(result);
-                    }
-                    System.out.println("⚠️ Strategy 1 failed, trying strategy 2");
-                    return strategy2;
-                })
-                .flatMap(result -> {
-                    if (result.containsKey("content") && result.get("content") != null) {
-                        System.out.println("✅ Strategy 2 (no auth) succeeded");
-                        return Mono.just(result);
+        return hedge(strategies.stream().map(strategy -> tryDownloadWithStrategy(awsUrl, range, strategy)).toList(),
+                     Duration.ofMillis(downloadHedgeDelayMs))
+                .doOnNext(result -> {
+                    if (host != null) {
+                        preferredDownloadStrategies.put(host, (String) result.get("download_method"));
                     }
-                    System.out.println("⚠️ Strategy 2 failed, trying strategy 3");
-                    return strategy3;
+                    result.put("meeting_id", meetingId);
+                    result.put("transcript_available", true);
+                    result.put("aws_url", awsUrl);
                 })
-                .flatMap(result -> {
-                    if (result.containsKey("content") && result.get("content") != null) {
-                        System.out.println("✅ Strategy 3 (minimal) succeeded");
-                        return Mono.just(result);
-                    }
+                .switchIfEmpty(Mono.fromSupplier(() -> {
                     System.out.println("❌ All AWS strategies failed");
-                    return Mono.just(baseResult);
-                })
+                    return baseResult;
+                }))
                 .onErrorReturn(baseResult);
     }
 
+    // First value of the (cold) attempts - each one starts after hedgeDelay, or as soon as the one before it
+    // ends empty - and every attempt still running is cancelled once a value wins
+    static <T> Mono<T> hedge(List<Mono<T>> attempts, Duration hedgeDelay) {
+        return hedge(attempts, hedgeDelay, 0);
+    }
+
+    private static <T> Mono<T> hedge(List<Mono<T>> attempts, Duration hedgeDelay, int index) {
+        if (index >= attempts.size()) {
+            return Mono.empty();
+        }
+        // One subscription to the attempt, shared by the result and the hedge trigger. Unlike cache(), it is
+        // cancelled upstream when both let go, so a losing download does not run on to the end.
+        Flux<T> attempt = attempts.get(index).flux().publish().refCount(2);
+        Mono<Void> hedgeTrigger = Mono.firstWithSignal(Mono.delay(hedgeDelay).then(), attempt.then());
+        return Flux.merge(attempt, hedgeTrigger.then(Mono.defer(() -> hedge(attempts, hedgeDelay, index + 1))))
+                .next();
+    }
+
     // Helper method to try a download strategy
-    private Mono<Map<String, Object>> tryDownloadWithStrategy(String url, String strategyName, Map<String, String> headers) {
-        return WebClient.builder()
-                .build()
+    private Mono<Map<String, Object>> tryDownloadWithStrategy(String url, String range, DownloadStrategy strategy) {
+        return downloadClient
                 .get()
-                .uri(url)
-                .headers(httpHeaders -> headers.forEach(httpHeaders::add))
+                .uri(URI.create(url))
+                .headers(httpHeaders -> {
+                    strategy.headers().forEach(httpHeaders::add);
+                    if (range != null) {
+                        httpHeaders.set(HttpHeaders.RANGE, range);
+                    }
+                })
                 .retrieve()
-                .bodyToMono(String.class)
-                .map(content -> {
-                    System.out.println("✅ " + strategyName + " succeeded, content length: " + content.length());
+                .toEntity(String.class)
+                .map(response -> {
+                    String content = response.getBody() != null ? response.getBody() : "";
+                    System.out.println("✅ " + strategy.name() + " succeeded, content length: " + content.length());
                     Map<String, Object> result = new HashMap<>();
                     result.put("success", true);
                     result.put("content", content);
                     result.put("content_length", content.length());
-                    result.put("download_method", strategyName);
+                    result.put("has_content", !content.trim().isEmpty());
+                    result.put("download_method", strategy.name());
+                    result.put("http_status", response.getStatusCode().value());
+                    result.put("partial", response.getStatusCode().value() == 206);
+                    String contentRange = response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE);
+                    if (contentRange != null) {
+                        result.put("content_range", contentRange);
+                    }
                     return result;
                 })
                 .onErrorResume(e -> {
-                    System.out.println("⚠️ " + strategyName + " failed: " + e.getMessage());
+                    System.out.println("⚠️ " + strategy.name() + " failed: " + e.getMessage());
                     return Mono.empty();
                 })
                 .timeout(Duration.ofSeconds(10))
                 .onErrorResume(e -> {
-                    System.out.println("⏱️ " + strategyName + " timeout");
+                    System.out.println("⏱️ " + strategy.name() + " timeout");
                     return Mono.empty();
                 });
     }
 
+    private record DownloadStrategy(String name, Map<String, String> headers) {
+    }
+
     // DELETE THIS DUPLICATE METHOD - Remove the old downloadTranscriptContent method
     /*
     public Mono<Map<String, Object>> downloadTranscriptContent(String meetingId) {
@@ -1113,6 +1176,94 @@ public class ZoomService {
     }
     */
 
+    // ========== BYTE STREAMING PROXY ==========
+
+    // Get the full recordings list of a meeting (all file types)
+    public Mono<ZoomRecordingsResponse> getMeetingRecordings(String meetingId) {
+        return getRecordings(meetingId).map(recordings -> recordings.response);
+    }
+
+    // Recordings list of a meeting with its files by file_type - served from the recordings cache when fresh
+    public Mono<RecordingsCache.Recordings> getRecordings(String meetingId) {
+        return recordingsCache.getOrFetch(meetingId, () -> getAccessToken()
+                .flatMap(authResponse -> circuitBreakers.guard(ZoomCircuitBreakers.RECORDINGS, webClient.get()
+                        .uri("https://api.zoom.us/v2/meetings/" + meetingId + "/recordings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authResponse.getAccessToken())
+                        .retrieve()
+                        .bodyToMono(String.class))));
+    }
+
+    // A recording of the meeting changed - drop its cached list and the transcript metadata derived from it
+    public void invalidateRecordings(String meetingId) {
+        recordingsCache.invalidate(meetingId);
+        analyticsCache.remove(AnalyticsCache.transcriptKey(meetingId));
+    }
+
+    // Open a Zoom download as raw bytes - buffers are relayed as received, with no charset decoding
+    public Mono<ResponseEntity<Flux<DataBuffer>>> openDownloadStream(String downloadUrl) {
+        return openDownloadStream(downloadUrl, HttpHeaders.EMPTY, false);
+    }
+
+    // Same, forwarding the client's Range and conditional headers upstream so partial downloads
+    // can be resumed and unchanged files are answered with 304
+    public Mono<ResponseEntity<Flux<DataBuffer>>> openDownloadStream(String downloadUrl, HttpHeaders clientHeaders, boolean headOnly) {
+        HttpHeaders forwarded = new HttpHeaders();
+        for (String header : FORWARDED_DOWNLOAD_HEADERS) {
+            String value = clientHeaders.getFirst(header);
+            if (value != null) {
+                forwarded.set(header, value);
+            }
+        }
+
+        Mono<ResponseEntity<Flux<DataBuffer>>> viaZoom = getAccessToken()
+                .flatMap(authResponse -> fetchDownloadStream(URI.create(downloadUrl), "Bearer " + authResponse.getAccessToken(),
+                        forwarded, headOnly, downloadUrl, 1));
+
+        // Go straight to storage while the previously resolved signed URL is valid
+        String cachedRedirectUrl = redirectCache.get(downloadUrl);
+        if (cachedRedirectUrl == null) {
+            return viaZoom;
+        }
+        return fetchDownloadStream(URI.create(cachedRedirectUrl), null, forwarded, headOnly, null, 0)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    System.out.println("⚠️ Cached redirect rejected (" + e.getStatusCode() + "), resolving again through Zoom");
+                    redirectCache.invalidate(downloadUrl);
+                    return viaZoom;
+                });
+    }
+
+    // redirectCacheKey is the Zoom download URL whose resolved redirect should be remembered, if any
+    private Mono<ResponseEntity<Flux<DataBuffer>>> fetchDownloadStream(URI uri, String authorization, HttpHeaders forwarded,
+                                                                     boolean headOnly, String redirectCacheKey, int redirectsLeft) {
+        return webClient.method(headOnly ? HttpMethod.HEAD : HttpMethod.GET)
+                .uri(uri)
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                    headers.addAll(forwarded);
+                })
+                .retrieve()
+                // 416 Range Not Satisfiable is relayed to the client, not treated as a failure
+                .onStatus(status -> status.value() == 416, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> {
+                    URI location = entity.getHeaders().getLocation();
+                    if (entity.getStatusCode().is3xxRedirection() && location != null && redirectsLeft > 0) {
+                        URI target = uri.resolve(location);
+                        System.out.println("🔄 Proxy following redirect to storage host: " + target.getHost());
+                        if (redirectCacheKey != null) {
+                            redirectCache.put(redirectCacheKey, target.toString());
+                        }
+                        // Signed storage URLs must not receive the Zoom bearer token
+                        return entity.getBody()
+                                .doOnNext(DataBufferUtils::release)
+                                .then(fetchDownloadStream(target, null, forwarded, headOnly, null, redirectsLeft - 1));
+                    }
+                    return Mono.just(entity);
+                });
+    }
+
     // Helper method to create error response
     private Map<String, Object> createErrorResponse(String error) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -1126,37 +1277,32 @@ public class ZoomService {
     
     // Get User's Webinars
     public Mono<ZoomWebinarsResponse> getWebinars(String accessToken) {
-        return webClient.get()
+        return circuitBreakers.guard(ZoomCircuitBreakers.WEBINARS, webClient.get()
                 .uri("https://api.zoom.us/v2/users/me/webinars")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(ZoomWebinarsResponse.class);
+                .bodyToMono(ZoomWebinarsResponse.class));
     }
 
-    // Get Webinar Participants with PAGINATION
-    public Mono<ParticipantsResponse> getWebinarParticipants(String accessToken, String webinarId) {
-        System.out.println("🚀 Starting pagination for webinar: " + webinarId);
-        return getAllWebinarParticipants(accessToken, webinarId, null)
-                .collectList()
-                .map(participantsLists -> {
-                    ParticipantsResponse combinedResponse = new ParticipantsResponse();
-                    List<Participant> allParticipants = new ArrayList<>();
-                    
-                    for (ParticipantsResponse response : participantsLists) {
-                        if (response.getParticipants() != null) {
-                            allParticipants.addAll(response.getParticipants());
-                        }
-                    }
-                    
-                    combinedResponse.setParticipants(allParticipants);
-                    combinedResponse.setTotalRecords(allParticipants.size());
-                    System.out.println("✅ Pagination complete! Total participants: " + allParticipants.size());
-                    return combinedResponse;
-                });
+    // Get Webinar Participants with PAGINATION - every page is decoded straight into one columnar store
+    public Mono<ParticipantColumns> getWebinarParticipants(String accessToken, String webinarId) {
+        return Mono.defer(() -> {
+            System.out.println("🚀 Starting pagination for webinar: " + webinarId);
+            ParticipantColumns columns = new ParticipantColumns(0, stringInterner);
+            return getWebinarParticipantPage(accessToken, webinarId, null, columns)
+                    .expand(page -> page.hasNext()
+                            ? getWebinarParticipantPage(accessToken, webinarId, page.nextPageToken, columns)
+                            : Mono.empty())
+                    .then(Mono.fromSupplier(() -> {
+                        System.out.println("✅ Pagination complete! Total participants: " + columns.size());
+                        return columns;
+                    }));
+        });
     }
 
-    // Recursive method to get all pages of webinar participants
-    private Flux<ParticipantsResponse> getAllWebinarParticipants(String accessToken, String webinarId, String nextPageToken) {
+    // One page of webinar participants, appended to the columns
+    private Mono<ParticipantPageDecoder.Page> getWebinarParticipantPage(String accessToken, String webinarId, String nextPageToken,
+                                                                      ParticipantColumns columns) {
         String uri = "https://api.zoom.us/v2/past_webinars/" + webinarId + "/participants";
         if (nextPageToken != null && !nextPageToken.isEmpty()) {
             uri += "?next_page_token=" + nextPageToken;
@@ -1164,26 +1310,8 @@ public class ZoomService {
         
         System.out.println("🎯 Fetching URL: " + uri);
         
-        return webClient.get()
-                .uri(uri)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                .retrieve()
-                .bodyToMono(ParticipantsResponse.class)
-                .doOnNext(response -> debugPagination(response, nextPageToken))
-                .flatMapMany(response -> {
-                    if (response.getNextPageToken() != null && !response.getNextPageToken().isEmpty()) {
-                        System.out.println("🔄 Found next page token: " + response.getNextPageToken());
-                        // If there's a next page, recursively fetch it
-                        return Flux.concat(
-                                Flux.just(response),
-                                getAllWebinarParticipants(accessToken, webinarId, response.getNextPageToken())
-                        );
-                    } else {
-                        System.out.println("✅ No more pages - pagination complete");
-                        // No more pages
-                        return Flux.just(response);
-                    }
-                });
+        return getParticipantPage(accessToken, uri, columns)
+                .doOnNext(page -> debugPagination(page, columns, nextPageToken));
     }
 
     // Get All Webinars with Basic Info
@@ -1238,20 +1366,41 @@ public class ZoomService {
                 });
     }
 
-    // Get Webinar Analytics with REAL-TIME tracking - UPDATED to accept interval
+    // Get Webinar Analytics with REAL-TIME tracking - served from cache when warm
     public Mono<Map<String, Object>> getWebinarAnalytics(String webinarId, Integer intervalMinutes) {
         int interval = intervalMinutes != null ? intervalMinutes : 5; // Default to 5 minutes
         
+        return analyticsCache.getOrCompute(AnalyticsCache.webinarKey(webinarId, interval),
+                () -> computeWebinarAnalytics(webinarId, interval, AnalyticsSection.ALL),
+                ZoomService::isRealAnalytics);
+    }
+
+    // Webinar analytics limited to some sections - see getMeetingAnalytics
+    public Mono<Map<String, Object>> getWebinarAnalytics(String webinarId, Integer intervalMinutes, Set<AnalyticsSection> sections) {
+        int interval = intervalMinutes != null ? intervalMinutes : 5;
+        if (AnalyticsSection.isFull(sections)) {
+            return getWebinarAnalytics(webinarId, interval);
+        }
+        Map<String, Object> full = analyticsCache.get(AnalyticsCache.webinarKey(webinarId, interval));
+        return analyticsCache.getOrCompute(AnalyticsCache.webinarKey(webinarId, interval, sections),
+                () -> full != null
+                        ? Mono.just(AnalyticsSection.project(full, sections))
+                        : computeWebinarAnalytics(webinarId, interval, sections),
+                ZoomService::isRealAnalytics);
+    }
+
+    // Compute Webinar Analytics from Zoom API - UPDATED to accept interval
+    private Mono<Map<String, Object>> computeWebinarAnalytics(String webinarId, int interval, Set<AnalyticsSection> sections) {
         return getAccessToken()
                 .flatMap(authResponse -> {
                     // Get webinar participants first
                     return getWebinarParticipants(authResponse.getAccessToken(), webinarId)
-                            .flatMap(participantsResponse -> {
+                            .flatMap(participants -> {
                                 // Get webinar duration
                                 return getWebinarDuration(webinarId, authResponse.getAccessToken())
-                                        .map(webinarDuration -> {
+                                        .flatMap(webinarDuration -> computeEngagementMetrics(participants, webinarDuration, interval, sections)
+                                                .map(engagementData -> {
                                             Map<String, Object> analytics = new HashMap<>();
-                                            Map<String, Object> engagementData = calculateEngagementMetrics(participantsResponse, webinarDuration, interval);
                                             
                                             analytics.put("webinar_id", webinarId);
                                             analytics.put("success", true);
@@ -1261,7 +1410,7 @@ public class ZoomService {
                                             analytics.put("engagement_metrics", engagementData);
                                             analytics.put("engagement_graph", engagementData.get("engagement_over_time"));
                                             analytics.put("participant_details", engagementData.get("participant_details"));
-                                            analytics.put("user_timelines", engagementData.get("user_timelines"));
+                                            analytics.put("user_timelines", engagementData.remove("user_timelines"));
                                             analytics.put("message", "Real participant data analyzed with real-time join/leave tracking");
                                             analytics.put("data_source", "zoom_api");
                                             
@@ -1272,26 +1421,39 @@ public class ZoomService {
                                             analytics.put("total_left", engagementData.get("total_left"));
                                             
                                             return analytics;
-                                        });
+                                        }));
                             })
                             .onErrorResume(e -> {
                                 System.err.println("❌ Error getting real webinar data: " + e.getMessage());
-                                return generateSimulatedWebinarAnalytics(webinarId, interval);
+                                return fallbackWebinarAnalytics(webinarId, interval, sections, e);
                             });
                 })
                 .onErrorResume(e -> {
                     System.err.println("❌ Error in webinar analytics: " + e.getMessage());
-                    return generateSimulatedWebinarAnalytics(webinarId, interval);
-                });
+                    return fallbackWebinarAnalytics(webinarId, interval, sections, e);
+                })
+                .map(analytics -> AnalyticsSection.project(analytics, sections));
+    }
+
+    // A Zoom outage serves the last good webinar analytics, anything else falls back to simulated data
+    private Mono<Map<String, Object>> fallbackWebinarAnalytics(String webinarId, int intervalMinutes, Set<AnalyticsSection> sections,
+                                                              Throwable error) {
+        if (EngagementComputeScheduler.isOverloaded(error)) {
+            return Mono.just(overloadedAnalytics(true, webinarId, intervalMinutes, error));
+        }
+        if (ZoomCircuitBreakers.isUpstreamFailure(error)) {
+            return Mono.just(staleAnalytics(true, webinarId, intervalMinutes, sections, error));
+        }
+        return generateSimulatedWebinarAnalytics(webinarId, intervalMinutes);
     }
 
     // Helper method to get webinar duration
     private Mono<Integer> getWebinarDuration(String webinarId, String accessToken) {
-        return webClient.get()
+        return circuitBreakers.guard(ZoomCircuitBreakers.WEBINARS, webClient.get()
                 .uri("https://api.zoom.us/v2/webinars/" + webinarId)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(ZoomWebinar.class)
+                .bodyToMono(ZoomWebinar.class))
                 .map(ZoomWebinar::getDuration)
                 .onErrorReturn(180); // Default to 3 hours if unable to fetch
     }
@@ -1300,18 +1462,22 @@ public class ZoomService {
     private Mono<Map<String, Object>> generateSimulatedWebinarAnalytics(String webinarId, int intervalMinutes) {
         return getAccessToken()
                 .flatMap(authResponse -> getWebinars(authResponse.getAccessToken()))
-                .map(webinarsResponse -> {
-                    Map<String, Object> analytics = new HashMap<>();
-                    
+                .flatMap(webinarsResponse -> {
                     // Find the webinar to get basic info
                     Optional<ZoomWebinar> webinarOpt = webinarsResponse.getWebinars().stream()
                             .filter(webinar -> webinarId.equals(webinar.getId().toString()))
                             .findFirst();
                     
-                    if (webinarOpt.isPresent()) {
-                        ZoomWebinar webinar = webinarOpt.get();
-                        Map<String, Object> simulatedData = createSimulatedWebinarEngagementData(webinar, intervalMinutes);
-                        
+                    if (webinarOpt.isEmpty()) {
+                        Map<String, Object> analytics = new HashMap<>();
+                        analytics.put("success", false);
+                        analytics.put("error", "Webinar not found");
+                        analytics.put("webinar_id", webinarId);
+                        return Mono.just(analytics);
+                    }
+                    ZoomWebinar webinar = webinarOpt.get();
+                    return createSimulatedWebinarEngagementData(webinar, intervalMinutes).map(simulatedData -> {
+                        Map<String, Object> analytics = new HashMap<>();
                         analytics.put("webinar_id", webinarId);
                         analytics.put("success", true);
                         analytics.put("interval_minutes", intervalMinutes);
@@ -1322,224 +1488,52 @@ public class ZoomService {
                         analytics.put("engagement_metrics", simulatedData);
                         analytics.put("engagement_graph", simulatedData.get("engagement_over_time"));
                         analytics.put("participant_details", simulatedData.get("participant_details"));
-                        analytics.put("user_timelines", simulatedData.get("user_timelines"));
+                        analytics.put("user_timelines", simulatedData.remove("user_timelines"));
                         analytics.put("message", "Simulated analytics (real participant data not available)");
                         analytics.put("data_source", "simulated");
                         analytics.put("note", "Real participant data is only available for recent webinars via Zoom API");
-                    } else {
-                        analytics.put("success", false);
-                        analytics.put("error", "Webinar not found");
-                        analytics.put("webinar_id", webinarId);
-                    }
-                    
-                    return analytics;
+                        return analytics;
+                    });
                 })
-                .onErrorResume(e -> {
-                    Map<String, Object> basicAnalytics = createBasicSimulatedWebinarData(webinarId, intervalMinutes);
-                    return Mono.just(basicAnalytics);
-                });
+                .onErrorResume(e -> EngagementComputeScheduler.isOverloaded(e)
+                        ? Mono.just(overloadedAnalytics(true, webinarId, intervalMinutes, e))
+                        : createBasicSimulatedWebinarData(webinarId, intervalMinutes));
     }
 
-    // Create realistic simulated engagement data for webinars - UPDATED to accept interval
-    private Map<String, Object> createSimulatedWebinarEngagementData(ZoomWebinar webinar, int intervalMinutes) {
-        Map<String, Object> engagementData = new HashMap<>();
-        
-        // Webinars typically have more participants than meetings
+    // Simulated engagement for a webinar without report data - webinars draw more attendees than meetings
+    private Mono<Map<String, Object>> createSimulatedWebinarEngagementData(ZoomWebinar webinar, int intervalMinutes) {
         int baseParticipants = 50 + new Random(webinar.getId().hashCode()).nextInt(100);
-        int webinarDuration = webinar.getDuration();
-        
-        // Generate DYNAMIC time bins based on interval
-        List<String> timeLabels = generateDynamicTimeBins(webinarDuration, intervalMinutes);
-        int segments = timeLabels.size();
-        
-        List<Integer> activeParticipants = new ArrayList<>();
-        List<Integer> engagementRates = new ArrayList<>();
-        List<Integer> usersJoined = new ArrayList<>();
-        List<Integer> usersLeft = new ArrayList<>();
-        List<Integer> peakActiveUsers = new ArrayList<>();
-        List<Map<String, Object>> userTimelines = new ArrayList<>();
-        List<Map<String, Object>> participantDetails = new ArrayList<>();
-        
-        for (int i = 0; i < segments; i++) {
-            // Simulate natural drop-off (webinars have higher retention)
-            double retention = 1.0 - (i * 0.05); // 5% drop per segment for webinars
-            int active = (int) (baseParticipants * retention);
-            activeParticipants.add(Math.max(active, 1));
-            
-            int engagementRate = 100 - (i * 5); // 5% engagement drop per segment
-            engagementRates.add(Math.max(engagementRate, 30));
-            
-            // Simulate join/leave patterns for webinars
-            usersJoined.add(i == 0 ? baseParticipants : new Random().nextInt(10));
-            usersLeft.add(i == 0 ? 0 : new Random().nextInt(15));
-            peakActiveUsers.add(active + new Random().nextInt(5));
-        }
-        
-        // Create simulated participant details for webinars
-        for (int i = 0; i < baseParticipants; i++) {
-            Map<String, Object> participantDetail = new HashMap<>();
-            participantDetail.put("user_id", "webinar_user_" + i);
-            participantDetail.put("name", "Webinar User " + (i + 1));
-            participantDetail.put("email", "webinar" + (i + 1) + "@example.com");
-            participantDetail.put("join_time", LocalDateTime.now().minusMinutes(webinarDuration).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("leave_time", LocalDateTime.now().format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("duration_seconds", webinarDuration * 60);
-            participantDetail.put("duration_minutes", webinarDuration);
-            participantDetail.put("attentiveness_score", "");
-            participantDetails.add(participantDetail);
-            
-            Map<String, Object> userTimeline = new HashMap<>();
-            userTimeline.put("user_id", "webinar_user_" + i);
-            userTimeline.put("name", "Webinar User " + (i + 1));
-            userTimeline.put("email", "webinar" + (i + 1) + "@example.com");
-            userTimeline.put("join_time", LocalDateTime.now().minusMinutes(webinarDuration).format(ZOOM_TIME_FORMATTER));
-            userTimeline.put("leave_time", LocalDateTime.now().format(ZOOM_TIME_FORMATTER));
-            userTimeline.put("duration_minutes", webinarDuration);
-            userTimeline.put("join_minute", 0);
-            userTimeline.put("leave_minute", webinarDuration - 1);
-            
-            // Create presence array
-            List<Integer> presenceBySegment = new ArrayList<>();
-            for (int seg = 0; seg < segments; seg++) {
-                presenceBySegment.add(1); // All present in simulation
-            }
-            userTimeline.put("presence_by_segment", presenceBySegment);
-            userTimelines.add(userTimeline);
-        }
-        
-        // Calculate metrics
-        int totalDuration = webinarDuration * baseParticipants;
-        double averageDuration = webinarDuration * 0.8; // 80% average attendance for webinars
-        
-        Map<String, Object> engagementGraph = new HashMap<>();
-        engagementGraph.put("labels", timeLabels);
-        engagementGraph.put("active_participants", activeParticipants);
-        engagementGraph.put("engagement_rate", engagementRates);
-        engagementGraph.put("users_joined", usersJoined);
-        engagementGraph.put("users_left", usersLeft);
-        engagementGraph.put("peak_active_users", peakActiveUsers);
-        engagementGraph.put("user_timelines", userTimelines);
-        
-        engagementData.put("total_participants", baseParticipants);
-        engagementData.put("average_participation_minutes", Math.round(averageDuration * 100.0) / 100.0);
-        engagementData.put("max_participation_minutes", webinarDuration);
-        engagementData.put("min_participation_minutes", 10);
-        engagementData.put("total_meeting_minutes", totalDuration);
-        engagementData.put("engagement_score", 80 + new Random().nextInt(15));
-        engagementData.put("attention_retention", Math.round((activeParticipants.get(activeParticipants.size()-1) / (double)baseParticipants) * 100));
-        engagementData.put("engagement_over_time", engagementGraph);
-        engagementData.put("participant_details", participantDetails);
-        engagementData.put("user_timelines", userTimelines);
-        engagementData.put("peak_concurrent_users", baseParticipants);
-        engagementData.put("final_active_users", activeParticipants.get(activeParticipants.size()-1));
-        engagementData.put("total_joined", baseParticipants);
-        engagementData.put("total_left", baseParticipants - activeParticipants.get(activeParticipants.size()-1));
-        
-        return engagementData;
+        SyntheticParticipantReports.Params params = SyntheticParticipantReports.webinar(webinar.getId().hashCode(), baseParticipants,
+                webinar.getDuration() > 0 ? webinar.getDuration() : 180);
+        params.start = webinar.getStartTime() != null ? webinar.getStartTime() : endingNow(params.durationMinutes);
+        return simulatedEngagement(params, intervalMinutes);
     }
 
-    private Map<String, Object> createBasicSimulatedWebinarData(String webinarId, int intervalMinutes) {
-        Map<String, Object> analytics = new HashMap<>();
-        Map<String, Object> engagementData = new HashMap<>();
-        
-        // Use DYNAMIC time bins for 180-minute webinar
-        List<String> timeLabels = generateDynamicTimeBins(180, intervalMinutes);
-        
-        // Generate data for each segment
-        List<Integer> activeParticipants = new ArrayList<>();
-        List<Integer> engagementRates = new ArrayList<>();
-        List<Integer> usersJoined = new ArrayList<>();
-        List<Integer> usersLeft = new ArrayList<>();
-        List<Integer> peakActiveUsers = new ArrayList<>();
-        List<Map<String, Object>> userTimelines = new ArrayList<>();
-        List<Map<String, Object>> participantDetails = new ArrayList<>();
-        
-        Random random = new Random(webinarId.hashCode());
-        int baseParticipants = 85;
-        
-        for (int i = 0; i < timeLabels.size(); i++) {
-            // Simulate natural drop-off
-            double retention = 1.0 - (i * 0.03);
-            int active = (int) (baseParticipants * retention);
-            activeParticipants.add(Math.max(active, 1));
-            
-            int engagementRate = 100 - (i * 3);
-            engagementRates.add(Math.max(engagementRate, 30));
-            
-            // Simulate join/leave patterns
-            usersJoined.add(i == 0 ? baseParticipants : random.nextInt(5));
-            usersLeft.add(i == 0 ? 0 : random.nextInt(8));
-            peakActiveUsers.add(active + random.nextInt(3));
-        }
-        
-        // Create basic participant details for webinars
-        for (int i = 0; i < baseParticipants; i++) {
-            Map<String, Object> participantDetail = new HashMap<>();
-            participantDetail.put("user_id", "basic_webinar_user_" + i);
-            participantDetail.put("name", "Basic Webinar User " + (i + 1));
-            participantDetail.put("email", "basicwebinar" + (i + 1) + "@example.com");
-            participantDetail.put("join_time", LocalDateTime.now().minusMinutes(180).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("leave_time", LocalDateTime.now().minusMinutes(20).format(ZOOM_TIME_FORMATTER));
-            participantDetail.put("duration_seconds", 9600);
-            participantDetail.put("duration_minutes", 160);
-            participantDetail.put("attentiveness_score", "");
-            participantDetails.add(participantDetail);
-        }
-        
-        Map<String, Object> engagementGraph = new HashMap<>();
-        engagementGraph.put("labels", timeLabels);
-        engagementGraph.put("active_participants", activeParticipants);
-        engagementGraph.put("engagement_rate", engagementRates);
-        engagementGraph.put("users_joined", usersJoined);
-        engagementGraph.put("users_left", usersLeft);
-        engagementGraph.put("peak_active_users", peakActiveUsers);
-        engagementGraph.put("user_timelines", userTimelines);
-        
-        engagementData.put("total_participants", 85);
-        engagementData.put("average_participation_minutes", 135.5);
-        engagementData.put("max_participation_minutes", 180);
-        engagementData.put("min_participation_minutes", 15);
-        engagementData.put("total_meeting_minutes", 11517);
-        engagementData.put("engagement_score", 85);
-        engagementData.put("attention_retention", 70);
-        engagementData.put("engagement_over_time", engagementGraph);
-        engagementData.put("participant_details", participantDetails);
-        engagementData.put("user_timelines", userTimelines);
-        engagementData.put("peak_concurrent_users", 85);
-        engagementData.put("final_active_users", 60);
-        engagementData.put("total_joined", 85);
-        engagementData.put("total_left", 25);
-        
-        analytics.put("webinar_id", webinarId);
-        analytics.put("success", true);
-        analytics.put("interval_minutes", intervalMinutes);
-        analytics.put("total_participants", 85);
-        analytics.put("engagement_metrics", engagementData);
-        analytics.put("engagement_graph", engagementGraph);
-        analytics.put("participant_details", participantDetails);
-        analytics.put("user_timelines", userTimelines);
-        analytics.put("message", "Basic simulated webinar analytics (fallback data)");
-        analytics.put("data_source", "basic_fallback");
-        analytics.put("peak_concurrent_users", 85);
-        analytics.put("final_active_users", 60);
-        analytics.put("total_joined", 85);
-        analytics.put("total_left", 25);
-        
-        return analytics;
+    // Basic simulated webinar analytics as the ultimate fallback - a 180-minute synthetic report for the webinar id
+    private Mono<Map<String, Object>> createBasicSimulatedWebinarData(String webinarId, int intervalMinutes) {
+        SyntheticParticipantReports.Params params = SyntheticParticipantReports.webinar(webinarId.hashCode(), 85, 180);
+        params.start = endingNow(params.durationMinutes);
+        return simulatedEngagement(params, intervalMinutes).map(engagementData -> {
+            Map<String, Object> analytics = simulatedAnalytics(engagementData, intervalMinutes);
+            analytics.put("webinar_id", webinarId);
+            analytics.put("message", "Basic simulated webinar analytics (fallback data)");
+            analytics.put("data_source", "basic_fallback");
+            return analytics;
+        });
     }
     
     // DEBUG METHOD - Add this to check pagination
-    private void debugPagination(ParticipantsResponse response, String pageToken) {
+    private void debugPagination(ParticipantPageDecoder.Page page, ParticipantColumns columns, String pageToken) {
         System.out.println("=== PAGINATION DEBUG ===");
         System.out.println("Page Token: " + pageToken);
-        System.out.println("Participants in this page: " + (response.getParticipants() != null ? response.getParticipants().size() : 0));
-        System.out.println("Total Records: " + response.getTotalRecords());
-        System.out.println("Next Page Token: " + response.getNextPageToken());
-        System.out.println("Page Size: " + response.getPageSize());
-        System.out.println("Page Count: " + response.getPageCount());
-        if (response.getParticipants() != null && !response.getParticipants().isEmpty()) {
-            System.out.println("First participant: " + response.getParticipants().get(0).getName());
-            System.out.println("Last participant: " + response.getParticipants().get(response.getParticipants().size()-1).getName());
+        System.out.println("Participants in this page: " + page.rows);
+        System.out.println("Total Records: " + page.totalRecords);
+        System.out.println("Next Page Token: " + page.nextPageToken);
+        System.out.println("Page Size: " + page.pageSize);
+        System.out.println("Page Count: " + page.pageCount);
+        if (page.rows > 0) {
+            System.out.println("First participant: " + columns.string(columns.names[page.firstRow]));
+            System.out.println("Last participant: " + columns.string(columns.names[page.firstRow + page.rows - 1]));
         }
         System.out.println("========================");
     }
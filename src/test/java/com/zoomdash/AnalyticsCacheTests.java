@@ -0,0 +1,51 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AnalyticsCacheTests {
+
+	@Test
+	void oldestEntriesAreEvictedOverTheBound() throws InterruptedException {
+		AnalyticsCache cache = cache(600, 86400);
+		ReflectionTestUtils.setField(cache, "maxEntries", 3);
+
+		for (int meeting = 1; meeting <= 5; meeting++) {
+			cache.put(AnalyticsCache.meetingKey(String.valueOf(meeting), 5), Map.of("meeting", meeting));
+			Thread.sleep(2);
+		}
+
+		assertEquals(3, cache.getStats().get("entries"));
+		assertEquals(2L, cache.getStats().get("evictions"));
+		assertNull(cache.get(AnalyticsCache.meetingKey("1", 5)));
+		assertNull(cache.get(AnalyticsCache.meetingKey("2", 5)));
+		assertNotNull(cache.get(AnalyticsCache.meetingKey("5", 5)));
+	}
+
+	@Test
+	void entriesPastTheStaleMaxAgeAreSwept() throws InterruptedException {
+		AnalyticsCache cache = cache(0, 0);
+		ReflectionTestUtils.setField(cache, "sweepIntervalSeconds", 0L);
+
+		cache.put(AnalyticsCache.meetingKey("1", 5), Map.of("meeting", 1));
+		Thread.sleep(5);
+		cache.put(AnalyticsCache.meetingKey("2", 5), Map.of("meeting", 2));
+
+		assertNull(cache.getStale(AnalyticsCache.meetingKey("1", 5), 3600));
+		assertEquals(1, cache.getStats().get("entries"));
+	}
+
+	private static AnalyticsCache cache(long ttlSeconds, long staleMaxAgeSeconds) {
+		AnalyticsCache cache = new AnalyticsCache(Jackson2ObjectMapperBuilder.json().build());
+		ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+		ReflectionTestUtils.setField(cache, "staleMaxAgeSeconds", staleMaxAgeSeconds);
+		return cache;
+	}
+}
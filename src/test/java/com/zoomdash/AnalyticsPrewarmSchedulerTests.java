@@ -0,0 +1,61 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsPrewarmSchedulerTests {
+
+	@Test
+	void everyRecentlyEndedMeetingIsWarmedInOneRun() {
+		ZoomService zoomService = mock(ZoomService.class);
+		ZoomAuthResponse auth = new ZoomAuthResponse();
+		auth.setAccessToken("token");
+		ZoomMeetingsResponse meetings = new ZoomMeetingsResponse();
+		meetings.setMeetings(List.of(meeting("1"), meeting("2"), meeting("3")));
+		Map<String, Object> result = new HashMap<>();
+		result.put("success", true);
+
+		when(zoomService.getAccessToken()).thenReturn(Mono.just(auth));
+		when(zoomService.getMeetings("token")).thenReturn(Mono.just(meetings));
+		when(zoomService.getWebinars("token")).thenReturn(Mono.just(new ZoomWebinarsResponse()));
+		when(zoomService.getMeetingAnalytics(anyString(), anyInt())).thenReturn(Mono.just(result));
+		when(zoomService.getMeetingTranscript(anyString())).thenReturn(Mono.just(result));
+
+		AnalyticsPrewarmScheduler scheduler = new AnalyticsPrewarmScheduler(zoomService,
+				new AnalyticsCache(Jackson2ObjectMapperBuilder.json().build()));
+		ReflectionTestUtils.setField(scheduler, "lookbackHours", 24);
+		ReflectionTestUtils.setField(scheduler, "intervalMinutes", 5);
+		ReflectionTestUtils.setField(scheduler, "pauseBetweenItemsMs", 1L);
+		try {
+			scheduler.prewarmRecentlyEnded();
+		} finally {
+			scheduler.shutdown();
+		}
+
+		// The pause between items must not end the run after the first one
+		verify(zoomService, times(3)).getMeetingAnalytics(anyString(), anyInt());
+	}
+
+	private static ZoomMeeting meeting(String id) {
+		ZoomMeeting meeting = new ZoomMeeting();
+		meeting.setId(id);
+		meeting.setStartTime(LocalDateTime.now(ZoneOffset.UTC).minusHours(2));
+		meeting.setDuration(60);
+		return meeting;
+	}
+}
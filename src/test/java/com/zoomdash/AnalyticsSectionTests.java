@@ -0,0 +1,63 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class AnalyticsSectionTests {
+
+	private final EngagementComputeScheduler computeScheduler = new EngagementComputeScheduler(1, 4, 1, "scalar");
+	private final ZoomService zoomService = new ZoomService(WebClient.create(), null, null, null, computeScheduler, null, null, null);
+
+	@AfterEach
+	void shutdown() {
+		computeScheduler.shutdown();
+	}
+
+	@Test
+	void timelinesAreReturnedWithoutTheGraph() {
+		Set<AnalyticsSection> sections = AnalyticsSection.parse(null, "timelines");
+		ParticipantColumns participants = SyntheticParticipantReports.columns(SyntheticParticipantReports.meeting(3, 50, 60), null);
+
+		Map<String, Object> engagementData = zoomService.calculateEngagementMetrics(participants, 60, 5, sections);
+
+		assertFalse(engagementData.containsKey("engagement_over_time"));
+		List<?> userTimelines = (List<?>) engagementData.get("user_timelines");
+		assertNotNull(userTimelines);
+		assertEquals(engagementData.get("total_participants"), userTimelines.size());
+	}
+
+	@Test
+	void projectionKeepsTimelinesOfAFullResult() {
+		ParticipantColumns participants = SyntheticParticipantReports.columns(SyntheticParticipantReports.meeting(3, 50, 60), null);
+		Map<String, Object> engagementData = zoomService.calculateEngagementMetrics(participants, 60, 5, AnalyticsSection.ALL);
+		List<?> userTimelines = (List<?>) engagementData.get("user_timelines");
+		Map<String, Object> full = Map.of(
+				"engagement_metrics", engagementData,
+				"engagement_graph", engagementData.get("engagement_over_time"),
+				"user_timelines", engagementData.remove("user_timelines"));
+
+		Map<String, Object> projected = AnalyticsSection.project(full, AnalyticsSection.parse("full", "timelines"));
+
+		assertFalse(projected.containsKey("engagement_graph"));
+		assertEquals(userTimelines, projected.get("user_timelines"));
+		assertEquals("summary+timelines", projected.get("sections"));
+	}
+
+	@Test
+	void timelinesAreOnlyNestedOnceInAFullResult() {
+		ParticipantColumns participants = SyntheticParticipantReports.columns(SyntheticParticipantReports.meeting(3, 50, 60), null);
+		Map<String, Object> engagementData = zoomService.calculateEngagementMetrics(participants, 60, 5, AnalyticsSection.ALL);
+
+		assertNotNull(engagementData.get("user_timelines"));
+		assertFalse(((Map<?, ?>) engagementData.get("engagement_over_time")).containsKey("user_timelines"));
+	}
+}
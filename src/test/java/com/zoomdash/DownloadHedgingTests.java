@@ -0,0 +1,44 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadHedgingTests {
+
+	@Test
+	void slowAttemptIsCancelledWhenAHedgeWins() throws InterruptedException {
+		CountDownLatch slowCancelled = new CountDownLatch(1);
+		AtomicInteger slowSubscriptions = new AtomicInteger();
+		Mono<String> slow = Mono.delay(Duration.ofSeconds(30)).thenReturn("slow")
+				.doOnSubscribe(subscription -> slowSubscriptions.incrementAndGet())
+				.doOnCancel(slowCancelled::countDown);
+
+		String winner = ZoomService.hedge(List.of(slow, Mono.just("hedge")), Duration.ofMillis(20))
+				.block(Duration.ofSeconds(5));
+
+		assertEquals("hedge", winner);
+		assertEquals(1, slowSubscriptions.get());
+		// The cancel may reach the slow attempt just after the winner is delivered
+		assertTrue(slowCancelled.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void nextAttemptStartsRightAwayWhenOneEndsEmpty() {
+		long start = System.nanoTime();
+
+		String winner = ZoomService.hedge(List.of(Mono.<String>empty(), Mono.<String>empty(), Mono.just("third")),
+				Duration.ofSeconds(30)).block(Duration.ofSeconds(5));
+
+		assertEquals("third", winner);
+		assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+	}
+}
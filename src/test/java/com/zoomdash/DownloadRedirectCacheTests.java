@@ -0,0 +1,59 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DownloadRedirectCacheTests {
+
+	@Test
+	void expiryIsReadFromCloudFrontAndSigV4Urls() {
+		assertEquals(1_900_000_000_000L, DownloadRedirectCache.parseExpiresAtMillis(
+				"https://d1.cloudfront.net/rec/a.vtt?Expires=1900000000&Signature=abc&Key-Pair-Id=K1"));
+
+		long signedAt = LocalDateTime.of(2026, 3, 2, 15, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+		assertEquals(signedAt + 3_600_000L, DownloadRedirectCache.parseExpiresAtMillis(
+				"https://bucket.s3.amazonaws.com/a.vtt?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Date=20260302T150000Z"
+						+ "&X-Amz-Expires=3600&X-Amz-Signature=abc"));
+	}
+
+	@Test
+	void malformedOrMissingExpiryIsNotCached() {
+		assertNull(DownloadRedirectCache.parseExpiresAtMillis("https://d1.cloudfront.net/rec/a.vtt?Expires=soon"));
+		assertNull(DownloadRedirectCache.parseExpiresAtMillis("https://bucket.s3.amazonaws.com/a.vtt?X-Amz-Date=yesterday&X-Amz-Expires=60"));
+		// X-Amz-Date without X-Amz-Expires says nothing about the expiry
+		assertNull(DownloadRedirectCache.parseExpiresAtMillis("https://bucket.s3.amazonaws.com/a.vtt?X-Amz-Date=20260302T150000Z"));
+		assertNull(DownloadRedirectCache.parseExpiresAtMillis("https://bucket.s3.amazonaws.com/a.vtt"));
+
+		DownloadRedirectCache cache = cache();
+		cache.put("https://zoom.us/rec/download/a", "https://bucket.s3.amazonaws.com/a.vtt");
+		assertNull(cache.get("https://zoom.us/rec/download/a"));
+	}
+
+	@Test
+	void redirectsAreServedUntilTheMarginBeforeTheirExpiry() {
+		DownloadRedirectCache cache = cache();
+		long now = System.currentTimeMillis() / 1000;
+
+		cache.put("https://zoom.us/rec/download/a", "https://d1.cloudfront.net/a.vtt?Expires=" + (now + 600));
+		// Within the 60 s margin - the client would not have time to use it
+		cache.put("https://zoom.us/rec/download/b", "https://d1.cloudfront.net/b.vtt?Expires=" + (now + 30));
+
+		assertEquals("https://d1.cloudfront.net/a.vtt?Expires=" + (now + 600), cache.get("https://zoom.us/rec/download/a"));
+		assertNull(cache.get("https://zoom.us/rec/download/b"));
+		cache.invalidate("https://zoom.us/rec/download/a");
+		assertNull(cache.get("https://zoom.us/rec/download/a"));
+	}
+
+	private static DownloadRedirectCache cache() {
+		DownloadRedirectCache cache = new DownloadRedirectCache();
+		ReflectionTestUtils.setField(cache, "expiryMarginSeconds", 60L);
+		ReflectionTestUtils.setField(cache, "maxTtlSeconds", 3600L);
+		return cache;
+	}
+}
@@ -0,0 +1,119 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EngagementAggregationTests {
+
+	private static final DateTimeFormatter ZOOM_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+	private static final LocalDateTime START = LocalDateTime.of(2025, 1, 15, 15, 0);
+
+	@Test
+	void parallelChunksMergeToTheSequentialResult() {
+		Random random = new Random(7);
+		List<Participant> participants = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			int join = random.nextInt(70) - 5;
+			int leave = join + random.nextInt(80) - 3;
+			// Every 97th participant has an unparseable leave time and is skipped in the lists
+			participants.add(participant("user" + i, join, i % 97 == 0 ? null : leave, random.nextInt(5000)));
+		}
+		EngagementAggregation.Params params = params(60, 5);
+
+		EngagementAggregation.Result sequential = EngagementAggregation.aggregate(participants, params, null, 0);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			EngagementAggregation.Result parallel = EngagementAggregation.aggregate(participants, params, pool, 0);
+
+			assertArrayEquals(sequential.totals.activeUsersPerMinute(), parallel.totals.activeUsersPerMinute());
+			assertArrayEquals(sequential.totals.joinedBySegment, parallel.totals.joinedBySegment);
+			assertArrayEquals(sequential.totals.leftBySegment, parallel.totals.leftBySegment);
+			assertEquals(sequential.totals.durationSumSeconds, parallel.totals.durationSumSeconds);
+			assertEquals(sequential.totals.durationMaxSeconds, parallel.totals.durationMaxSeconds);
+			assertEquals(sequential.totals.durationMinSeconds, parallel.totals.durationMinSeconds);
+			assertEquals(5000, parallel.totals.participants);
+			assertEquals(5000 - 52, parallel.participantDetails.size());
+			assertEquals(sequential.participantDetails, parallel.participantDetails);
+			assertEquals(sequential.userTimelines, parallel.userTimelines);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void minutesArePresentFromJoinToLeaveInclusive() {
+		List<Participant> participants = List.of(
+				participant("a", 0, 4, 300),
+				participant("b", 2, 12, 600),
+				participant("c", 8, 100, 3000));
+
+		EngagementAggregation.Result result = EngagementAggregation.aggregate(participants, params(10, 5), null, 0);
+
+		// c leaves after the end and is clamped to the last minute
+		assertArrayEquals(new int[]{1, 1, 2, 2, 2, 1, 1, 1, 2, 2}, result.totals.activeUsersPerMinute());
+		assertArrayEquals(new int[]{2, 1}, result.totals.joinedBySegment);
+		assertArrayEquals(new int[]{1, 2}, result.totals.leftBySegment);
+		assertEquals(300, result.totals.durationMinSeconds);
+		assertEquals(3000, result.totals.durationMaxSeconds);
+	}
+
+	@Test
+	void rejoinSessionsAreMergedIntoOneUser() {
+		Participant first = participant("a", 0, 3, 240);
+		first.setUserEmail("A@example.com");
+		Participant rejoin = participant("a", 2, 6, 300);     // overlaps the first session
+		rejoin.setUserEmail("a@example.com ");
+		Participant late = participant("a", 8, 9, 120);
+		late.setParticipantUserId("acct-1");                  // stronger identity, not matched to the email sessions
+		Participant other = participant("b", 1, 2, 60);
+
+		SessionMerging.Groups users = SessionMerging.merge(List.of(first, other, rejoin, late));
+		assertEquals(3, users.users());
+		assertEquals(4, users.sessionCount());
+		assertArrayEquals(new int[]{0, 2, 3, 4}, users.offsets);
+
+		EngagementAggregation.Result result = EngagementAggregation.aggregate(users, params(10, 5), null, 0);
+
+		// a is counted once in minutes 2-3, where both of their sessions overlap; b is there in minutes 1-2
+		assertArrayEquals(new int[]{1, 2, 2, 1, 1, 1, 1, 0, 1, 1}, result.totals.activeUsersPerMinute());
+		assertArrayEquals(new int[]{2, 1}, result.totals.joinedBySegment);
+		assertArrayEquals(new int[]{1, 2}, result.totals.leftBySegment);
+		assertEquals(3, result.totals.participants);
+		assertEquals(4, result.totals.sessions);
+		assertEquals(540, result.participantDetails.get(0).get("duration_seconds"));
+		assertEquals(2, result.participantDetails.get(0).get("session_count"));
+		assertEquals(first.getJoinTime(), result.participantDetails.get(0).get("join_time"));
+		assertEquals(rejoin.getLeaveTime(), result.participantDetails.get(0).get("leave_time"));
+		assertEquals(List.of(1, 1), result.userTimelines.get(0).get("presence_by_segment"));
+	}
+
+	private static EngagementAggregation.Params params(int totalMinutes, int segmentDuration) {
+		EngagementAggregation.Params params = new EngagementAggregation.Params();
+		params.start = START;
+		params.totalMinutes = totalMinutes;
+		params.segmentDuration = segmentDuration;
+		params.segmentCount = (totalMinutes + segmentDuration - 1) / segmentDuration;
+		params.buildTimelines = true;
+		params.buildDetails = true;
+		return params;
+	}
+
+	private static Participant participant(String name, int joinMinute, Integer leaveMinute, int durationSeconds) {
+		Participant participant = new Participant();
+		participant.setName(name);
+		participant.setUserId(name);
+		participant.setJoinTime(START.plusMinutes(joinMinute).format(ZOOM_TIME_FORMATTER));
+		participant.setLeaveTime(leaveMinute != null ? START.plusMinutes(leaveMinute).format(ZOOM_TIME_FORMATTER) : "not-a-time");
+		participant.setDuration(durationSeconds);
+		return participant;
+	}
+}
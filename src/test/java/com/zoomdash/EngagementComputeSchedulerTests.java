@@ -0,0 +1,105 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class EngagementComputeSchedulerTests {
+
+	private final EngagementComputeScheduler computeScheduler = new EngagementComputeScheduler(1, 1, 1, "scalar");
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final AnalyticsCache analyticsCache = new AnalyticsCache(Jackson2ObjectMapperBuilder.json().build());
+	private ZoomService zoomService;
+
+	// One computation running and one waiting - the queue is full
+	@BeforeEach
+	void fillQueue() {
+		for (int i = 0; i < 2; i++) {
+			computeScheduler.compute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "done";
+			}).subscribe();
+		}
+
+		ReflectionTestUtils.setField(analyticsCache, "ttlSeconds", 600L);
+		ReflectionTestUtils.setField(analyticsCache, "staleMaxAgeSeconds", 86400L);
+		LiveEngagementTracker liveTracker = new LiveEngagementTracker(Jackson2ObjectMapperBuilder.json().build());
+		zoomService = spy(new ZoomService(WebClient.create(), analyticsCache, liveTracker, null, computeScheduler, null, null, null));
+		ZoomAuthResponse auth = new ZoomAuthResponse();
+		auth.setAccessToken("token");
+		doReturn(Mono.just(auth)).when(zoomService).getAccessToken();
+		doReturn(Mono.just(Map.of("success", false))).when(zoomService).getMeetingTranscript("123");
+	}
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		computeScheduler.shutdown();
+	}
+
+	@Test
+	void computationsBeyondTheQueueAreRejected() {
+		StepVerifier.create(computeScheduler.compute(() -> "too many"))
+				.expectErrorMatches(EngagementComputeScheduler::isOverloaded)
+				.verify();
+
+		assertEquals(1L, computeScheduler.getStats().get("rejected"));
+	}
+
+	@Test
+	void rejectedAnalyticsAreReportedOverloadedInsteadOfSimulated() {
+		ParticipantColumns participants = SyntheticParticipantReports.columns(SyntheticParticipantReports.meeting(1, 20, 60), null);
+		doReturn(Mono.just(participants)).when(zoomService).getMeetingParticipants("token", "123");
+
+		Map<String, Object> analytics = zoomService.getMeetingAnalytics("123", 5).block();
+
+		assertEquals(false, analytics.get("success"));
+		assertEquals(true, analytics.get("overloaded"));
+		assertEquals(EngagementComputeScheduler.OVERLOAD_RETRY_AFTER_SECONDS, analytics.get("retry_after_seconds"));
+		assertEquals("123", analytics.get("meeting_id"));
+		// No simulated fallback, and nothing cached
+		verify(zoomService, never()).getMeetings(anyString());
+		assertNull(analyticsCache.get(AnalyticsCache.meetingKey("123", 5)));
+	}
+
+	@Test
+	void simulatedAnalyticsAreComputedOnThePoolToo() {
+		doReturn(Mono.error(new IllegalStateException("no transcript"))).when(zoomService).getMeetingTranscript("123");
+		doReturn(Mono.error(new IllegalStateException("no report"))).when(zoomService).getMeetingParticipants("token", "123");
+		ZoomMeeting meeting = new ZoomMeeting();
+		meeting.setId("123");
+		meeting.setTopic("Team sync");
+		meeting.setDuration(60);
+		ZoomMeetingsResponse meetings = new ZoomMeetingsResponse();
+		meetings.setMeetings(List.of(meeting));
+		doReturn(Mono.just(meetings)).when(zoomService).getMeetings("token");
+
+		Map<String, Object> analytics = zoomService.getMeetingAnalytics("123", 5).block();
+
+		// The simulated fallback was tried and turned away by the same full queue
+		verify(zoomService).getMeetings("token");
+		assertEquals(true, analytics.get("overloaded"));
+		assertEquals(1L, computeScheduler.getStats().get("rejected"));
+	}
+}
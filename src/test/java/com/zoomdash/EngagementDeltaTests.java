@@ -0,0 +1,128 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EngagementDeltaTests {
+
+	private static final List<String> COUNTERS = List.of("total_participants", "total_joined");
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void onlyChangedSegmentsAndCountersAreReported() {
+		Map<String, Object> before = result(3, List.of(2, 3, 1), List.of(3, 0, 0));
+		Map<String, Object> after = result(3, List.of(2, 3, 2), List.of(3, 0, 1));
+		after.put("total_joined", 4);
+
+		Map<String, Object> delta = EngagementDelta.diff(before, after, COUNTERS);
+
+		assertEquals(4, delta.get("total_joined"));
+		assertFalse(delta.containsKey("total_participants"));
+		assertEquals(3, delta.get("segment_count"));
+		List<Map<String, Object>> segments = (List<Map<String, Object>>) delta.get("changed_segments");
+		assertEquals(1, segments.size());
+		assertEquals(2, segments.get(0).get("segment"));
+		assertEquals("00:10", segments.get(0).get("label"));
+		assertEquals(2, segments.get(0).get("active"));
+		assertEquals(1, segments.get(0).get("joined"));
+
+		assertTrue(EngagementDelta.diff(after, after, COUNTERS).isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void aNewSegmentOrNoPreviousResultIsReportedInFull() {
+		Map<String, Object> current = result(3, List.of(2, 3, 1), List.of(3, 0, 0));
+
+		Map<String, Object> first = EngagementDelta.diff(null, current, COUNTERS);
+		assertEquals(3, ((List<?>) first.get("changed_segments")).size());
+		assertEquals(3, first.get("total_participants"));
+
+		// The meeting ran on into a fourth segment
+		Map<String, Object> longer = result(3, List.of(2, 3, 1, 1), List.of(3, 0, 0, 0));
+		List<Map<String, Object>> segments = (List<Map<String, Object>>) EngagementDelta.diff(current, longer, COUNTERS)
+				.get("changed_segments");
+		assertEquals(1, segments.size());
+		assertEquals(3, segments.get(0).get("segment"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void participantsAreMatchedByIdentity() {
+		Map<String, Object> alice = participant("1", "Alice", 30);
+		Map<String, Object> bob = participant("2", "Bob", 10);
+		Map<String, Object> bobLater = participant("2", "Bob", 25);
+		Map<String, Object> carol = participant("3", "Carol", 5);
+
+		Map<String, Object> delta = EngagementDelta.diffParticipants(List.of(alice, bob, carol), List.of(alice, bobLater));
+
+		assertEquals(List.of(bobLater), delta.get("changed_participants"));
+		List<Map<String, Object>> removed = (List<Map<String, Object>>) delta.get("removed_participants");
+		assertEquals(1, removed.size());
+		assertEquals("Carol", removed.get(0).get("name"));
+		assertFalse(removed.get(0).containsKey("duration_minutes"));
+	}
+
+	@Test
+	void versionsOlderThanTheHistoryGetAFullResponse() {
+		AnalyticsVersionHistory history = new AnalyticsVersionHistory();
+		ReflectionTestUtils.setField(history, "historySize", 8);
+		ReflectionTestUtils.setField(history, "retentionMinutes", 120L);
+
+		long first = history.record("meeting:1:5", result(1, List.of(1), List.of(1)));
+		// The same content keeps its version
+		assertEquals(first, history.record("meeting:1:5", result(1, List.of(1), List.of(1))));
+		long second = 0;
+		for (int participants = 2; participants <= 9; participants++) {
+			long version = history.record("meeting:1:5", result(participants, List.of(participants), List.of(1)));
+			if (participants == 2) {
+				second = version;
+			}
+		}
+
+		// Nine versions recorded, eight kept - the first one is gone
+		assertNull(history.deltaSince("meeting:1:5", first));
+		Map<String, Object> delta = history.deltaSince("meeting:1:5", second);
+		assertNotNull(delta);
+		assertEquals(true, delta.get("changed"));
+		assertEquals(9, delta.get("total_participants"));
+		assertEquals(history.currentVersion("meeting:1:5"), delta.get("analytics_version"));
+
+		Map<String, Object> unchanged = history.deltaSince("meeting:1:5", history.currentVersion("meeting:1:5"));
+		assertEquals(false, unchanged.get("changed"));
+		assertNull(history.deltaSince("meeting:2:5", second));
+	}
+
+	private static Map<String, Object> result(int participants, List<Integer> active, List<Integer> joined) {
+		List<String> labels = List.of("00:00", "00:05", "00:10", "00:15").subList(0, active.size());
+		Map<String, Object> graph = new HashMap<>();
+		graph.put("labels", labels);
+		graph.put("active_participants", active);
+		graph.put("users_joined", joined);
+		Map<String, Object> result = new HashMap<>();
+		result.put("total_participants", participants);
+		result.put("total_joined", participants);
+		result.put("engagement_graph", graph);
+		return result;
+	}
+
+	private static Map<String, Object> participant(String userId, String name, int durationMinutes) {
+		Map<String, Object> participant = new HashMap<>();
+		participant.put("user_id", userId);
+		participant.put("name", name);
+		participant.put("email", name.toLowerCase() + "@example.com");
+		participant.put("join_time", "2026-03-02T15:00:00Z");
+		participant.put("duration_minutes", durationMinutes);
+		return participant;
+	}
+}
@@ -0,0 +1,37 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EngagementRollupServiceTests {
+
+	private static final LocalDate FROM = LocalDate.of(2025, 1, 13);
+	private static final LocalDate TO = LocalDate.of(2025, 1, 15);
+
+	@Test
+	void windowHoldsEndedMeetingsStartedOnItsDays() {
+		LocalDateTime now = LocalDateTime.of(2025, 1, 15, 18, 0);
+
+		assertTrue(EngagementRollupService.inWindow(meeting(LocalDateTime.of(2025, 1, 13, 0, 0), 30), FROM, TO, now));
+		assertTrue(EngagementRollupService.inWindow(meeting(LocalDateTime.of(2025, 1, 15, 16, 0), 60), FROM, TO, now));
+		// Before and after the window
+		assertFalse(EngagementRollupService.inWindow(meeting(LocalDateTime.of(2025, 1, 12, 23, 59), 30), FROM, TO, now));
+		assertFalse(EngagementRollupService.inWindow(meeting(LocalDateTime.of(2025, 1, 16, 0, 0), 30), FROM, TO, now));
+		// Still running at 18:00 UTC, and no start time at all
+		assertFalse(EngagementRollupService.inWindow(meeting(LocalDateTime.of(2025, 1, 15, 17, 30), 60), FROM, TO, now));
+		assertFalse(EngagementRollupService.inWindow(meeting(null, 60), FROM, TO, now));
+	}
+
+	private static ZoomMeeting meeting(LocalDateTime startTime, int duration) {
+		ZoomMeeting meeting = new ZoomMeeting();
+		meeting.setId("m" + duration);
+		meeting.setStartTime(startTime);
+		meeting.setDuration(duration);
+		return meeting;
+	}
+}
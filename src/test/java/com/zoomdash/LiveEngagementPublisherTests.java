@@ -0,0 +1,86 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LiveEngagementPublisherTests {
+
+	private static final String MEETING = "85012345678";
+	private static final long START = Instant.parse("2026-03-02T15:00:00Z").getEpochSecond();
+
+	@Test
+	void snapshotThenDeltasOnlyWhenTheVersionMovesUntilTheMeetingEnds() throws Exception {
+		LiveEngagementTracker tracker = replayedTracker();
+		LiveEngagementPublisher publisher = publisher(tracker);
+
+		StepVerifier.withVirtualTime(() -> publisher.subscribe(MEETING, 5))
+				.assertNext(event -> {
+					assertEquals("snapshot", event.event());
+					assertEquals(3, event.data().get("total_participants"));
+				})
+				// The first tick reports everything, there is no previous state to diff against
+				.thenAwait(Duration.ofSeconds(1))
+				.assertNext(event -> {
+					assertEquals("delta", event.event());
+					assertEquals(3, event.data().get("total_participants"));
+					assertEquals(true, event.data().get("live"));
+				})
+				// Unchanged version - only the keepalive comes through
+				.thenAwait(Duration.ofSeconds(15))
+				.assertNext(event -> assertEquals("keepalive", event.comment()))
+				.then(() -> tracker.participantJoined(MEETING, "participant_uuid:p-dave", START, START + 540))
+				.thenAwait(Duration.ofSeconds(1))
+				.assertNext(event -> {
+					assertEquals("delta", event.event());
+					assertEquals(4, event.data().get("total_participants"));
+					assertEquals(5, event.data().get("total_joined"));
+					assertFalse(event.data().containsKey("total_left"));
+					assertEquals(String.valueOf(tracker.getVersion(MEETING)), event.id());
+				})
+				.then(() -> tracker.meetingEnded(MEETING))
+				.thenAwait(Duration.ofSeconds(1))
+				.assertNext(event -> assertEquals(false, event.data().get("live")))
+				.verifyComplete();
+
+		assertEquals(0, publisher.getActivePublisherCount());
+	}
+
+	@Test
+	void subscribersShareOnePublisherUntilTheLastOneLeaves() throws Exception {
+		LiveEngagementPublisher publisher = publisher(replayedTracker());
+
+		StepVerifier.withVirtualTime(() -> publisher.subscribe(MEETING, 5).mergeWith(publisher.subscribe(MEETING, 5)))
+				.expectNextCount(2)
+				.thenAwait(Duration.ofSeconds(1))
+				.expectNextCount(2)
+				.then(() -> assertEquals(1, publisher.getActivePublisherCount()))
+				.thenCancel()
+				.verify();
+
+		assertEquals(0, publisher.getActivePublisherCount());
+	}
+
+	private LiveEngagementTracker replayedTracker() throws Exception {
+		LiveEngagementTracker tracker = new LiveEngagementTracker(new ObjectMapper());
+		tracker.replay(new InputStreamReader(
+				getClass().getResourceAsStream("/webhooks/participant-events.jsonl"), StandardCharsets.UTF_8));
+		return tracker;
+	}
+
+	private static LiveEngagementPublisher publisher(LiveEngagementTracker tracker) {
+		LiveEngagementPublisher publisher = new LiveEngagementPublisher(tracker);
+		ReflectionTestUtils.setField(publisher, "pushCadenceMs", 1000L);
+		ReflectionTestUtils.setField(publisher, "keepaliveSeconds", 15L);
+		return publisher;
+	}
+}
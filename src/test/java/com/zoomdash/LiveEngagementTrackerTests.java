@@ -0,0 +1,77 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveEngagementTrackerTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void replayedEventsBuildEngagementGraph() throws Exception {
+		LiveEngagementTracker tracker = new LiveEngagementTracker(new ObjectMapper());
+
+		int applied = tracker.replay(new InputStreamReader(
+				getClass().getResourceAsStream("/webhooks/participant-events.jsonl"), StandardCharsets.UTF_8));
+
+		// Duplicate join and leave-without-join are ignored
+		assertEquals(6, applied);
+		assertTrue(tracker.isTracking("85012345678"));
+
+		Map<String, Object> snapshot = tracker.snapshot("85012345678", 5);
+		assertEquals(3, snapshot.get("total_participants"));
+		assertEquals(2, snapshot.get("current_active_users"));
+		assertEquals(3, snapshot.get("peak_concurrent_users"));
+		assertEquals(4, snapshot.get("total_joined"));
+		assertEquals(2, snapshot.get("total_left"));
+		assertEquals(9, snapshot.get("elapsed_minutes"));
+
+		Map<String, Object> graph = (Map<String, Object>) snapshot.get("engagement_graph");
+		assertEquals(List.of("00:00", "00:05"), graph.get("labels"));
+		assertEquals(List.of(2, 2), graph.get("active_participants"));
+		assertEquals(List.of(3, 1), graph.get("users_joined"));
+		assertEquals(List.of(1, 1), graph.get("users_left"));
+		assertEquals(List.of(3, 3), graph.get("peak_active_users"));
+		assertEquals(List.of(66, 66), graph.get("engagement_rate"));
+	}
+
+	@Test
+	void onlyMeetingsIdlePastTheRetentionAreEvicted() throws InterruptedException {
+		LiveEngagementTracker tracker = new LiveEngagementTracker(new ObjectMapper());
+		long start = 1_736_953_200L;
+		tracker.participantJoined("1", "a", start, start + 60);
+
+		tracker.evictIdleMeetings();
+		assertTrue(tracker.isTracking("1"));
+
+		Thread.sleep(5);
+		ReflectionTestUtils.setField(tracker, "retentionMinutes", 0L);
+		tracker.evictIdleMeetings();
+		assertFalse(tracker.isTracking("1"));
+		assertEquals(-1, tracker.getVersion("1"));
+	}
+
+	@Test
+	void farFutureEventsAreClampedToTheLastMinuteOfTheDay() {
+		LiveEngagementTracker tracker = new LiveEngagementTracker(new ObjectMapper());
+		long start = 1_736_953_200L;
+
+		// Minutes past Integer.MAX_VALUE used to wrap to a negative index
+		assertTrue(tracker.participantJoined("1", "a", start, start + 60));
+		assertTrue(tracker.participantLeft("1", "a", start, start + 3L * Integer.MAX_VALUE * 60));
+		tracker.meetingEnded("1");
+
+		Map<String, Object> snapshot = tracker.snapshot("1", 60);
+		assertEquals(24 * 60, snapshot.get("elapsed_minutes"));
+		assertEquals(1, snapshot.get("total_left"));
+	}
+}
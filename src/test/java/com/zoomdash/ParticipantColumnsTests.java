@@ -0,0 +1,41 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ParticipantColumnsTests {
+
+	@Test
+	void rowsRoundTripThroughTheColumns() {
+		Participant first = participant("Ann", "ann@example.com", "2025-01-15T15:00:00Z", "2025-01-15T15:30:10Z", 1810);
+		Participant rejoin = participant("Ann", "ann@example.com", "2025-01-15T14:59:00Z", "2025-01-15T16:00:00Z", 3660);
+		Participant broken = participant(null, null, "2025-01-15T15:10:00Z", "not-a-time", 0);
+
+		ParticipantColumns columns = ParticipantColumns.of(List.of(first, rejoin, broken));
+
+		assertEquals(3, columns.size());
+		assertEquals("2025-01-15T15:30:10Z", columns.formatTime(columns.leaveSeconds[0]));
+		assertEquals("2025-01-15T14:59:00Z", columns.formatTime(columns.joinSeconds[1]));
+		assertEquals(ParticipantColumns.NO_TIME, columns.leaveSeconds[2]);
+		assertEquals(columns.joinSeconds[1], columns.earliestJoin());
+		assertEquals(3660, columns.durationSeconds[1]);
+		// Repeated strings share one dictionary code, null stays null
+		assertEquals(columns.names[0], columns.names[1]);
+		assertEquals("ann@example.com", columns.string(columns.emails[1]));
+		assertNull(columns.string(columns.names[2]));
+	}
+
+	private static Participant participant(String name, String email, String joinTime, String leaveTime, int durationSeconds) {
+		Participant participant = new Participant();
+		participant.setName(name);
+		participant.setUserEmail(email);
+		participant.setJoinTime(joinTime);
+		participant.setLeaveTime(leaveTime);
+		participant.setDuration(durationSeconds);
+		return participant;
+	}
+}
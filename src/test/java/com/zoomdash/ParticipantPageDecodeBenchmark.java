@@ -0,0 +1,95 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// JMH benchmark of decoding one Zoom participants page into the columnar store: binding the page to
+// ParticipantsResponse POJOs and copying (the old path) vs the streaming ParticipantPageDecoder, fed in
+// 8 KB buffers like a network read. Run it like SegmentKernelBenchmark, adding -prof gc for allocation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipantPageDecodeBenchmark {
+
+    private static final DateTimeFormatter ZOOM_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final int CHUNK = 8 * 1024;
+
+    @Param({"300", "1000"})
+    int rows;
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private byte[][] chunks;
+    private byte[] page;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Every field of a real report row, most of which the engine never reads
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 15, 15, 0);
+        List<Map<String, Object>> participants = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime join = start.plusSeconds(random.nextInt(600));
+            LocalDateTime leave = join.plusSeconds(600 + random.nextInt(6000));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", "kP3x" + i);
+            row.put("user_id", String.valueOf(16_778_240 + i));
+            row.put("name", "Attendee " + i);
+            row.put("user_email", "attendee" + i + "@example.com");
+            row.put("join_time", join.format(ZOOM_TIME_FORMATTER));
+            row.put("leave_time", leave.format(ZOOM_TIME_FORMATTER));
+            row.put("duration", (int) Duration.between(join, leave).getSeconds());
+            row.put("registrant_id", "r" + i);
+            row.put("failover", false);
+            row.put("status", "in_meeting");
+            row.put("groupId", "");
+            row.put("internal_user", false);
+            row.put("attentiveness_score", "");
+            row.put("customer_key", "");
+            row.put("participant_user_id", "u" + (i % (rows / 2)));
+            participants.add(row);
+        }
+        // Field order as Zoom sends it - the paging fields first
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("page_count", 1);
+        body.put("page_size", rows);
+        body.put("total_records", rows);
+        body.put("next_page_token", "");
+        body.put("participants", participants);
+        page = mapper.writeValueAsBytes(body);
+        int count = (page.length + CHUNK - 1) / CHUNK;
+        chunks = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            chunks[i] = Arrays.copyOfRange(page, i * CHUNK, Math.min(page.length, (i + 1) * CHUNK));
+        }
+    }
+
+    @Benchmark
+    public ParticipantColumns bindPojos() throws IOException {
+        return ParticipantColumns.of(mapper.readValue(page, ParticipantsResponse.class).getParticipants());
+    }
+
+    @Benchmark
+    public ParticipantColumns streaming() {
+        ParticipantColumns columns = new ParticipantColumns(0);
+        ParticipantPageDecoder decoder = new ParticipantPageDecoder(columns);
+        for (byte[] chunk : chunks) {
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(chunk);
+            decoder.feed(buffer);
+        }
+        decoder.finish();
+        return columns;
+    }
+}
@@ -0,0 +1,78 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParticipantPageDecoderTests {
+
+	private static final String PAGE = """
+			{"page_count": 2, "page_size": 300, "total_records": 4, "next_page_token": "tok\\u00e9n",
+			 "extra": {"participants": [{"name": "not a row"}]},
+			 "participants": [
+			  {"id": "a1", "user_id": "16778240", "name": "Ann Émile", "user_email": "ann@example.com",
+			   "join_time": "2025-01-15T15:00:00Z", "leave_time": "2025-01-15T15:45:30Z", "duration": 2730,
+			   "attentiveness_score": "", "failover": false, "status": "in_meeting", "registrant_id": "r1",
+			   "participant_user_id": "acct-1", "internal_user": true, "customer_key": null,
+			   "breakout_rooms": [{"name": "ignored", "duration": 5}], "location": {"city": "x"}},
+			  {"user_id": "16778241", "name": null, "join_time": "2025-02-30T10:00:00Z", "leave_time": "bad", "duration": "61"},
+			  {},
+			  {"name": "Bob", "user_email": "BOB@example.com ", "join_time": "2025-01-15T15:10:00Z",
+			   "leave_time": "2025-01-15T16:00:00Z", "duration": 3000.0}
+			 ]}
+			""";
+
+	@Test
+	void streamingDecodeMatchesBindingTheWholePage() throws Exception {
+		byte[] json = PAGE.getBytes(StandardCharsets.UTF_8);
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+		ParticipantColumns expected = ParticipantColumns.of(mapper.readValue(json, ParticipantsResponse.class).getParticipants());
+
+		// Chunk sizes that split tokens, multi-byte characters and escapes at every kind of boundary
+		for (int chunk : new int[]{1, 7, 64, json.length}) {
+			ParticipantColumns columns = new ParticipantColumns(0);
+			ParticipantPageDecoder decoder = new ParticipantPageDecoder(columns);
+			for (int from = 0; from < json.length; from += chunk) {
+				DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(json, from, Math.min(json.length, from + chunk)));
+				decoder.feed(buffer);
+			}
+			ParticipantPageDecoder.Page page = decoder.finish();
+
+			assertEquals(4, page.rows);
+			assertEquals(4, page.totalRecords);
+			assertEquals(300, page.pageSize);
+			assertEquals("account:acct-1", columns.identity(0));
+			assertEquals("email:bob@example.com", columns.identity(3));
+			assertEquals("tokén", page.nextPageToken);
+			assertEquals(expected.size(), columns.size());
+			for (int row = 0; row < columns.size(); row++) {
+				assertEquals(expected.formatTime(expected.joinSeconds[row]), columns.formatTime(columns.joinSeconds[row]));
+				assertEquals(expected.formatTime(expected.leaveSeconds[row]), columns.formatTime(columns.leaveSeconds[row]));
+				assertEquals(expected.string(expected.names[row]), columns.string(columns.names[row]));
+				assertEquals(expected.string(expected.emails[row]), columns.string(columns.emails[row]));
+				assertEquals(expected.string(expected.userIds[row]), columns.string(columns.userIds[row]));
+				assertEquals(expected.string(expected.attentiveness[row]), columns.string(columns.attentiveness[row]));
+				assertEquals(expected.identity(row), columns.identity(row));
+			}
+			assertArrayEquals(Arrays.copyOf(expected.durationSeconds, 4), Arrays.copyOf(columns.durationSeconds, 4));
+		}
+	}
+
+	@Test
+	void truncatedPageIsRejected() {
+		byte[] json = PAGE.substring(0, PAGE.indexOf("\"Bob\"")).getBytes(StandardCharsets.UTF_8);
+		ParticipantPageDecoder decoder = new ParticipantPageDecoder(new ParticipantColumns(0));
+		decoder.feed(DefaultDataBufferFactory.sharedInstance.wrap(json));
+		assertThrows(DecodingException.class, decoder::finish);
+	}
+}
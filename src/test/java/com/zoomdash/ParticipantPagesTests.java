@@ -0,0 +1,117 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticipantPagesTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void cursorsWalkTheFilteredSortedListWithoutGapsOrRepeats() {
+		Map<String, Object> analytics = analytics(25);
+		ParticipantPages.Query query = query("duration", true, "user", 4);
+
+		List<String> walked = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			Map<String, Object> page = ParticipantPages.page(analytics, query, cursor, "\"tag-1\"");
+			assertEquals(true, page.get("success"));
+			assertEquals(20, page.get("total_matching"));
+			for (Map<String, Object> participant : (List<Map<String, Object>>) page.get("participants")) {
+				walked.add((String) participant.get("name"));
+			}
+			assertEquals(((List<?>) page.get("participants")).size(), ((List<?>) page.get("user_timelines")).size());
+			cursor = (String) page.get("next_cursor");
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(5, pages);
+		// Guests are filtered out, longest first, ties (every participant shares a duration with 4 others) by position
+		List<String> expected = new ArrayList<>();
+		for (int duration = 4; duration >= 0; duration--) {
+			for (int i = 0; i < 20; i++) {
+				if (i % 5 == duration) {
+					expected.add("User " + i);
+				}
+			}
+		}
+		assertEquals(expected, walked);
+	}
+
+	@Test
+	void cursorsOfAnotherQueryOrChangedDataAreRejected() {
+		Map<String, Object> analytics = analytics(25);
+		ParticipantPages.Query query = query("join_time", false, null, 10);
+		String cursor = (String) ParticipantPages.page(analytics, query, null, "\"tag-1\"").get("next_cursor");
+
+		Map<String, Object> second = ParticipantPages.page(analytics, query, cursor, "\"tag-1\"");
+		assertEquals(true, second.get("success"));
+		assertEquals(10, second.get("offset"));
+
+		// The cached analytics changed underneath the cursor
+		assertEquals(false, ParticipantPages.page(analytics, query, cursor, "\"tag-2\"").get("success"));
+		// Another sort order
+		assertEquals(false, ParticipantPages.page(analytics, query("duration", false, null, 10), cursor, "\"tag-1\"").get("success"));
+		// Not a cursor at all, or a negative offset
+		assertEquals(false, ParticipantPages.page(analytics, query, "not-a-cursor!", "\"tag-1\"").get("success"));
+		String negative = Base64.getUrlEncoder().withoutPadding().encodeToString("-5:abc".getBytes());
+		assertEquals(false, ParticipantPages.page(analytics, query, negative, "\"tag-1\"").get("success"));
+	}
+
+	@Test
+	void participantListsAreLeftOutOfThePagedHeadline() {
+		Map<String, Object> analytics = analytics(3);
+		Map<String, Object> headline = ParticipantPages.withoutParticipantLists(analytics);
+
+		assertFalse(headline.containsKey("participant_details"));
+		assertFalse(headline.containsKey("user_timelines"));
+		assertEquals(3, headline.get("participant_count"));
+		assertEquals(true, headline.get("participants_paged"));
+		// The cached result is not modified
+		assertTrue(analytics.containsKey("participant_details"));
+		assertNull(ParticipantPages.page(analytics, query("join_time", false, null, 10), null, null).get("next_cursor"));
+	}
+
+	// Users 0..n-6 have emails at example.com, the last five are guests; durations repeat every five participants
+	private static Map<String, Object> analytics(int participants) {
+		List<Map<String, Object>> details = new ArrayList<>();
+		List<Map<String, Object>> timelines = new ArrayList<>();
+		for (int i = 0; i < participants; i++) {
+			boolean guest = i >= participants - 5;
+			Map<String, Object> detail = new HashMap<>();
+			detail.put("name", guest ? "Guest " + i : "User " + i);
+			detail.put("email", guest ? "" : "user" + i + "@example.com");
+			detail.put("join_time", String.format("2026-03-02T15:%02d:00Z", i % 7));
+			detail.put("duration_seconds", (i % 5) * 60);
+			details.add(detail);
+			Map<String, Object> timeline = new HashMap<>();
+			timeline.put("name", detail.get("name"));
+			timelines.add(timeline);
+		}
+		Map<String, Object> analytics = new HashMap<>();
+		analytics.put("participant_details", details);
+		analytics.put("user_timelines", timelines);
+		return analytics;
+	}
+
+	private static ParticipantPages.Query query(String sort, boolean descending, String prefix, int limit) {
+		ParticipantPages.Query query = new ParticipantPages.Query();
+		query.sort = sort;
+		query.descending = descending;
+		query.prefix = prefix;
+		query.includeTimelines = true;
+		query.limit = limit;
+		return query;
+	}
+}
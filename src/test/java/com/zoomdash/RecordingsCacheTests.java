@@ -0,0 +1,92 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RecordingsCacheTests {
+
+	private static final String BODY = "{\"id\":123,\"recording_files\":["
+			+ "{\"id\":\"a\",\"file_type\":\"MP4\",\"download_url\":\"https://zoom.us/rec/download/a\"},"
+			+ "{\"id\":\"b\",\"file_type\":\"M4A\",\"download_url\":\"https://zoom.us/rec/download/b\"},"
+			+ "{\"id\":\"c\",\"file_type\":\"TRANSCRIPT\",\"download_url\":\"https://zoom.us/rec/download/c\"},"
+			+ "{\"id\":\"d\",\"file_type\":\"MP4\",\"download_url\":\"https://zoom.us/rec/download/d\"}]}";
+
+	@Test
+	void callersShareOneFetchUntilInvalidated() {
+		RecordingsCache cache = cache();
+		AtomicInteger fetches = new AtomicInteger();
+		Supplier<Mono<String>> fetch = () -> Mono.fromCallable(() -> {
+			fetches.incrementAndGet();
+			return BODY;
+		}).delayElement(Duration.ofMillis(50));
+
+		// Two concurrent callers, then one after the first fetch completed
+		Mono<RecordingsCache.Recordings> first = cache.getOrFetch("123", fetch);
+		Mono<RecordingsCache.Recordings> second = cache.getOrFetch("123", fetch);
+		RecordingsCache.Recordings recordings = first.block();
+		assertSame(recordings, second.block());
+		assertSame(recordings, cache.getOrFetch("123", fetch).block());
+		assertEquals(1, fetches.get());
+
+		assertEquals("c", recordings.first("TRANSCRIPT").getId());
+		assertEquals(2, recordings.filesByType.get("MP4").size());
+		assertNull(recordings.first("CHAT"));
+
+		cache.invalidate("123");
+		cache.getOrFetch("123", fetch).block();
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	void fetchRunningDuringAnInvalidateIsNotCached() {
+		RecordingsCache cache = cache();
+		AtomicInteger fetches = new AtomicInteger();
+		Sinks.One<String> oldBody = Sinks.one();
+		Supplier<Mono<String>> fetch = () -> fetches.incrementAndGet() == 1 ? oldBody.asMono() : Mono.just(BODY);
+
+		Mono<RecordingsCache.Recordings> before = cache.getOrFetch("123", fetch);
+		before.subscribe();
+		// recording.completed arrives while the list from before it is still being fetched
+		cache.invalidate("123");
+		RecordingsCache.Recordings after = cache.getOrFetch("123", fetch).block(Duration.ofSeconds(5));
+		oldBody.tryEmitValue(BODY);
+
+		assertEquals(2, fetches.get());
+		assertNotSame(before.block(), after);
+		assertSame(after, cache.get("123"));
+	}
+
+	@Test
+	void bodiesWithoutRecordingsAreNotCached() {
+		RecordingsCache cache = cache();
+		AtomicInteger fetches = new AtomicInteger();
+		Supplier<Mono<String>> fetch = () -> Mono.fromCallable(() -> {
+			fetches.incrementAndGet();
+			return "{\"code\":3301,\"message\":\"This recording does not exist.\"}";
+		});
+
+		cache.getOrFetch("456", fetch).block();
+		cache.getOrFetch("456", fetch).block();
+
+		assertEquals(2, fetches.get());
+		assertNull(cache.get("456"));
+	}
+
+	private static RecordingsCache cache() {
+		RecordingsCache cache = new RecordingsCache(Jackson2ObjectMapperBuilder.json().build());
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+		return cache;
+	}
+}
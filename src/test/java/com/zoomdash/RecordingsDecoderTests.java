@@ -0,0 +1,41 @@
+package com.zoomdash;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordingsDecoderTests {
+
+	private final RecordingsDecoder decoder = new RecordingsDecoder(
+			Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+
+	@Test
+	void transcriptIsFoundInTheTypedRecordings() {
+		String body = "{\"id\":123,\"topic\":\"Weekly TRANSCRIPT review\",\"share_url\":\"https://zoom.us/rec/share/x\","
+				+ "\"recording_files\":["
+				+ "{\"id\":\"a\",\"file_type\":\"MP4\",\"download_url\":\"https://zoom.us/rec/download/a\",\"file_size\":1024},"
+				+ "{\"id\":\"b\",\"file_type\":\"AUDIO_TRANSCRIPT\",\"download_url\":\"https://zoom.us/rec/download/b\"},"
+				+ "{\"id\":\"c\",\"file_type\":\"TRANSCRIPT\",\"file_extension\":\"VTT\",\"download_url\":\"https://zoom.us/rec/download/c\"}]}";
+
+		ZoomRecordingsResponse recordings = decoder.decode(body);
+
+		assertEquals(List.of("MP4", "AUDIO_TRANSCRIPT", "TRANSCRIPT"), RecordingsDecoder.fileTypes(recordings));
+		// The exact type wins over one that only mentions a transcript
+		assertEquals("https://zoom.us/rec/download/c", RecordingsDecoder.transcriptUrl(recordings));
+	}
+
+	@Test
+	void bodiesThatAreNotRecordingsDecodeAsEmpty() {
+		for (String body : new String[]{null, "", "<html>502 Bad Gateway</html>", "{\"recording_files\":[{\"file_type\":\"TRANS"}) {
+			ZoomRecordingsResponse recordings = decoder.decode(body);
+			assertTrue(RecordingsDecoder.files(recordings).isEmpty());
+			assertNull(RecordingsDecoder.transcriptUrl(recordings));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.zoomdash;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// JMH benchmark of the segment kernels on long timelines at second resolution (8 h and 24 h of seconds,
+// 5-minute segments). Not part of the test run - start it with:
+//   mvn -B test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+//   java --add-modules jdk.incubator.vector -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main SegmentKernelBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SegmentKernelBenchmark {
+
+    @Param({"28800", "86400"})
+    int seconds;
+
+    @Param({"scalar", "vector"})
+    String kernel;
+
+    private SegmentKernel segmentKernel;
+    private int[] differences;
+    private int[] running;
+    private int[] averages;
+    private int[] peaks;
+
+    private static final int SEGMENT_SECONDS = 300;
+
+    @Setup
+    public void setUp() {
+        segmentKernel = SegmentKernels.select(kernel);
+        // Joins and leaves scattered over the timeline, like a long webinar
+        Random random = new Random(42);
+        differences = new int[seconds + 1];
+        for (int i = 0; i < 20_000; i++) {
+            int join = random.nextInt(seconds);
+            int leave = join + random.nextInt(seconds - join);
+            differences[join]++;
+            differences[leave + 1]--;
+        }
+        running = segmentKernel.prefixSum(differences, seconds);
+        int segments = (seconds + SEGMENT_SECONDS - 1) / SEGMENT_SECONDS;
+        averages = new int[segments];
+        peaks = new int[segments];
+    }
+
+    @Benchmark
+    public int[] prefixSum() {
+        return segmentKernel.prefixSum(differences, seconds);
+    }
+
+    @Benchmark
+    public void segmentStats(Blackhole blackhole) {
+        segmentKernel.segmentStats(running, seconds, SEGMENT_SECONDS, averages, peaks);
+        blackhole.consume(averages);
+        blackhole.consume(peaks);
+    }
+}
@@ -0,0 +1,48 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SegmentKernelTests {
+
+	@Test
+	void vectorKernelMatchesScalarKernel() {
+		// The surefire configuration adds the module - skipped, not silently compared scalar to scalar, without it
+		assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "jdk.incubator.vector not loaded");
+		SegmentKernel scalar = ScalarSegmentKernel.INSTANCE;
+		SegmentKernel vector = SegmentKernels.select("vector");
+		assertTrue(vector.name().startsWith("vector"), vector.name());
+		Random random = new Random(11);
+		// Lengths around the lane count exercise the vector loop and the scalar tail
+		for (int length : new int[]{0, 1, 7, 16, 17, 100, 3601}) {
+			int[] differences = new int[length + 1];
+			for (int i = 0; i < length; i++) {
+				differences[i] = random.nextInt(21) - 8;
+			}
+			int[] scalarRunning = scalar.prefixSum(differences, length);
+			int[] vectorRunning = vector.prefixSum(differences, length);
+			assertArrayEquals(scalarRunning, vectorRunning);
+
+			for (int segmentLength : new int[]{1, 5, 16, 60, 300}) {
+				// One more segment than needed - it is empty and reports 0 / 0
+				int segments = (length + segmentLength - 1) / segmentLength + 1;
+				int[] scalarAverages = new int[segments];
+				int[] scalarPeaks = new int[segments];
+				int[] vectorAverages = new int[segments];
+				int[] vectorPeaks = new int[segments];
+				scalar.segmentStats(scalarRunning, length, segmentLength, scalarAverages, scalarPeaks);
+				vector.segmentStats(vectorRunning, length, segmentLength, vectorAverages, vectorPeaks);
+				assertArrayEquals(scalarAverages, vectorAverages);
+				assertArrayEquals(scalarPeaks, vectorPeaks);
+				assertEquals(0, vectorAverages[segments - 1]);
+				assertEquals(0, vectorPeaks[segments - 1]);
+			}
+		}
+	}
+}
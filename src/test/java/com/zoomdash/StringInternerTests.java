@@ -0,0 +1,47 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringInternerTests {
+
+	@Test
+	void recurringAttendeesShareOneStringAcrossMeetings() {
+		StringInterner interner = new StringInterner(1024);
+		ParticipantColumns monday = new ParticipantColumns(2, interner).addAll(List.of(participant("Ann"), participant("Zoë")));
+		ParticipantColumns tuesday = new ParticipantColumns(2, interner).addAll(List.of(participant("Zoë"), participant("Ann")));
+
+		String ann = monday.string(monday.names[0]);
+		assertSame(ann, tuesday.string(tuesday.names[1]));
+		assertSame(ann, monday.string(monday.names[0]));
+		// Non-ASCII values go through the String path of the same pool
+		assertEquals("Zoë", monday.string(monday.names[1]));
+		assertSame(monday.string(monday.names[1]), tuesday.string(tuesday.names[0]));
+
+		assertEquals(2L, interner.getStats().get("misses"));
+		assertEquals(4L, interner.getStats().get("hits"));
+		assertEquals(0.667, interner.getStats().get("hit_rate"));
+	}
+
+	@Test
+	void zeroCapacityDisablesPooling() {
+		StringInterner interner = new StringInterner(0);
+		ParticipantColumns columns = new ParticipantColumns(1, interner).addAll(List.of(participant("Ann")));
+
+		assertNotSame(columns.string(columns.names[0]), columns.string(columns.names[0]));
+		assertEquals(0, interner.getStats().get("capacity"));
+	}
+
+	private static Participant participant(String name) {
+		Participant participant = new Participant();
+		participant.setName(name);
+		participant.setJoinTime("2025-01-15T15:00:00Z");
+		participant.setLeaveTime("2025-01-15T15:30:00Z");
+		return participant;
+	}
+}
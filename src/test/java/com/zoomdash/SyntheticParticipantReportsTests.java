@@ -0,0 +1,59 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticParticipantReportsTests {
+
+	@Test
+	void pagesReproduceTheSameSeededReport() {
+		SyntheticParticipantReports.Params params = SyntheticParticipantReports.meeting(7, 1000, 60);
+		List<Participant> report = SyntheticParticipantReports.participants(params);
+
+		List<Participant> paged = new ArrayList<>();
+		String token = null;
+		int pages = 0;
+		do {
+			ParticipantsResponse page = SyntheticParticipantReports.page(params, token, 300);
+			assertEquals(report.size(), page.getTotalRecords());
+			paged.addAll(page.getParticipants());
+			token = page.getNextPageToken();
+			pages++;
+		} while (!token.isEmpty());
+
+		assertEquals((report.size() + 299) / 300, pages);
+		assertEquals(report.size(), paged.size());
+		for (int row = 0; row < report.size(); row++) {
+			assertEquals(report.get(row).getUserId(), paged.get(row).getUserId());
+			assertEquals(report.get(row).getJoinTime(), paged.get(row).getJoinTime());
+			assertEquals(report.get(row).getUserEmail(), paged.get(row).getUserEmail());
+		}
+		// Another seed is another report
+		Participant other = SyntheticParticipantReports.participants(SyntheticParticipantReports.meeting(8, 1, 60)).get(0);
+		assertNotEquals(report.get(0).getJoinTime() + report.get(0).getName(), other.getJoinTime() + other.getName());
+	}
+
+	@Test
+	void rejoinsAreSessionsOfOneUserInTheEngine() {
+		SyntheticParticipantReports.Params params = SyntheticParticipantReports.meeting(42, 2000, 90);
+		ParticipantColumns columns = SyntheticParticipantReports.columns(params, null);
+		SessionMerging.Groups users = SessionMerging.merge(columns);
+
+		assertEquals(SyntheticParticipantReports.totalRecords(params), columns.size());
+		assertTrue(columns.size() > params.users, "some users rejoin");
+		// Users with an email or participant_user_id merge back into one, anonymous guests cannot
+		assertTrue(users.users() >= params.users && users.users() < columns.size());
+		long start = columns.secondsOf(params.start);
+		for (int row = 0; row < columns.size(); row++) {
+			assertTrue(columns.joinSeconds[row] >= start && columns.joinSeconds[row] < columns.leaveSeconds[row]);
+			assertTrue(columns.leaveSeconds[row] - start <= 90 * 60);
+			assertEquals(columns.leaveSeconds[row] - columns.joinSeconds[row], columns.durationSeconds[row]);
+		}
+	}
+}
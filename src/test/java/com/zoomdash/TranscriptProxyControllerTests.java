@@ -0,0 +1,159 @@
+package com.zoomdash;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class TranscriptProxyControllerTests {
+
+	private static final byte[] VTT = ("WEBVTT\n\n1\n00:00:01.000 --> 00:00:04.000\nAlice: Hello everyone\n")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final String ETAG = "\"v1\"";
+	private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+	private HttpServer upstream;
+	private final List<String> zoomAuthorizations = new CopyOnWriteArrayList<>();
+	private final List<String> storageAuthorizations = new CopyOnWriteArrayList<>();
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void startUpstream() throws IOException {
+		upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		long expires = System.currentTimeMillis() / 1000 + 600;
+		// Zoom answers downloads with a redirect to signed storage
+		upstream.createContext("/rec/download/transcript", exchange -> {
+			zoomAuthorizations.add(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+			exchange.getResponseHeaders().set(HttpHeaders.LOCATION, "/storage/transcript.vtt?Expires=" + expires);
+			exchange.sendResponseHeaders(302, -1);
+			exchange.close();
+		});
+		// Storage serves ranges, If-Range against the ETag and 416 past the end
+		upstream.createContext("/storage/transcript.vtt", exchange -> {
+			storageAuthorizations.add(String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION)));
+			exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "text/vtt");
+			exchange.getResponseHeaders().set(HttpHeaders.ACCEPT_RANGES, "bytes");
+			exchange.getResponseHeaders().set(HttpHeaders.ETAG, ETAG);
+			String range = exchange.getRequestHeaders().getFirst(HttpHeaders.RANGE);
+			String ifRange = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_RANGE);
+			Matcher matcher = range != null ? RANGE.matcher(range) : null;
+			if (matcher == null || !matcher.matches() || (ifRange != null && !ifRange.equals(ETAG))) {
+				send(exchange, 200, VTT);
+				return;
+			}
+			int start = Integer.parseInt(matcher.group(1));
+			if (start >= VTT.length) {
+				exchange.getResponseHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes */" + VTT.length);
+				exchange.sendResponseHeaders(416, -1);
+				exchange.close();
+				return;
+			}
+			int end = matcher.group(2).isEmpty() ? VTT.length - 1 : Math.min(Integer.parseInt(matcher.group(2)), VTT.length - 1);
+			exchange.getResponseHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + VTT.length);
+			byte[] part = new byte[end - start + 1];
+			System.arraycopy(VTT, start, part, 0, part.length);
+			send(exchange, 206, part);
+		});
+		upstream.start();
+
+		DownloadRedirectCache redirectCache = new DownloadRedirectCache();
+		ReflectionTestUtils.setField(redirectCache, "expiryMarginSeconds", 60L);
+		ReflectionTestUtils.setField(redirectCache, "maxTtlSeconds", 3600L);
+		ZoomService zoomService = spy(new ZoomService(WebClient.create(), null, null, redirectCache, null, null, null, null));
+		ZoomAuthResponse auth = new ZoomAuthResponse();
+		auth.setAccessToken("token");
+		doReturn(Mono.just(auth)).when(zoomService).getAccessToken();
+		Map<String, Object> transcript = new HashMap<>();
+		transcript.put("success", true);
+		transcript.put("download_url", "http://127.0.0.1:" + upstream.getAddress().getPort() + "/rec/download/transcript");
+		doReturn(Mono.just(transcript)).when(zoomService).getMeetingTranscript("123");
+
+		TranscriptProxyController controller = new TranscriptProxyController(zoomService);
+		ReflectionTestUtils.setField(controller, "idleTimeoutSeconds", 10L);
+		ReflectionTestUtils.setField(controller, "prefetchBuffers", 4);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@AfterEach
+	void stopUpstream() {
+		upstream.stop(0);
+	}
+
+	@Test
+	void bytesAreRelayedAndTheSignedRedirectIsReused() throws Exception {
+		MvcResult first = perform(get("/api/transcript-proxy/123"));
+		assertEquals(200, first.getResponse().getStatus());
+		assertEquals(new String(VTT, StandardCharsets.UTF_8), first.getResponse().getContentAsString(StandardCharsets.UTF_8));
+		assertEquals(String.valueOf(VTT.length), first.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH));
+		assertEquals("bytes", first.getResponse().getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertEquals(ETAG, first.getResponse().getHeader(HttpHeaders.ETAG));
+
+		perform(get("/api/transcript-proxy/123"));
+		// Zoom resolved the redirect once, storage never saw the bearer token
+		assertEquals(List.of("Bearer token"), zoomAuthorizations);
+		assertEquals(List.of("null", "null"), storageAuthorizations);
+	}
+
+	@Test
+	void rangesAreForwardedAndPartialResponsesRelayed() throws Exception {
+		MvcResult partial = perform(get("/api/transcript-proxy/123").header(HttpHeaders.RANGE, "bytes=0-5"));
+		assertEquals(206, partial.getResponse().getStatus());
+		assertEquals("WEBVTT", partial.getResponse().getContentAsString(StandardCharsets.UTF_8));
+		assertEquals("bytes 0-5/" + VTT.length, partial.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+
+		// The file changed since the client's copy - If-Range turns the range into the whole file
+		MvcResult changed = perform(get("/api/transcript-proxy/123")
+				.header(HttpHeaders.RANGE, "bytes=0-5").header(HttpHeaders.IF_RANGE, "\"v0\""));
+		assertEquals(200, changed.getResponse().getStatus());
+		assertEquals(VTT.length, changed.getResponse().getContentAsByteArray().length);
+		assertNull(changed.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+
+		MvcResult unsatisfiable = perform(get("/api/transcript-proxy/123").header(HttpHeaders.RANGE, "bytes=9999-"));
+		assertEquals(416, unsatisfiable.getResponse().getStatus());
+		assertEquals("bytes */" + VTT.length, unsatisfiable.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	// The Mono and then the streamed body are each an async phase
+	private MvcResult perform(RequestBuilder request) throws Exception {
+		MvcResult result = mockMvc.perform(request).andReturn();
+		while (result.getRequest().isAsyncStarted()) {
+			result.getAsyncResult(10_000);
+			result = mockMvc.perform(asyncDispatch(result)).andReturn();
+		}
+		return result;
+	}
+
+	private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.zoomdash;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZoomCircuitBreakersTests {
+
+	@Test
+	void outagesOpenTheFamilyAndOneTrialClosesIt() {
+		AtomicInteger calls = new AtomicInteger();
+		Mono<String> failing = Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null));
+		});
+		Mono<String> notFound = Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null));
+		});
+
+		ZoomCircuitBreakers breakers = new ZoomCircuitBreakers(2, 60);
+		// A 404 is an answer from Zoom, not an outage
+		assertThrows(WebClientResponseException.class, () -> breakers.guard("reports", notFound).block());
+		assertThrows(WebClientResponseException.class, () -> breakers.guard("reports", failing).block());
+		assertFalse(breakers.isOpen("reports"));
+		assertThrows(WebClientResponseException.class, () -> breakers.guard("reports", failing).block());
+		assertTrue(breakers.isOpen("reports"));
+
+		// Open: fails fast without calling Zoom, other families are unaffected
+		ZoomCircuitBreakers.CircuitOpenException open = assertThrows(ZoomCircuitBreakers.CircuitOpenException.class,
+				() -> breakers.guard("reports", failing).block());
+		assertTrue(ZoomCircuitBreakers.isUpstreamFailure(open));
+		assertEquals(3, calls.get());
+		assertEquals("ok", breakers.guard("recordings", Mono.just("ok")).block());
+
+		// Open time over: a failed trial opens it again, a successful one closes it
+		ReflectionTestUtils.setField(breakers, "openMillis", 0L);
+		assertThrows(WebClientResponseException.class, () -> breakers.guard("reports", failing).block());
+		assertEquals(ZoomCircuitBreakers.State.OPEN, breakers.state("reports"));
+		assertEquals("ok", breakers.guard("reports", Mono.just("ok")).block());
+		assertEquals(ZoomCircuitBreakers.State.CLOSED, breakers.state("reports"));
+	}
+
+	@Test
+	void expiredAnalyticsAreServedAsStaleCopies() {
+		AnalyticsCache cache = new AnalyticsCache(Jackson2ObjectMapperBuilder.json().build());
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+		Map<String, Object> analytics = new HashMap<>();
+		analytics.put("success", true);
+		analytics.put("data_source", "zoom_api");
+		String key = AnalyticsCache.meetingKey("123", 5);
+		cache.put(key, analytics);
+
+		Map<String, Object> stale = cache.getStale(key, 60);
+		assertEquals(true, stale.get("stale"));
+		assertEquals(0L, stale.get("stale_age_seconds"));
+		assertFalse(analytics.containsKey("stale"));
+		assertNull(cache.getStale(AnalyticsCache.meetingKey("456", 5), 60));
+		assertEquals(1L, cache.getStats().get("stale_served"));
+	}
+}